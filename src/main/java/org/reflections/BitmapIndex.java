@@ -0,0 +1,196 @@
+package org.reflections;
+
+import org.reflections.util.Bitmap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * compressed bitmaps of the scanned types, for set algebra over large type sets without building sets of strings
+ * <p>each type is given a dense int id, which is its number in the depth first post order of the {@link HierarchyIndex},
+ * so that the transitive sub types of a type are the few ranges the hierarchy index labels it with,
+ * and are a {@link Bitmap} of a few runs. types which are not in the hierarchy, such as annotated types which were not
+ * scanned for sub types, are numbered after the hierarchy types.
+ * <p>a bitmap is kept for the types annotated with each annotation of the {@link org.reflections.scanners.TypeAnnotationsScanner}
+ * index, and for the types of each package. use {@link Bitmap#and(Bitmap)}, {@link Bitmap#or(Bitmap)} and {@link Bitmap#andNot(Bitmap)}
+ * to combine them, and {@link #names(Bitmap)} to get the type names of the result.
+ * <p>a bitmap index is immutable and is read without locking. see {@link Store#indexBitmaps()}
+ */
+public class BitmapIndex {
+    private final HierarchyIndex hierarchy;
+    private final int offset; //the id of the first type which is not in the hierarchy
+    private final List<String> names; //the types which are not in the hierarchy
+    private final Map<String, Integer> ids;
+    private final Map<String, Bitmap> annotated;
+    private final Map<String, Bitmap> packages;
+    private final Bitmap superTypes; //the types which have sub types
+    private final Bitmap annotations; //the types which annotate other types
+
+    private BitmapIndex(HierarchyIndex hierarchy, List<String> names, Map<String, Integer> ids,
+                        Map<String, Bitmap> annotated, Map<String, Bitmap> packages) {
+        this.hierarchy = hierarchy;
+        this.offset = hierarchy != null ? hierarchy.size() : 0;
+        this.names = names;
+        this.ids = ids;
+        this.annotated = annotated;
+        this.packages = packages;
+        this.superTypes = hierarchy != null ? Bitmap.of(IntStream.range(0, offset).filter(hierarchy::hasSubTypes).toArray()) : Bitmap.empty();
+        this.annotations = of(annotated.keySet());
+    }
+
+    /**
+     * builds the bitmap index of the given hierarchy index, or null if sub types were not scanned,
+     * and of the given multimap of annotated types by annotation, or null if type annotations were not scanned
+     */
+    public static BitmapIndex of(HierarchyIndex hierarchy, Map<String, Collection<String>> typeAnnotations) {
+        int offset = hierarchy != null ? hierarchy.size() : 0;
+        List<String> names = new ArrayList<>();
+        Map<String, Integer> ids = new HashMap<>();
+        Map<String, Bitmap> annotated = new HashMap<>();
+        if (typeAnnotations != null) {
+            for (Map.Entry<String, Collection<String>> entry : typeAnnotations.entrySet()) {
+                int[] values = new int[entry.getValue().size()];
+                int size = 0;
+                for (String type : entry.getValue()) {
+                    int id = hierarchy != null ? hierarchy.numberOf(type) : -1;
+                    values[size++] = id != -1 ? id : ids.computeIfAbsent(type, t -> {
+                        names.add(t);
+                        return offset + names.size() - 1;
+                    });
+                }
+                annotated.put(entry.getKey(), Bitmap.of(values));
+            }
+        }
+
+        Map<String, List<Integer>> packageIds = new HashMap<>();
+        for (int id = 0; id < offset + names.size(); id++) {
+            String type = id < offset ? hierarchy.typeOf(id) : names.get(id - offset);
+            packageIds.computeIfAbsent(packageName(type), p -> new ArrayList<>()).add(id);
+        }
+        Map<String, Bitmap> packages = new HashMap<>();
+        for (Map.Entry<String, List<Integer>> entry : packageIds.entrySet()) {
+            packages.put(entry.getKey(), Bitmap.of(entry.getValue().stream().mapToInt(Integer::intValue).toArray()));
+        }
+        return new BitmapIndex(hierarchy, names, ids, annotated, packages);
+    }
+
+    /** returns the id of the given type, or -1 if it is not known */
+    public int id(String type) {
+        int id = hierarchy != null ? hierarchy.numberOf(type) : -1;
+        if (id == -1) {
+            Integer extra = ids.get(type);
+            id = extra != null ? extra : -1;
+        }
+        return id;
+    }
+
+    /** returns the type of the given id */
+    public String name(int id) {
+        return id < offset ? hierarchy.typeOf(id) : names.get(id - offset);
+    }
+
+    /** returns the type names of the ids of the given bitmap, in ascending ids order */
+    public Set<String> names(Bitmap bitmap) {
+        Set<String> result = new LinkedHashSet<>();
+        bitmap.forEach(id -> result.add(name(id)));
+        return result;
+    }
+
+    /** returns the bitmap of the ids of the given types, ignoring types which are not known */
+    public Bitmap of(Collection<String> types) {
+        return Bitmap.of(types.stream().mapToInt(this::id).filter(id -> id != -1).toArray());
+    }
+
+    /** returns the bitmap of the given type and all of its transitive sub types */
+    public Bitmap getAllIncluding(String type) {
+        int[] ranges = hierarchy != null ? hierarchy.subTypeRanges(type) : new int[0];
+        if (ranges.length != 0) return Bitmap.ofRanges(ranges);
+        int id = id(type);
+        return id != -1 ? Bitmap.of(id) : Bitmap.empty();
+    }
+
+    /** returns the bitmap of the given types and all of their transitive sub types, ignoring types which are not known */
+    public Bitmap getAllIncluding(Collection<String> types) {
+        return getAllIncluding(of(types));
+    }
+
+    /** returns the bitmap of the given types and all of their transitive sub types */
+    public Bitmap getAllIncluding(Bitmap types) {
+        Bitmap parents = types.and(superTypes);
+        if (parents.isEmpty()) return types;
+        Bitmap.Builder builder = new Bitmap.Builder().addAll(types);
+        parents.forEach(id -> {
+            int[] ranges = hierarchy.subTypeRanges(id);
+            for (int r = 0; r < ranges.length; r += 2) {
+                builder.addRange(ranges[r], ranges[r + 1]);
+            }
+        });
+        return builder.build();
+    }
+
+    /**
+     * returns the bitmap of the given types, of the types annotated with any of them which is an annotation, recursively,
+     * and of all of their transitive sub types, as {@link Reflections#getTypeNamesAnnotatedWith(String)}
+     */
+    public Bitmap getAllAnnotated(Bitmap types) {
+        Bitmap visited = Bitmap.empty();
+        for (Bitmap metaAnnotations = types.and(annotations); !metaAnnotations.isEmpty(); metaAnnotations = types.and(annotations).andNot(visited)) {
+            visited = visited.or(metaAnnotations);
+            Bitmap.Builder builder = new Bitmap.Builder().addAll(types);
+            metaAnnotations.forEach(id -> builder.addAll(getAnnotatedWith(name(id))));
+            types = builder.build();
+        }
+        return getAllIncluding(types);
+    }
+
+    /** returns the bitmap of the types annotated with the given annotation, directly or by meta annotations, and of their sub types */
+    public Bitmap getAllAnnotatedWith(String annotation) {
+        return getAllAnnotated(getAnnotatedWith(annotation));
+    }
+
+    /** returns the bitmap of the types directly annotated with the given annotation, as scanned */
+    public Bitmap getAnnotatedWith(String annotation) {
+        return annotated.getOrDefault(annotation, Bitmap.empty());
+    }
+
+    /** returns the bitmap of the types of the given package, not including sub packages */
+    public Bitmap getInPackage(String packageName) {
+        return packages.getOrDefault(packageName, Bitmap.empty());
+    }
+
+    /** returns the names of all packages of the known types */
+    public Set<String> getPackages() {
+        return Collections.unmodifiableSet(packages.keySet());
+    }
+
+    /** number of types in this index */
+    public int size() {
+        return offset + names.size();
+    }
+
+    /** approximate bytes retained by the bitmaps of this index, not including the hierarchy index and the type names */
+    public long getMemoryBytes() {
+        long bytes = superTypes.getMemoryBytes() + annotations.getMemoryBytes();
+        for (Bitmap bitmap : annotated.values()) bytes += bitmap.getMemoryBytes();
+        for (Bitmap bitmap : packages.values()) bytes += bitmap.getMemoryBytes();
+        return bytes;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d types, %d annotations, %d packages, %d bytes",
+                getClass().getSimpleName(), size(), annotated.size(), packages.size(), getMemoryBytes());
+    }
+
+    private static String packageName(String type) {
+        int dot = type.lastIndexOf('.');
+        return dot != -1 ? type.substring(0, dot) : "";
+    }
+}
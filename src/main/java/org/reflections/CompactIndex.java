@@ -0,0 +1,255 @@
+package org.reflections;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * a multimap index of a compact {@link Store}, keeping keys and values as ids of a shared {@link SymbolTable},
+ * and the values of each key in a primitive int array
+ * <p>it is a read only {@link Map} view of decoded strings, so that the string based store queries and serializers
+ * work on top of it. use {@link #add(String, String)} to add values, and {@link #remove(String, String)} to remove them.
+ */
+class CompactIndex extends AbstractMap<String, Collection<String>> {
+    private final SymbolTable symbols;
+
+    private int[] table = new int[16]; //open addressing hash table of key slot + 1, 0 for empty slots
+    private int[] keys = new int[8];
+    private int[][] values = new int[8][];
+    private int[] sizes = new int[8];
+    private int size;
+
+    CompactIndex(SymbolTable symbols) {
+        this.symbols = symbols;
+    }
+
+    /** adds the given value to the given key, allowing duplicate values */
+    boolean add(String key, String value) {
+        int keyId = symbols.id(key);
+        int valueId = symbols.id(value);
+        synchronized (this) {
+            int slot = slot(keyId);
+            if (slot == -1) {
+                slot = addKey(keyId);
+            }
+            int[] keyValues = values[slot];
+            int count = sizes[slot];
+            if (count == keyValues.length) {
+                values[slot] = keyValues = Arrays.copyOf(keyValues, count * 2);
+            }
+            keyValues[count] = valueId;
+            sizes[slot] = count + 1;
+        }
+        return true;
+    }
+
+    /** removes one occurrence of the given value from the given key, and the key if it has no values left */
+    boolean remove(String key, String value) {
+        int keyId = symbols.find(key);
+        int valueId = symbols.find(value);
+        if (keyId == -1 || valueId == -1) return false;
+        synchronized (this) {
+            int slot = slot(keyId);
+            if (slot == -1) return false;
+            int[] keyValues = values[slot];
+            int count = sizes[slot];
+            for (int i = 0; i < count; i++) {
+                if (keyValues[i] == valueId) {
+                    System.arraycopy(keyValues, i + 1, keyValues, i, count - i - 1);
+                    sizes[slot] = count - 1;
+                    if (count == 1) {
+                        removeKey(slot);
+                    }
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Collection<String> get(Object key) {
+        if (!(key instanceof String)) return null;
+        int[] ids = valueIds((String) key);
+        return ids != null ? new DecodedList(ids) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && valueIds((String) key) != null;
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public Set<Entry<String, Collection<String>>> entrySet() {
+        return new AbstractSet<Entry<String, Collection<String>>>() {
+            public Iterator<Entry<String, Collection<String>>> iterator() {
+                return new Iterator<Entry<String, Collection<String>>>() {
+                    private final int end = size();
+                    private int slot;
+
+                    public boolean hasNext() {
+                        return slot < end;
+                    }
+
+                    public Entry<String, Collection<String>> next() {
+                        if (!hasNext()) throw new NoSuchElementException();
+                        int keyId;
+                        int[] ids;
+                        synchronized (CompactIndex.this) {
+                            keyId = keys[slot];
+                            ids = Arrays.copyOf(values[slot], sizes[slot]);
+                        }
+                        slot++;
+                        return new SimpleImmutableEntry<>(symbols.string(keyId), new DecodedList(ids));
+                    }
+                };
+            }
+
+            public int size() {
+                return CompactIndex.this.size();
+            }
+        };
+    }
+
+    /** freezes this index over the given frozen copy of its symbol table, see {@link SymbolTable#freeze()} */
+    synchronized FrozenIndex freeze(SymbolTable frozenSymbols) {
+        long[] sorted = new long[size]; //key id and slot, sorted by key id
+        for (int slot = 0; slot < size; slot++) {
+            sorted[slot] = (long) keys[slot] << 32 | slot;
+        }
+        Arrays.sort(sorted);
+        int[] frozenKeys = new int[size];
+        int[] offsets = new int[size + 1];
+        for (int i = 0; i < size; i++) {
+            int slot = (int) sorted[i];
+            frozenKeys[i] = keys[slot];
+            offsets[i + 1] = offsets[i] + sizes[slot];
+        }
+        int[] frozenValues = new int[offsets[size]];
+        for (int i = 0; i < size; i++) {
+            int slot = (int) sorted[i];
+            System.arraycopy(values[slot], 0, frozenValues, offsets[i], sizes[slot]);
+        }
+        return new FrozenIndex.Ids(frozenSymbols, frozenKeys, offsets, frozenValues);
+    }
+
+    /** returns a copy of the value ids of the given key, or null if there is no such key */
+    private int[] valueIds(String key) {
+        int keyId = symbols.find(key);
+        if (keyId == -1) return null;
+        synchronized (this) {
+            int slot = slot(keyId);
+            return slot != -1 ? Arrays.copyOf(values[slot], sizes[slot]) : null;
+        }
+    }
+
+    private int slot(int keyId) {
+        int mask = table.length - 1;
+        for (int i = hash(keyId) & mask, entry; (entry = table[i]) != 0; i = (i + 1) & mask) {
+            if (keys[entry - 1] == keyId) {
+                return entry - 1;
+            }
+        }
+        return -1;
+    }
+
+    private int addKey(int keyId) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            values = Arrays.copyOf(values, size * 2);
+            sizes = Arrays.copyOf(sizes, size * 2);
+        }
+        int slot = size++;
+        keys[slot] = keyId;
+        values[slot] = new int[1];
+        if (size * 2 > table.length) {
+            table = new int[table.length * 2];
+            for (int i = 0; i < size; i++) {
+                insert(i);
+            }
+        } else {
+            insert(slot);
+        }
+        return slot;
+    }
+
+    /** removes the key of the given slot from the hash table, and moves the last key into the given slot */
+    private void removeKey(int slot) {
+        delete(indexOf(slot));
+        int last = --size;
+        if (slot != last) {
+            table[indexOf(last)] = slot + 1;
+            keys[slot] = keys[last];
+            values[slot] = values[last];
+            sizes[slot] = sizes[last];
+        }
+        values[last] = null;
+        sizes[last] = 0;
+    }
+
+    /** returns the position in the hash table of the given slot */
+    private int indexOf(int slot) {
+        int mask = table.length - 1;
+        int i = hash(keys[slot]) & mask;
+        while (table[i] != slot + 1) {
+            i = (i + 1) & mask;
+        }
+        return i;
+    }
+
+    /** empties the given position of the hash table, shifting back the entries probed past it */
+    private void delete(int i) {
+        int mask = table.length - 1;
+        table[i] = 0;
+        for (int j = (i + 1) & mask, entry; (entry = table[j]) != 0; j = (j + 1) & mask) {
+            int home = hash(keys[entry - 1]) & mask;
+            boolean probedPast = i <= j ? home <= i || home > j : home <= i && home > j;
+            if (probedPast) {
+                table[i] = entry;
+                table[j] = 0;
+                i = j;
+            }
+        }
+    }
+
+    private void insert(int slot) {
+        int mask = table.length - 1;
+        int i = hash(keys[slot]) & mask;
+        while (table[i] != 0) {
+            i = (i + 1) & mask;
+        }
+        table[i] = slot + 1;
+    }
+
+    private static int hash(int id) {
+        return id * 0x9E3779B9 >>> 1;
+    }
+
+    /** a list of the decoded strings of the given ids */
+    private class DecodedList extends AbstractList<String> {
+        private final int[] ids;
+
+        DecodedList(int[] ids) {
+            this.ids = ids;
+        }
+
+        public String get(int index) {
+            return symbols.string(ids[index]);
+        }
+
+        public int size() {
+            return ids.length;
+        }
+    }
+}
@@ -39,4 +39,58 @@ public interface Configuration {
     /** if true (default), expand super types after scanning, for super types that were not scanned.
      * <p>see {@link org.reflections.Reflections#expandSuperTypes()}*/
     boolean shouldExpandSuperTypes();
+
+    /** if true, class files are pre-filtered by the type names referenced from their constant pool, and skipped without being parsed
+     * if no scanner may produce results for them. false by default.
+     * <p>this is not done when using the {@link org.reflections.adapters.BytecodeAdapter}, which is already lazy enough to make it redundant.
+     * <p>see {@link org.reflections.scanners.Scanner#getReferencedTypesFilter()}*/
+    default boolean shouldPrefilterInputs() {
+        return false;
+    }
+
+    /** if true, the store keeps keys and values dictionary encoded as int ids, trading query time for much less memory. false by default.
+     * <p>see {@link org.reflections.Store}*/
+    default boolean shouldCompactStore() {
+        return false;
+    }
+
+    /** if true, the store is frozen into immutable arrays once scanned, so that queries take no locks. false by default.
+     * <p>see {@link org.reflections.Store#freeze()}*/
+    default boolean shouldFreezeStore() {
+        return false;
+    }
+
+    /** if true, the transitive closure of the scanned type hierarchy is precomputed once scanned, answering sub types queries
+     * without traversing the store. false by default.
+     * <p>see {@link org.reflections.Store#indexHierarchy()}*/
+    default boolean shouldIndexHierarchy() {
+        return false;
+    }
+
+    /** if true, the scanned types are numbered into compressed bitmaps of sub types, annotated types and packages once scanned,
+     * for union, intersection and difference of large type sets. false by default.
+     * <p>see {@link org.reflections.Store#indexBitmaps()}*/
+    default boolean shouldIndexBitmaps() {
+        return false;
+    }
+
+    /** if true, the meta annotations of the scanned annotations are indexed into a graph once scanned,
+     * so that types meta annotated with an annotation are found by a single lookup. false by default.
+     * <p>see {@link org.reflections.Store#indexMetaAnnotations()}*/
+    default boolean shouldIndexMetaAnnotations() {
+        return false;
+    }
+
+    /** if true, the store tracks the entries put while scanning each source file, so that they are removed by source file or url,
+     * and class directories are rescanned incrementally. false by default.
+     * <p>see {@link org.reflections.Store#removeSource(URL, String)} and {@link org.reflections.Reflections#refresh()}*/
+    default boolean shouldTrackSources() {
+        return false;
+    }
+
+    /** the on disk cache of jar scan results, or null if jars are always scanned. null by default.
+     * <p>see {@link org.reflections.ScanCache}*/
+    default ScanCache getScanCache() {
+        return null;
+    }
 }
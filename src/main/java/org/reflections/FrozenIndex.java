@@ -0,0 +1,183 @@
+package org.reflections;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * an immutable multimap index of a frozen {@link Store}, in a compressed sparse row layout:
+ * the sorted keys, the values of all keys in a single array, and the offsets of each key's values in that array
+ * <p>queries take no locks, and an index is a handful of arrays, regardless of its number of keys.
+ * see {@link Store#freeze()}
+ */
+abstract class FrozenIndex extends AbstractMap<String, Collection<String>> {
+    final int[] offsets;
+
+    FrozenIndex(int[] offsets) {
+        this.offsets = offsets;
+    }
+
+    /** returns the position of the given key, or a negative number if there is no such key */
+    abstract int indexOf(String key);
+
+    /** returns the key at the given position */
+    abstract String key(int index);
+
+    /** returns the value at the given position of the values array */
+    abstract String value(int position);
+
+    /** freezes the given multimap, replacing equal keys and values strings by their first occurrence in the given canonical strings */
+    static FrozenIndex of(Map<String, Collection<String>> index, Map<String, String> canonical) {
+        String[] keys = index.keySet().toArray(new String[0]);
+        Arrays.sort(keys);
+        int[] offsets = new int[keys.length + 1];
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < keys.length; i++) {
+            for (String value : index.get(keys[i])) {
+                values.add(canonical.computeIfAbsent(value, v -> v));
+            }
+            offsets[i + 1] = values.size();
+            keys[i] = canonical.computeIfAbsent(keys[i], k -> k);
+        }
+        return new Strings(keys, offsets, values.toArray(new String[0]));
+    }
+
+    @Override
+    public Collection<String> get(Object key) {
+        int index = key instanceof String ? indexOf((String) key) : -1;
+        return index >= 0 ? new Values(index) : null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return key instanceof String && indexOf((String) key) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    @Override
+    public Set<Entry<String, Collection<String>>> entrySet() {
+        return new AbstractSet<Entry<String, Collection<String>>>() {
+            public Iterator<Entry<String, Collection<String>>> iterator() {
+                return new Iterator<Entry<String, Collection<String>>>() {
+                    private int index;
+
+                    public boolean hasNext() {
+                        return index < FrozenIndex.this.size();
+                    }
+
+                    public Entry<String, Collection<String>> next() {
+                        if (!hasNext()) throw new NoSuchElementException();
+                        int i = index++;
+                        return new SimpleImmutableEntry<>(key(i), new Values(i));
+                    }
+                };
+            }
+
+            public int size() {
+                return FrozenIndex.this.size();
+            }
+        };
+    }
+
+    /** the values of the key at the given position */
+    private class Values extends AbstractList<String> {
+        private final int index;
+
+        Values(int index) {
+            this.index = index;
+        }
+
+        public String get(int i) {
+            if (i < 0 || i >= size()) throw new IndexOutOfBoundsException("index " + i + ", size " + size());
+            return value(offsets[index] + i);
+        }
+
+        public int size() {
+            return offsets[index + 1] - offsets[index];
+        }
+    }
+
+    /** a frozen index of string keys and values, with a hash table of the keys positions */
+    static class Strings extends FrozenIndex {
+        private final String[] keys;
+        private final String[] values;
+        private final int[] table; //open addressing hash table of key position + 1, 0 for empty slots
+
+        Strings(String[] keys, int[] offsets, String[] values) {
+            super(offsets);
+            this.keys = keys;
+            this.values = values;
+            table = new int[Integer.highestOneBit(keys.length * 2 + 1) * 2];
+            int mask = table.length - 1;
+            for (int i = 0; i < keys.length; i++) {
+                int slot = hash(keys[i]) & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = i + 1;
+            }
+        }
+
+        int indexOf(String key) {
+            int mask = table.length - 1;
+            for (int slot = hash(key) & mask, entry; (entry = table[slot]) != 0; slot = (slot + 1) & mask) {
+                if (keys[entry - 1].equals(key)) {
+                    return entry - 1;
+                }
+            }
+            return -1;
+        }
+
+        String key(int index) {
+            return keys[index];
+        }
+
+        String value(int position) {
+            return values[position];
+        }
+
+        private static int hash(String key) {
+            int hash = key.hashCode();
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    /** a frozen index of keys and values ids of a frozen {@link SymbolTable}, keys sorted by id */
+    static class Ids extends FrozenIndex {
+        private final SymbolTable symbols;
+        private final int[] keys;
+        private final int[] values;
+
+        Ids(SymbolTable symbols, int[] keys, int[] offsets, int[] values) {
+            super(offsets);
+            this.symbols = symbols;
+            this.keys = keys;
+            this.values = values;
+        }
+
+        int indexOf(String key) {
+            int id = symbols.find(key);
+            return id != -1 ? Arrays.binarySearch(keys, id) : -1;
+        }
+
+        String key(int index) {
+            return symbols.string(keys[index]);
+        }
+
+        String value(int position) {
+            return symbols.string(values[position]);
+        }
+    }
+}
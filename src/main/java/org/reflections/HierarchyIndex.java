@@ -0,0 +1,402 @@
+package org.reflections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * the precomputed transitive closure of a type hierarchy, answering transitive sub types and super types queries
+ * without traversing the store
+ * <p>types are numbered in a depth first post order of the hierarchy, so that the sub types of a type in the depth first
+ * spanning tree are a range of numbers. each type is labeled with the merged ranges of all of its transitive sub types,
+ * which for a mostly single inheritance hierarchy is one or a few ranges. the same is done for super types over the reversed hierarchy.
+ * <p>checking if a type is a sub type of another is then a binary search of the ranges of the super type,
+ * including interfaces and any other multiple inheritance. see {@link #isSubType(String, String)}
+ * <p>a hierarchy index is immutable and is read without locking. see {@link Store#indexHierarchy()}
+ */
+public class HierarchyIndex {
+    private final String[] names;
+    private final int[] table; //open addressing hash table of type id + 1, 0 for empty slots
+    private final Closure subTypes;
+    private final Closure superTypes;
+
+    private HierarchyIndex(String[] names, int[] table, Closure subTypes, Closure superTypes) {
+        this.names = names;
+        this.table = table;
+        this.subTypes = subTypes;
+        this.superTypes = superTypes;
+    }
+
+    /**
+     * builds the hierarchy index of the given multimap of direct sub types by super type,
+     * such as the {@link org.reflections.scanners.SubTypesScanner} index. returns null if the hierarchy has cycles
+     */
+    public static HierarchyIndex of(Map<String, Collection<String>> index) {
+        Map<String, Integer> ids = new HashMap<>();
+        List<String> names = new ArrayList<>();
+        int[] from = new int[16], to = new int[16];
+        int edges = 0;
+        for (Map.Entry<String, Collection<String>> entry : index.entrySet()) {
+            int superType = id(entry.getKey(), ids, names);
+            for (String value : entry.getValue()) {
+                int subType = id(value, ids, names);
+                if (subType == superType) continue;
+                if (edges == from.length) {
+                    from = Arrays.copyOf(from, edges * 2);
+                    to = Arrays.copyOf(to, edges * 2);
+                }
+                from[edges] = superType;
+                to[edges++] = subType;
+            }
+        }
+
+        int size = names.size();
+        Closure subTypes = Closure.of(size, from, to, edges);
+        Closure superTypes = subTypes != null ? Closure.of(size, to, from, edges) : null;
+        if (superTypes == null) return null;
+
+        int[] table = new int[Integer.highestOneBit(size * 2 + 1) * 2];
+        for (int id = 0; id < size; id++) {
+            int slot = hash(names.get(id)) & (table.length - 1);
+            while (table[slot] != 0) {
+                slot = (slot + 1) & (table.length - 1);
+            }
+            table[slot] = id + 1;
+        }
+        return new HierarchyIndex(names.toArray(new String[0]), table, subTypes, superTypes);
+    }
+
+    private static int id(String name, Map<String, Integer> ids, List<String> names) {
+        return ids.computeIfAbsent(name, n -> {
+            names.add(n);
+            return names.size() - 1;
+        });
+    }
+
+    /** returns the given types and all of their transitive sub types */
+    public Set<String> getAllIncluding(Collection<String> types) {
+        Set<String> result = new HashSet<>();
+        for (String type : types) {
+            int id = id(type);
+            if (id != -1) {
+                subTypes.addAll(id, names, result);
+            } else {
+                result.add(type);
+            }
+        }
+        return result;
+    }
+
+    /** returns the transitive sub types of the given type, not including it */
+    public Set<String> getAllSubTypes(String type) {
+        return getAll(subTypes, type);
+    }
+
+    /** returns the number of transitive sub types of the given type, not including it, without collecting them */
+    public int countSubTypes(String type) {
+        int id = id(type);
+        return id != -1 ? subTypes.count(id) - 1 : 0;
+    }
+
+    /** returns the transitive super types of the given type, not including it */
+    public Set<String> getAllSuperTypes(String type) {
+        return getAll(superTypes, type);
+    }
+
+    private Set<String> getAll(Closure closure, String type) {
+        Set<String> result = new HashSet<>();
+        int id = id(type);
+        if (id != -1) {
+            closure.addAll(id, names, result);
+            result.remove(type);
+        }
+        return result;
+    }
+
+    /** returns true if the given type is the given super type or one of its transitive sub types, in logarithmic time of its number of ranges */
+    public boolean isSubType(String type, String superType) {
+        if (type.equals(superType)) return true;
+        int id = id(type), superId = id(superType);
+        return id != -1 && superId != -1 && subTypes.reaches(superId, id);
+    }
+
+    /** returns the direct super types of the given type, its super class and interfaces as scanned */
+    public Set<String> getDirectSuperTypes(String type) {
+        Set<String> result = new HashSet<>();
+        int id = id(type);
+        if (id != -1) {
+            superTypes.addTargets(id, names, result);
+        }
+        return result;
+    }
+
+    /** returns the types which all the given types are sub types of, including any of the given types which the others are sub types of */
+    public Set<String> getCommonSuperTypes(Collection<String> types) {
+        if (types.isEmpty()) return new HashSet<>();
+        int[] ids = new int[types.size()];
+        int i = 0;
+        for (String type : types) {
+            if ((ids[i++] = id(type)) == -1) {
+                //an unknown type is only a sub type of itself
+                Set<String> result = new HashSet<>(types);
+                return result.size() == 1 ? result : new HashSet<>();
+            }
+        }
+        Set<String> result = new HashSet<>();
+        candidates:
+        for (int candidate : superTypes.reachable(ids[0])) {
+            for (int j = 1; j < ids.length; j++) {
+                if (!subTypes.reaches(candidate, ids[j])) continue candidates;
+            }
+            result.add(names[candidate]);
+        }
+        return result;
+    }
+
+    /** returns the number of the given type in the depth first post order of the sub types hierarchy, or -1 if it is not known */
+    int numberOf(String type) {
+        int id = id(type);
+        return id != -1 ? subTypes.post[id] : -1;
+    }
+
+    /** returns the type of the given number in the depth first post order of the sub types hierarchy */
+    String typeOf(int number) {
+        return names[subTypes.order[number]];
+    }
+
+    /**
+     * returns the ranges of post order numbers of the given type and all of its transitive sub types, as pairs of first and last numbers,
+     * or an empty array if the type is not known
+     */
+    int[] subTypeRanges(String type) {
+        int id = id(type);
+        return id != -1 ? subTypes.ranges(id) : new int[0];
+    }
+
+    /** returns the ranges of post order numbers of the type of the given number and all of its transitive sub types */
+    int[] subTypeRanges(int number) {
+        return subTypes.ranges(subTypes.order[number]);
+    }
+
+    /** returns true if the type of the given number has sub types */
+    boolean hasSubTypes(int number) {
+        int id = subTypes.order[number];
+        return subTypes.targetOffsets[id + 1] != subTypes.targetOffsets[id];
+    }
+
+    /** returns true if the given type is known to this index */
+    public boolean contains(String type) {
+        return id(type) != -1;
+    }
+
+    /** number of types in this index */
+    public int size() {
+        return names.length;
+    }
+
+    /** number of ranges labeling the types of this index, in both directions */
+    public int getRanges() {
+        return subTypes.ranges() + superTypes.ranges();
+    }
+
+    /** approximate bytes retained by this index, not including the type names which are shared with the store */
+    public long getMemoryBytes() {
+        return 4L * (names.length + table.length) + subTypes.memoryBytes() + superTypes.memoryBytes();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d types, %d ranges, %d bytes", getClass().getSimpleName(), size(), getRanges(), getMemoryBytes());
+    }
+
+    private int id(String name) {
+        int mask = table.length - 1;
+        for (int slot = hash(name) & mask, entry; (entry = table[slot]) != 0; slot = (slot + 1) & mask) {
+            if (names[entry - 1].equals(name)) {
+                return entry - 1;
+            }
+        }
+        return -1;
+    }
+
+    private static int hash(String name) {
+        int hash = name.hashCode();
+        return hash ^ (hash >>> 16);
+    }
+
+    /** the reachable types of each type of a directed acyclic graph, as ranges of post order numbers */
+    private static class Closure {
+        private final int[] targetOffsets; //direct targets offsets by type id
+        private final int[] targets; //direct targets type ids
+        private final int[] order; //type id by post order number
+        private final int[] post; //post order number by type id
+        private final int[] offsets; //ranges offsets by post order number
+        private final int[] ranges; //first and last post order numbers of each range
+
+        private Closure(int[] targetOffsets, int[] targets, int[] order, int[] post, int[] offsets, int[] ranges) {
+            this.targetOffsets = targetOffsets;
+            this.targets = targets;
+            this.order = order;
+            this.post = post;
+            this.offsets = offsets;
+            this.ranges = ranges;
+        }
+
+        /** builds the closure of the given edges, returns null if there is a cycle */
+        static Closure of(int size, int[] from, int[] to, int edges) {
+            int[] targetOffsets = new int[size + 1];
+            int[] inDegrees = new int[size];
+            for (int i = 0; i < edges; i++) {
+                targetOffsets[from[i] + 1]++;
+                inDegrees[to[i]]++;
+            }
+            for (int i = 0; i < size; i++) {
+                targetOffsets[i + 1] += targetOffsets[i];
+            }
+            int[] targets = new int[edges];
+            int[] cursors = Arrays.copyOf(targetOffsets, size);
+            for (int i = 0; i < edges; i++) {
+                targets[cursors[from[i]]++] = to[i];
+            }
+
+            int[] order = new int[size];
+            int[] post = new int[size];
+            int[] low = new int[size];
+            byte[] states = new byte[size]; //0 unvisited, 1 on the stack, 2 done
+            int[] offsets = new int[size + 1];
+            int[] ranges = new int[size * 2];
+            int[] stack = new int[size];
+            long[] merged = new long[16];
+            int counter = 0;
+
+            //visit roots first, so that the spanning trees follow the hierarchy
+            for (int pass = 0; pass < 2; pass++) {
+                for (int root = 0; root < size; root++) {
+                    if (states[root] != 0 || (pass == 0 && inDegrees[root] != 0)) continue;
+                    int top = 0;
+                    stack[0] = root;
+                    states[root] = 1;
+                    low[root] = counter;
+                    cursors[root] = targetOffsets[root];
+                    while (top >= 0) {
+                        int v = stack[top];
+                        if (cursors[v] < targetOffsets[v + 1]) {
+                            int w = targets[cursors[v]++];
+                            if (states[w] == 1) return null;
+                            if (states[w] == 0) {
+                                stack[++top] = w;
+                                states[w] = 1;
+                                low[w] = counter;
+                                cursors[w] = targetOffsets[w];
+                            }
+                            continue;
+                        }
+                        top--;
+                        states[v] = 2;
+                        post[v] = counter;
+                        order[counter] = v;
+
+                        //merge the subtree range with the ranges of all targets
+                        int count = 0;
+                        merged[count++] = (long) low[v] << 32 | counter;
+                        for (int i = targetOffsets[v]; i < targetOffsets[v + 1]; i++) {
+                            int w = post[targets[i]];
+                            if (count + offsets[w + 1] - offsets[w] > merged.length) {
+                                merged = Arrays.copyOf(merged, Math.max(merged.length * 2, count + offsets[w + 1] - offsets[w]));
+                            }
+                            for (int r = offsets[w]; r < offsets[w + 1]; r += 2) {
+                                if (ranges[r] < low[v] || ranges[r + 1] > counter) {
+                                    merged[count++] = (long) ranges[r] << 32 | ranges[r + 1];
+                                }
+                            }
+                        }
+                        Arrays.sort(merged, 0, count);
+                        int offset = offsets[counter];
+                        for (int i = 0; i < count; i++) {
+                            int first = (int) (merged[i] >>> 32), last = (int) merged[i];
+                            if (offset > offsets[counter] && first <= ranges[offset - 1] + 1) {
+                                ranges[offset - 1] = Math.max(ranges[offset - 1], last);
+                            } else {
+                                if (offset + 2 > ranges.length) {
+                                    ranges = Arrays.copyOf(ranges, ranges.length + (ranges.length >> 1) + 2);
+                                }
+                                ranges[offset++] = first;
+                                ranges[offset++] = last;
+                            }
+                        }
+                        offsets[++counter] = offset;
+                    }
+                }
+            }
+            return new Closure(targetOffsets, targets, order, post, offsets, Arrays.copyOf(ranges, offsets[size]));
+        }
+
+        void addAll(int id, String[] names, Set<String> result) {
+            int p = post[id];
+            for (int r = offsets[p]; r < offsets[p + 1]; r += 2) {
+                for (int i = ranges[r]; i <= ranges[r + 1]; i++) {
+                    result.add(names[order[i]]);
+                }
+            }
+        }
+
+        /** returns true if the given target type is reachable from the given type, or is the same type, using a binary search of its ranges */
+        boolean reaches(int id, int target) {
+            int p = post[id], number = post[target];
+            int low = offsets[p] / 2, high = offsets[p + 1] / 2 - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (ranges[2 * mid + 1] < number) low = mid + 1;
+                else if (ranges[2 * mid] > number) high = mid - 1;
+                else return true;
+            }
+            return false;
+        }
+
+        int[] ranges(int id) {
+            int p = post[id];
+            return Arrays.copyOfRange(ranges, offsets[p], offsets[p + 1]);
+        }
+
+        /** returns the number of reachable types of the given type, including it */
+        int count(int id) {
+            int p = post[id], count = 0;
+            for (int r = offsets[p]; r < offsets[p + 1]; r += 2) {
+                count += ranges[r + 1] - ranges[r] + 1;
+            }
+            return count;
+        }
+
+        /** returns the reachable type ids of the given type, including it */
+        int[] reachable(int id) {
+            int p = post[id];
+            int[] result = new int[count(id)];
+            int count = 0;
+            for (int r = offsets[p]; r < offsets[p + 1]; r += 2) {
+                for (int i = ranges[r]; i <= ranges[r + 1]; i++) {
+                    result[count++] = order[i];
+                }
+            }
+            return result;
+        }
+
+        void addTargets(int id, String[] names, Set<String> result) {
+            for (int i = targetOffsets[id]; i < targetOffsets[id + 1]; i++) {
+                result.add(names[targets[i]]);
+            }
+        }
+
+        int ranges() {
+            return offsets[offsets.length - 1] / 2;
+        }
+
+        long memoryBytes() {
+            return 4L * (targetOffsets.length + targets.length + order.length + post.length + offsets.length + ranges.length);
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package org.reflections;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * the precomputed graph of meta annotations, answering which types are annotated with an annotation either directly
+ * or through meta annotations, such as a stereotype annotation {@code @Service} meta annotated with {@code @Component},
+ * without traversing the store
+ * <p>the nodes of the graph are the annotations keyed in the {@link org.reflections.scanners.TypeAnnotationsScanner} index,
+ * and each annotation has an edge to the annotations it annotates. the annotations reachable from each annotation
+ * are kept in breadth first order, along with where each depth ends, so that the types annotated with an annotation up to
+ * a given depth are the types directly annotated with a prefix of these annotations. see {@link #getAnnotatedWith(String, int)}
+ * <p>a meta annotation graph is immutable and is read without locking. see {@link Store#indexMetaAnnotations()}
+ */
+public class MetaAnnotationGraph {
+    private final String[] names;
+    private final Map<String, Integer> ids;
+    private final String[][] annotated; //the types directly annotated with each annotation
+    private final int[][] metaAnnotated; //the annotations directly annotated with each annotation
+    private final int[][] metaAnnotations; //the annotations directly annotating each annotation
+    private final int[][] reachable; //the annotations reachable from each annotation, in breadth first order, starting with itself
+    private final int[][] depthEnds; //the end index in reachable of each depth, starting with depth 0
+
+    private MetaAnnotationGraph(String[] names, Map<String, Integer> ids, String[][] annotated,
+                                int[][] metaAnnotated, int[][] metaAnnotations, int[][] reachable, int[][] depthEnds) {
+        this.names = names;
+        this.ids = ids;
+        this.annotated = annotated;
+        this.metaAnnotated = metaAnnotated;
+        this.metaAnnotations = metaAnnotations;
+        this.reachable = reachable;
+        this.depthEnds = depthEnds;
+    }
+
+    /**
+     * builds the meta annotation graph of the given multimap of annotated types by annotation,
+     * such as the {@link org.reflections.scanners.TypeAnnotationsScanner} index
+     */
+    public static MetaAnnotationGraph of(Map<String, Collection<String>> typeAnnotations) {
+        String[] names = typeAnnotations.keySet().toArray(new String[0]);
+        Map<String, Integer> ids = new HashMap<>();
+        for (int id = 0; id < names.length; id++) {
+            ids.put(names[id], id);
+        }
+
+        String[][] annotated = new String[names.length][];
+        List<List<Integer>> children = new ArrayList<>();
+        List<List<Integer>> parents = new ArrayList<>();
+        for (int id = 0; id < names.length; id++) {
+            children.add(new ArrayList<>());
+            parents.add(new ArrayList<>());
+        }
+        for (int id = 0; id < names.length; id++) {
+            annotated[id] = new LinkedHashSet<>(typeAnnotations.get(names[id])).toArray(new String[0]);
+            for (String type : annotated[id]) {
+                Integer child = ids.get(type);
+                if (child != null) {
+                    children.get(id).add(child);
+                    parents.get(child).add(id);
+                }
+            }
+        }
+        int[][] metaAnnotated = toArrays(children);
+        int[][] metaAnnotations = toArrays(parents);
+
+        int[][] reachable = new int[names.length][];
+        int[][] depthEnds = new int[names.length][];
+        int[] depthOf = new int[names.length];
+        for (int id = 0; id < names.length; id++) {
+            Arrays.fill(depthOf, -1);
+            int[] queue = new int[]{id};
+            int size = 1;
+            depthOf[id] = 0;
+            List<Integer> ends = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                int current = queue[i];
+                if (ends.size() == depthOf[current]) ends.add(i);
+                for (int child : metaAnnotated[current]) {
+                    if (depthOf[child] == -1) {
+                        depthOf[child] = depthOf[current] + 1;
+                        if (size == queue.length) queue = Arrays.copyOf(queue, size * 2);
+                        queue[size++] = child;
+                    }
+                }
+            }
+            ends.add(size);
+            reachable[id] = Arrays.copyOf(queue, size);
+            depthEnds[id] = ends.subList(1, ends.size()).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return new MetaAnnotationGraph(names, ids, annotated, metaAnnotated, metaAnnotations, reachable, depthEnds);
+    }
+
+    private static int[][] toArrays(List<List<Integer>> lists) {
+        int[][] arrays = new int[lists.size()][];
+        for (int i = 0; i < arrays.length; i++) {
+            arrays[i] = lists.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+        return arrays;
+    }
+
+    /**
+     * returns the types annotated with the given annotation up to the given depth, where depth 1 is the types directly annotated
+     * with it, depth 2 adds the types annotated with an annotation which is directly annotated with it, and so on.
+     * annotation types are included, sub types are not.
+     */
+    public Set<String> getAnnotatedWith(String annotation, int maxDepth) {
+        Integer id = ids.get(annotation);
+        Set<String> result = new LinkedHashSet<>();
+        if (id != null && maxDepth > 0) {
+            int end = depthEnds[id][Math.min(maxDepth, depthEnds[id].length) - 1];
+            for (int i = 0; i < end; i++) {
+                Collections.addAll(result, annotated[reachable[id][i]]);
+            }
+        }
+        return result;
+    }
+
+    /** returns the types annotated with the given annotation directly or through meta annotations at any depth */
+    public Set<String> getAllAnnotatedWith(String annotation) {
+        return getAnnotatedWith(annotation, Integer.MAX_VALUE);
+    }
+
+    /** returns the types annotated with any of the given annotations directly or through meta annotations, ignoring unknown annotations */
+    public Set<String> getAllAnnotatedWith(Collection<String> annotations) {
+        boolean[] visited = new boolean[names.length];
+        Set<String> result = new LinkedHashSet<>();
+        for (String annotation : annotations) {
+            Integer id = ids.get(annotation);
+            if (id != null) {
+                for (int reached : reachable[id]) {
+                    if (!visited[reached]) {
+                        visited[reached] = true;
+                        Collections.addAll(result, annotated[reached]);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * returns the depth at which the given annotation is meta annotated with the given meta annotation,
+     * 0 if they are the same, 1 if it is directly annotated with it, or -1 if it is not meta annotated with it
+     */
+    public int getDepth(String annotation, String metaAnnotation) {
+        Integer id = ids.get(annotation), metaId = ids.get(metaAnnotation);
+        if (id == null || metaId == null) return annotation.equals(metaAnnotation) ? 0 : -1;
+        int[] reached = reachable[metaId];
+        for (int i = 0; i < reached.length; i++) {
+            if (reached[i] == id) {
+                int depth = 0;
+                while (depthEnds[metaId][depth] <= i) depth++;
+                return depth;
+            }
+        }
+        return -1;
+    }
+
+    /** returns the annotations directly annotating the given annotation */
+    public Set<String> getMetaAnnotations(String annotation) {
+        Integer id = ids.get(annotation);
+        return id != null ? names(metaAnnotations[id]) : Collections.emptySet();
+    }
+
+    /** returns the annotations annotating the given annotation directly or through meta annotations, not including itself */
+    public Set<String> getAllMetaAnnotations(String annotation) {
+        Integer id = ids.get(annotation);
+        Set<String> result = new LinkedHashSet<>();
+        if (id != null) {
+            List<Integer> queue = new ArrayList<>(Collections.singletonList(id));
+            for (int i = 0; i < queue.size(); i++) {
+                for (int parent : metaAnnotations[queue.get(i)]) {
+                    if (parent != id && result.add(names[parent])) queue.add(parent);
+                }
+            }
+        }
+        return result;
+    }
+
+    /** returns the annotations directly annotated with the given annotation */
+    public Set<String> getMetaAnnotated(String annotation) {
+        Integer id = ids.get(annotation);
+        return id != null ? names(metaAnnotated[id]) : Collections.emptySet();
+    }
+
+    /** returns the annotations of this graph */
+    public Set<String> getAnnotations() {
+        return Collections.unmodifiableSet(ids.keySet());
+    }
+
+    /** number of annotations in this graph */
+    public int size() {
+        return names.length;
+    }
+
+    /** number of meta annotation edges in this graph */
+    public int getEdges() {
+        return Arrays.stream(metaAnnotated).mapToInt(children -> children.length).sum();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d annotations, %d meta annotation edges", getClass().getSimpleName(), size(), getEdges());
+    }
+
+    private Set<String> names(int[] ids) {
+        Set<String> result = new LinkedHashSet<>();
+        for (int id : ids) result.add(names[id]);
+        return result;
+    }
+}
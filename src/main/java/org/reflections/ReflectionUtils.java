@@ -1,8 +1,10 @@
 package org.reflections;
 
 import org.reflections.util.ClasspathHelper;
+import org.reflections.util.LazyClassSet;
 
 import java.lang.annotation.Annotation;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.AnnotatedElement;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
@@ -11,11 +13,16 @@ import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
@@ -281,58 +288,89 @@ public abstract class ReflectionUtils {
     //
     /** tries to resolve a java type name to a Class
      * <p>if optional {@link ClassLoader}s are not specified, then both {@link org.reflections.util.ClasspathHelper#contextClassLoader()} and {@link org.reflections.util.ClasspathHelper#staticClassLoader()} are used
+     * <p>resolved types are cached per class loader, holding class loaders and types weakly. names which a class loader could not find,
+     * throwing a {@link ClassNotFoundException}, are cached as well, and are not looked up again in that class loader
+     * until {@link Reflections#refresh()} finds changed files, or until {@link #clearTypeCache()} is called,
+     * such as after classes were added at runtime. other failures, such as a {@link LinkageError}, are not cached.
      * */
     public static Class<?> forName(String typeName, ClassLoader... classLoaders) {
-        if (getPrimitiveNames().contains(typeName)) {
-            return getPrimitiveTypes().get(getPrimitiveNames().indexOf(typeName));
-        } else {
-            String type;
-            if (typeName.contains("[")) {
-                int i = typeName.indexOf("[");
-                type = typeName.substring(0, i);
-                String array = typeName.substring(i).replace("]", "");
-
-                if (getPrimitiveNames().contains(type)) {
-                    type = getPrimitiveDescriptors().get(getPrimitiveNames().indexOf(type));
-                } else {
-                    type = "L" + type + ";";
-                }
-
-                type = array + type;
-            } else {
-                type = typeName;
+        Class<?> primitive = PRIMITIVE_TYPES.get(typeName);
+        if (primitive != null) {
+            return primitive;
+        }
+        ClassLoader[] loaders = ClasspathHelper.classLoaders(classLoaders);
+        boolean trace = Reflections.log != null && Reflections.log.isTraceEnabled();
+        List<ReflectionsException> reflectionsExceptions = trace ? new ArrayList<>() : null;
+        for (ClassLoader classLoader : loaders) {
+            Class<?> type = forName(typeName, classLoader, reflectionsExceptions);
+            if (type != null) {
+                return type;
             }
+        }
+        if (trace) {
+            Reflections.log.trace("could not get type for name " + typeName + " from any class loader " + Arrays.toString(loaders));
+            for (ReflectionsException reflectionsException : reflectionsExceptions) {
+                Reflections.log.trace("could not get type for name " + typeName, reflectionsException);
+            }
+        }
+        return null;
+    }
 
-            List<ReflectionsException> reflectionsExceptions = new ArrayList<>();
-            for (ClassLoader classLoader : ClasspathHelper.classLoaders(classLoaders)) {
-                if (type.contains("[")) {
-                    try { return Class.forName(type, false, classLoader); }
-                    catch (Throwable e) {
-                        reflectionsExceptions.add(new ReflectionsException("could not get type for name " + typeName, e));
-                    }
-                }
-                try { return classLoader.loadClass(type); }
-                catch (Throwable e) {
-                    reflectionsExceptions.add(new ReflectionsException("could not get type for name " + typeName, e));
-                }
+    private static Class<?> forName(String typeName, ClassLoader classLoader, List<ReflectionsException> reflectionsExceptions) {
+        Map<String, Object> types = resolvedTypes.computeIfAbsent(classLoader, loader -> new ConcurrentHashMap<>());
+        Object cached = types.get(typeName);
+        if (cached == NOT_FOUND) {
+            return null;
+        } else if (cached != null) {
+            Class<?> type = ((WeakReference<Class<?>>) cached).get();
+            if (type != null) return type;
+        }
+
+        try {
+            Class<?> type = load(typeName, classLoader);
+            types.put(typeName, new WeakReference<>(type));
+            return type;
+        } catch (Throwable e) {
+            if (e instanceof ClassNotFoundException) {
+                types.put(typeName, NOT_FOUND);
+            }
+            if (reflectionsExceptions != null) {
+                reflectionsExceptions.add(new ReflectionsException("could not get type for name " + typeName, e));
             }
+            return null;
+        }
+    }
 
-            if (Reflections.log != null && Reflections.log.isTraceEnabled()) {
-                for (ReflectionsException reflectionsException : reflectionsExceptions) {
-                    Reflections.log.trace("could not get type for name " + typeName + " from any class loader", reflectionsException);
-                }
+    /** clears the types and the names which could not be resolved cached by {@link #forName(String, ClassLoader...)}, such as after classes were added at runtime */
+    public static void clearTypeCache() {
+        resolvedTypes.clear();
+    }
+
+    /** clears the names which could not be resolved cached by {@link #forName(String, ClassLoader...)} */
+    static void clearNotFoundTypes() {
+        synchronized (resolvedTypes) {
+            for (Map<String, Object> types : resolvedTypes.values()) {
+                types.values().removeIf(cached -> cached == NOT_FOUND);
             }
+        }
+    }
 
-            return null;
+    private static Class<?> load(String typeName, ClassLoader classLoader) throws ClassNotFoundException {
+        int i = typeName.indexOf('[');
+        if (i == -1) {
+            return classLoader.loadClass(typeName);
         }
+        String componentName = typeName.substring(0, i);
+        String dimensions = typeName.substring(i).replace("]", "");
+        String primitiveDescriptor = PRIMITIVE_DESCRIPTORS.get(componentName);
+        String type = dimensions + (primitiveDescriptor != null ? primitiveDescriptor : "L" + componentName + ";");
+        return Class.forName(type, false, classLoader);
     }
 
-    /** try to resolve all given string representation of types to a list of java types */
+    /** try to resolve all given string representation of types to a set of java types,
+     * lazily resolving each type once iterated or looked up, see {@link LazyClassSet} */
     public static <T> Set<Class<? extends T>> forNames(final Collection<String> classes, ClassLoader... classLoaders) {
-        return classes.stream()
-                .map(className -> (Class<? extends T>) forName(className, classLoaders))
-                .filter(Objects::nonNull)
-                .collect(Collectors.toCollection(LinkedHashSet::new));
+        return new LazyClassSet<>(classes, classLoaders);
     }
 
     private static Class[] parameterTypes(Member member) {
@@ -357,28 +395,28 @@ public abstract class ReflectionUtils {
     }
 
     //
-    private static List<String> primitiveNames;
-    private static List<Class> primitiveTypes;
-    private static List<String> primitiveDescriptors;
-
-    private static void initPrimitives() {
-        if (primitiveNames == null) {
-            primitiveNames = Arrays.asList("boolean", "char", "byte", "short", "int", "long", "float", "double", "void");
-            primitiveTypes = Arrays.asList(boolean.class, char.class, byte.class, short.class, int.class, long.class, float.class, double.class, void.class);
-            primitiveDescriptors = Arrays.asList("Z", "C", "B", "S", "I", "J", "F", "D", "V");
+    private static final Map<String, Class<?>> PRIMITIVE_TYPES = new HashMap<>();
+    private static final Map<String, String> PRIMITIVE_DESCRIPTORS = new HashMap<>();
+    static {
+        List<String> names = Arrays.asList("boolean", "char", "byte", "short", "int", "long", "float", "double", "void");
+        List<Class<?>> types = Arrays.asList(boolean.class, char.class, byte.class, short.class, int.class, long.class, float.class, double.class, void.class);
+        List<String> descriptors = Arrays.asList("Z", "C", "B", "S", "I", "J", "F", "D", "V");
+        for (int i = 0; i < names.size(); i++) {
+            PRIMITIVE_TYPES.put(names.get(i), types.get(i));
+            PRIMITIVE_DESCRIPTORS.put(names.get(i), descriptors.get(i));
         }
     }
 
-    private static List<String> getPrimitiveNames() { initPrimitives(); return primitiveNames; }
-    private static List<Class> getPrimitiveTypes() { initPrimitives(); return primitiveTypes; }
-    private static List<String> getPrimitiveDescriptors() { initPrimitives(); return primitiveDescriptors; }
+    private static final Object NOT_FOUND = new Object();
+    //types by name by class loader, either a weak reference to the type or NOT_FOUND if the class loader threw ClassNotFoundException
+    private static final Map<ClassLoader, Map<String, Object>> resolvedTypes = Collections.synchronizedMap(new WeakHashMap<>());
 
     //
     private static boolean areAnnotationMembersMatching(Annotation annotation1, Annotation annotation2) {
         if (annotation2 != null && annotation1.annotationType() == annotation2.annotationType()) {
             for (Method method : annotation1.annotationType().getDeclaredMethods()) {
                 try {
-                    if (!method.invoke(annotation1).equals(method.invoke(annotation2))) return false;
+                    if (!Objects.deepEquals(method.invoke(annotation1), method.invoke(annotation2))) return false;
                 } catch (Exception e) {
                     throw new ReflectionsException(String.format("could not invoke method %s on annotation %s", method.getName(), annotation1.annotationType()), e);
                 }
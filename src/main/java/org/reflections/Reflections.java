@@ -1,5 +1,9 @@
 package org.reflections;
 
+import org.reflections.adapters.BytecodeAdapter;
+import org.reflections.adapters.BytecodeClass;
+import org.reflections.adapters.MetadataAdapter;
+import org.reflections.scanners.AnnotationValuesScanner;
 import org.reflections.scanners.FieldAnnotationsScanner;
 import org.reflections.scanners.MemberUsageScanner;
 import org.reflections.scanners.MethodAnnotationsScanner;
@@ -9,15 +13,22 @@ import org.reflections.scanners.ResourcesScanner;
 import org.reflections.scanners.Scanner;
 import org.reflections.scanners.SubTypesScanner;
 import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.scanners.TypeModifiersScanner;
 import org.reflections.serializers.Serializer;
 import org.reflections.serializers.XmlSerializer;
+import org.reflections.util.AnnotationValues;
 import org.reflections.util.ClasspathHelper;
 import org.reflections.util.ConfigurationBuilder;
 import org.reflections.util.FilterBuilder;
+import org.reflections.util.ScanMetrics;
 import org.reflections.util.Utils;
+import org.reflections.vfs.SystemDir;
+import org.reflections.vfs.SystemFile;
 import org.reflections.vfs.Vfs;
+import org.reflections.vfs.ZipDir;
 import org.slf4j.Logger;
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
@@ -25,25 +36,40 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static java.lang.String.format;
 import static org.reflections.ReflectionUtils.forName;
@@ -58,6 +84,7 @@ import static org.reflections.util.Utils.getFieldFromString;
 import static org.reflections.util.Utils.getMembersFromDescriptors;
 import static org.reflections.util.Utils.getMethodsFromDescriptors;
 import static org.reflections.util.Utils.index;
+import static org.reflections.util.Utils.isConstructor;
 import static org.reflections.util.Utils.name;
 import static org.reflections.util.Utils.names;
 
@@ -117,6 +144,8 @@ import static org.reflections.util.Utils.names;
  * <p>You can use other scanners defined in Reflections as well, such as: SubTypesScanner, TypeAnnotationsScanner (both default),
  * ResourcesScanner, MethodAnnotationsScanner, ConstructorAnnotationsScanner, FieldAnnotationsScanner,
  * MethodParameterScanner, MethodParameterNamesScanner, MemberUsageScanner or any custom scanner.
+ * <p>Each query has a names counterpart, such as {@link #getSubTypeNamesOf(String)} or {@link #getMethodNamesAnnotatedWith(String)},
+ * returning type names and member descriptors without loading any class
  * <p>Use {@link #getStore()} to access and query the store directly
  * <p>In order to save the store metadata, use {@link #save(String)} or {@link #save(String, org.reflections.serializers.Serializer)}
  * for example with {@link org.reflections.serializers.XmlSerializer} or {@link org.reflections.serializers.JavaCodeSerializer}
@@ -132,6 +161,8 @@ public class Reflections {
 
     protected final transient Configuration configuration;
     protected Store store;
+    private transient List<ScanMetrics> scanMetrics;
+    private final transient Map<List<Scanner>, Optional<Predicate<String>>> prefilters = new ConcurrentHashMap<>();
 
     /**
      * constructs a Reflections instance and scan according to given {@link org.reflections.Configuration}
@@ -147,10 +178,48 @@ public class Reflections {
                 scanner.setConfiguration(configuration);
             }
 
-            scan();
+            try {
+                scan();
+                indexStore();
+            } finally {
+                //gracefully shutdown the parallel scanner executor service, once super types were expanded using it
+                ExecutorService executorService = configuration.getExecutorService();
+                if (executorService != null) executorService.shutdown();
+            }
+        }
+    }
+
+    /** expands super types, freezes the store and builds its derived indices once scanned, as configured */
+    private void indexStore() {
+        if (configuration.shouldExpandSuperTypes()) {
+            expandSuperTypes();
+        }
+
+        if (configuration.shouldFreezeStore()) {
+            store.freeze();
+        }
 
-            if (configuration.shouldExpandSuperTypes()) {
-                expandSuperTypes();
+        if (configuration.shouldIndexHierarchy()) {
+            HierarchyIndex hierarchy = store.indexHierarchy();
+            if (log != null) {
+                if (hierarchy != null) log.debug(hierarchy.toString());
+                else log.warn("could not index type hierarchy, sub types were not scanned or have cycles");
+            }
+        }
+
+        if (configuration.shouldIndexBitmaps()) {
+            BitmapIndex bitmaps = store.indexBitmaps();
+            if (log != null) {
+                if (bitmaps != null) log.debug(bitmaps.toString());
+                else log.warn("could not index bitmaps, types were not scanned or sub types have cycles");
+            }
+        }
+
+        if (configuration.shouldIndexMetaAnnotations()) {
+            MetaAnnotationGraph metaAnnotations = store.indexMetaAnnotations();
+            if (log != null) {
+                if (metaAnnotations != null) log.debug(metaAnnotations.toString());
+                else log.warn("could not index meta annotations, type annotations were not scanned");
             }
         }
     }
@@ -196,6 +265,15 @@ public class Reflections {
         this(ConfigurationBuilder.build(params));
     }
 
+    /**
+     * constructs a Reflections instance over the given store without scanning,
+     * such as a store mapped by {@link org.reflections.serializers.BinarySerializer#map(java.io.File)}
+     */
+    public Reflections(final Configuration configuration, final Store store) {
+        this.configuration = configuration;
+        this.store = store;
+    }
+
     protected Reflections() {
         configuration = new ConfigurationBuilder();
         store = new Store(configuration);
@@ -217,48 +295,247 @@ public class Reflections {
         long time = System.currentTimeMillis();
         int scannedUrls = 0;
         ExecutorService executorService = configuration.getExecutorService();
-        List<Future<?>> futures = new ArrayList<>();
+        Map<URL, ScanCache.Shard> shards = new HashMap<>();
+        List<URL> urls = loadScanCache(shards);
 
-        for (final URL url : configuration.getUrls()) {
-            try {
-                if (executorService != null) {
-                    futures.add(executorService.submit(() -> {
-                        if (log != null && log.isTraceEnabled()) {
-                            log.trace("[{}] scanning {}", Thread.currentThread().toString(), url);
-                        }
+        if (executorService != null) {
+            scannedUrls = scanParallel(executorService, urls, shards);
+        } else {
+            for (final URL url : urls) {
+                try {
+                    ScanCache.Shard shard = shards.get(url);
+                    if (shard != null) {
+                        Store scanned = new Store(configuration);
+                        scan(url, scanned);
+                        saveScanCache(shard, scanned);
+                    } else {
                         scan(url);
-                    }));
-                } else {
-                    scan(url);
-                }
-                scannedUrls++;
-            } catch (ReflectionsException e) {
-                if (log != null) {
-                    log.warn("could not create Vfs.Dir from url. ignoring the exception and continuing", e);
+                    }
+                    scannedUrls++;
+                } catch (ReflectionsException e) {
+                    if (log != null) {
+                        log.warn("could not create Vfs.Dir from url. ignoring the exception and continuing", e);
+                    }
                 }
             }
         }
+        prefilters.clear();
 
-        if (executorService != null) {
-            for (Future future : futures) {
+        if (log != null) {
+            if (configuration.getScanCache() != null) {
+                log.debug(configuration.getScanCache().toString());
+            }
+            log.debug(format("Reflections took %d ms to scan %d urls%s, producing %s %s",
+                    System.currentTimeMillis() - time, scannedUrls,
+                    configuration.getScanCache() != null ? format(" and load %d cached urls", configuration.getUrls().size() - urls.size()) : "",
+                    producingDescription(store),
+                    executorService instanceof ThreadPoolExecutor ?
+                            format("[using %d cores]", ((ThreadPoolExecutor) executorService).getMaximumPoolSize()) :
+                    executorService instanceof ForkJoinPool ?
+                            format("[using %d cores]", ((ForkJoinPool) executorService).getParallelism()) : ""));
+        }
+    }
+
+    /**
+     * loads the urls which are in the configured {@link ScanCache} into the store, and returns the other urls to be scanned.
+     * the shards of the jar urls to be scanned are put into the given map, so that their scan results are cached once scanned
+     */
+    private List<URL> loadScanCache(Map<URL, ScanCache.Shard> shards) {
+        ScanCache scanCache = configuration.getScanCache();
+        if (scanCache == null) return new ArrayList<>(configuration.getUrls());
+        String scannersKey = scanCache.getScannersKey(configuration);
+        if (scannersKey == null) {
+            if (log != null) log.warn("could not use scan cache, the inputs filter, a scanner result filter or options have no stable description");
+            return new ArrayList<>(configuration.getUrls());
+        }
+        List<URL> urls = new ArrayList<>();
+        for (URL url : configuration.getUrls()) {
+            ScanCache.Shard shard = scanCache.getShard(scannersKey, url);
+            boolean loaded = false;
+            store.startSource();
+            try {
+                loaded = shard != null && shard.load(store);
+            } catch (IOException e) {
+                if (log != null) log.warn("could not load scan cache " + shard + ", scanning " + url, e);
+            } finally {
+                if (loaded) store.endSource(url, "", -1);
+                else store.discardSource();
+            }
+            if (loaded) {
+                if (log != null && log.isTraceEnabled()) log.trace("loaded {} from scan cache {}", url, shard);
+                continue;
+            }
+            if (shard != null) shards.put(url, shard);
+            urls.add(url);
+        }
+        return urls;
+    }
+
+    /** caches the scan results of a single url, and merges them into the store */
+    private void saveScanCache(ScanCache.Shard shard, Store scanned) {
+        try {
+            shard.save(scanned);
+        } catch (IOException e) {
+            if (log != null) log.warn("could not save scan cache " + shard, e);
+        }
+        store.merge(scanned);
+    }
+
+    /**
+     * scan the given urls using the given executor service, splitting work at file granularity.
+     * <p>the cost of each url is estimated up front, see {@link ScanMetrics}, and urls are dispatched most expensive first,
+     * so that a large jar does not start last and set the total scan time.
+     * <p>{@link org.reflections.vfs.ZipDir} and {@link org.reflections.vfs.SystemDir} inputs are listed up front and split into
+     * batches of files, so that a single large jar does not keep one thread busy while others are idle.
+     * when given a {@link ForkJoinPool}, batches are split recursively and idle workers steal sub ranges from busy ones.
+     * other {@link org.reflections.vfs.Vfs.Dir} types are scanned sequentially, each as a single task.
+     * <p>urls which have a shard are scanned into a store of their own, which is cached and merged into the store once scanned.
+     *
+     * @return number of urls scanned
+     */
+    private int scanParallel(ExecutorService executorService, List<URL> urls, Map<URL, ScanCache.Shard> shards) {
+        List<UrlScan> urlScans = new ArrayList<>();
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (final URL url : urls) {
+                final Vfs.Dir dir;
+                try {
+                    dir = Vfs.fromURL(url);
+                } catch (ReflectionsException e) {
+                    if (log != null) {
+                        log.warn("could not create Vfs.Dir from url. ignoring the exception and continuing", e);
+                    }
+                    continue;
+                }
+                urlScans.add(new UrlScan(url, dir, shards.containsKey(url) ? new Store(configuration) : store));
+            }
+
+            urlScans.sort(Comparator.comparingLong((UrlScan urlScan) -> urlScan.metrics.getEstimatedCost()).reversed());
+
+            for (UrlScan urlScan : urlScans) {
+                if (log != null && log.isTraceEnabled()) {
+                    log.trace("scheduling {}", urlScan.metrics);
+                }
+                List<Vfs.File> files = urlScan.files;
+                if (files == null) {
+                    futures.add(executorService.submit(urlScan::scanDir));
+                } else if (executorService instanceof ForkJoinPool) {
+                    futures.add(((ForkJoinPool) executorService).submit(new ScanAction(urlScan, 0, files.size())));
+                } else {
+                    for (int i = 0; i < files.size(); i += SCAN_BATCH_SIZE) {
+                        int from = i;
+                        int to = Math.min(from + SCAN_BATCH_SIZE, files.size());
+                        futures.add(executorService.submit(() -> urlScan.scanFiles(from, to)));
+                    }
+                }
+            }
+
+            for (Future<?> future : futures) {
                 try {
                     future.get();
                 } catch (InterruptedException | ExecutionException e) {
                     throw new RuntimeException(e);
                 }
             }
+        } finally {
+            urlScans.forEach(urlScan -> urlScan.dir.close());
         }
 
-        //gracefully shutdown the parallel scanner executor service.
-        if (executorService != null) {
-            executorService.shutdown();
+        for (UrlScan urlScan : urlScans) {
+            if (urlScan.store != store) {
+                saveScanCache(shards.get(urlScan.url), urlScan.store);
+            }
         }
 
-        if (log != null) {
-            log.debug(format("Reflections took %d ms to scan %d urls, producing %s %s",
-                    System.currentTimeMillis() - time, scannedUrls, producingDescription(store),
-                    executorService instanceof ThreadPoolExecutor ?
-                            format("[using %d cores]", ((ThreadPoolExecutor) executorService).getMaximumPoolSize()) : ""));
+        scanMetrics = urlScans.stream().map(urlScan -> urlScan.metrics).collect(Collectors.toList());
+        if (log != null && log.isDebugEnabled()) {
+            for (ScanMetrics metrics : scanMetrics) {
+                log.debug("scanned {}", metrics);
+            }
+        }
+
+        return urlScans.size();
+    }
+
+    /** number of files below which a parallel scan task is executed in place rather than split further */
+    private static final int SCAN_BATCH_SIZE = 32;
+
+    /** a url to be scanned in parallel into the given store, along with its files if these can be listed up front */
+    private class UrlScan {
+        private final URL url;
+        private final Vfs.Dir dir;
+        private final Store store;
+        private final List<Vfs.File> files;
+        private final ScanMetrics metrics;
+
+        UrlScan(URL url, Vfs.Dir dir, Store store) {
+            this.url = url;
+            this.dir = dir;
+            this.store = store;
+            if (dir instanceof ZipDir || dir instanceof SystemDir) {
+                files = new ArrayList<>();
+                long bytes = 0;
+                for (Vfs.File file : dir.getFiles()) {
+                    if (acceptsInput(file)) {
+                        files.add(file);
+                        bytes += Math.max(Vfs.estimateSize(file), 0);
+                    }
+                }
+                metrics = new ScanMetrics(url, files.size(), bytes);
+            } else {
+                files = null;
+                java.io.File file = Vfs.getFile(url);
+                metrics = new ScanMetrics(url, -1, file != null && file.isFile() ? file.length() : -1);
+            }
+        }
+
+        void scanFiles(int from, int to) {
+            long start = System.nanoTime();
+            for (int i = from; i < to; i++) {
+                scan(url, files.get(i), store);
+            }
+            metrics.record(to - from, start);
+        }
+
+        void scanDir() {
+            if (log != null && log.isTraceEnabled()) {
+                log.trace("[{}] scanning {}", Thread.currentThread().toString(), url);
+            }
+            long start = System.nanoTime();
+            int count = 0;
+            for (Vfs.File file : dir.getFiles()) {
+                if (acceptsInput(file)) {
+                    scan(url, file, store);
+                    count++;
+                }
+            }
+            metrics.record(count, start);
+        }
+    }
+
+    /** a work stealing scan task over a range of files of a single url */
+    private static class ScanAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final UrlScan urlScan;
+        private final int from;
+        private final int to;
+
+        ScanAction(UrlScan urlScan, int from, int to) {
+            this.urlScan = urlScan;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= SCAN_BATCH_SIZE) {
+                urlScan.scanFiles(from, to);
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(new ScanAction(urlScan, from, middle), new ScanAction(urlScan, middle, to));
+            }
         }
     }
 
@@ -273,28 +550,16 @@ public class Reflections {
     }
 
     protected void scan(URL url) {
+        scan(url, store);
+    }
+
+    private void scan(URL url, Store store) {
         Vfs.Dir dir = Vfs.fromURL(url);
 
         try {
             for (final Vfs.File file : dir.getFiles()) {
-                // scan if inputs filter accepts file relative path or fqn
-                Predicate<String> inputsFilter = configuration.getInputsFilter();
-                String path = file.getRelativePath();
-                String fqn = path.replace('/', '.');
-                if (inputsFilter == null || inputsFilter.test(path) || inputsFilter.test(fqn)) {
-                    Object classObject = null;
-                    for (Scanner scanner : configuration.getScanners()) {
-                        try {
-                            if (scanner.acceptsInput(path) || scanner.acceptsInput(fqn)) {
-                                classObject = scanner.scan(file, classObject, store);
-                            }
-                        } catch (Exception e) {
-                            if (log != null && log.isTraceEnabled()) {
-                                // SLF4J will filter out Throwables from the format string arguments.
-                                log.trace("could not scan file {} in url {} with scanner {}", file.getRelativePath(), url.toExternalForm(), scanner.getClass().getSimpleName(), e);
-                            }
-                        }
-                    }
+                if (acceptsInput(file)) {
+                    scan(url, file, store);
                 }
             }
         } finally {
@@ -302,6 +567,127 @@ public class Reflections {
         }
     }
 
+    /** scan if inputs filter accepts file relative path or fqn */
+    private boolean acceptsInput(Vfs.File file) {
+        Predicate<String> inputsFilter = configuration.getInputsFilter();
+        String path = file.getRelativePath();
+        return inputsFilter == null || inputsFilter.test(path) || inputsFilter.test(path.replace('/', '.'));
+    }
+
+    protected void scan(URL url, Vfs.File file) {
+        scan(url, file, store);
+    }
+
+    /** scan the given file into the given store, tracking it as a source of the entries it puts, if sources are tracked */
+    private void scan(URL url, Vfs.File file, Store store) {
+        if (!store.isTrackingSources()) {
+            scanFile(url, file, store);
+            return;
+        }
+        store.startSource();
+        try {
+            scanFile(url, file, store);
+        } finally {
+            store.endSource(url, file.getRelativePath(), Vfs.lastModified(file));
+        }
+    }
+
+    private void scanFile(URL url, Vfs.File file, Store store) {
+        String path = file.getRelativePath();
+        String fqn = path.replace('/', '.');
+        Object classObject = null;
+        if (configuration.shouldPrefilterInputs() && !(configuration.getMetadataAdapter() instanceof BytecodeAdapter)) {
+            Predicate<String> prefilter = getPrefilter(path, fqn);
+            if (prefilter != null) {
+                try {
+                    byte[] bytes;
+                    try (InputStream inputStream = file.openInputStream()) {
+                        bytes = BytecodeClass.readBytes(inputStream, Vfs.estimateSize(file));
+                    }
+                    if (!new BytecodeClass(bytes).referencesType(prefilter)) {
+                        return;
+                    }
+                    file = new PrefilteredFile(file, bytes);
+                } catch (Exception e) {
+                    if (log != null && log.isTraceEnabled()) {
+                        log.trace("could not pre-filter file {} in url {}", path, url.toExternalForm(), e);
+                    }
+                }
+            }
+        }
+        for (Scanner scanner : configuration.getScanners()) {
+            try {
+                if (scanner.acceptsInput(path) || scanner.acceptsInput(fqn)) {
+                    classObject = scanner.scan(file, classObject, store);
+                }
+            } catch (Exception e) {
+                if (log != null && log.isTraceEnabled()) {
+                    // SLF4J will filter out Throwables from the format string arguments.
+                    log.trace("could not scan file {} in url {} with scanner {}", file.getRelativePath(), url.toExternalForm(), scanner.getClass().getSimpleName(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * returns a predicate accepting the referenced type names any of the scanners accepting the given file may produce results for,
+     * or null if any of these scanners can not pre-filter it. results are memoized per type name, as most names are referenced by many classes
+     */
+    private Predicate<String> getPrefilter(String path, String fqn) {
+        List<Scanner> scanners = new ArrayList<>();
+        for (Scanner scanner : configuration.getScanners()) {
+            if (scanner.acceptsInput(path) || scanner.acceptsInput(fqn)) {
+                scanners.add(scanner);
+            }
+        }
+        if (scanners.isEmpty()) return null;
+        return prefilters.computeIfAbsent(scanners, key -> {
+            List<Predicate<String>> filters = new ArrayList<>();
+            for (Scanner scanner : key) {
+                Predicate<String> filter = scanner.getReferencedTypesFilter();
+                if (filter == null) return Optional.empty();
+                filters.add(filter);
+            }
+            Map<String, Boolean> results = new ConcurrentHashMap<>();
+            return Optional.of(name -> {
+                Boolean result = results.get(name);
+                if (result == null) {
+                    result = filters.stream().anyMatch(filter -> filter.test(name));
+                    results.put(name, result);
+                }
+                return result;
+            });
+        }).orElse(null);
+    }
+
+    /** a class file which was already read while pre-filtering, so that it is not read twice */
+    private static class PrefilteredFile implements Vfs.File {
+        private final Vfs.File file;
+        private final byte[] bytes;
+
+        PrefilteredFile(Vfs.File file, byte[] bytes) {
+            this.file = file;
+            this.bytes = bytes;
+        }
+
+        public String getName() {
+            return file.getName();
+        }
+
+        public String getRelativePath() {
+            return file.getRelativePath();
+        }
+
+        public InputStream openInputStream() {
+            return new ByteArrayInputStream(bytes);
+        }
+
+        @Override
+        public String toString() {
+            return file.toString();
+        }
+    }
+
     /**
      * collect saved Reflection xml resources and merge it into a Reflections instance
      * <p>by default, resources are collected from all urls that contains the package META-INF/reflections
@@ -385,38 +771,271 @@ public class Reflections {
         return this;
     }
 
+    /**
+     * rescans the class directories of the configured urls incrementally, comparing the last modified time of their files
+     * to the time these were scanned. the entries of modified and deleted files are removed from the store, and modified and added
+     * files are scanned again. super types are then expanded, and the store is frozen and indexed again, as configured.
+     * <p>jar urls are not rescanned, use {@link Store#removeSources(URL)} to remove their entries.
+     * super types expanded for deleted types are not removed. refreshing is not safe while the store is queried concurrently.
+     * <p/>depends on {@link Configuration#shouldTrackSources()}
+     *
+     * @return number of files rescanned or removed
+     */
+    public synchronized int refresh() {
+        checkTrackingSources();
+        long time = System.currentTimeMillis();
+        StoreDelta.Builder delta = new StoreDelta.Builder();
+        for (URL url : configuration.getUrls()) {
+            java.io.File root = Vfs.getFile(url);
+            if (root != null && root.isDirectory()) {
+                refreshDirectory(url, new SystemDir(root), "", delta);
+            }
+        }
+        endRefresh(delta, time);
+        return delta.getFiles();
+    }
+
+    /**
+     * rescans the given files and directories of the given class directory url, given as paths relative to it,
+     * such as {@code my/package/C.class} or {@code my/package}, or the empty path for the whole directory.
+     * files are scanned again, directories are refreshed incrementally as in {@link #refresh()},
+     * and the entries of files and directories which no longer exist are removed.
+     * super types are then expanded, and the store is frozen and indexed again, as configured.
+     * <p/>depends on {@link Configuration#shouldTrackSources()}
+     *
+     * @return the store entries put and removed by the rescanned and removed files
+     */
+    public synchronized StoreDelta refresh(URL url, Collection<String> paths) {
+        checkTrackingSources();
+        java.io.File root = Vfs.getFile(url);
+        if (root == null || !root.isDirectory()) {
+            throw new ReflectionsException("could not refresh url " + url + ", which is not a directory");
+        }
+        long time = System.currentTimeMillis();
+        SystemDir dir = new SystemDir(root);
+        StoreDelta.Builder delta = new StoreDelta.Builder();
+        for (String path : paths) {
+            java.io.File file = new java.io.File(root, path);
+            if (file.isFile()) {
+                Vfs.File vfsFile = new SystemFile(dir, file);
+                if (acceptsInput(vfsFile)) {
+                    refreshSource(url, vfsFile.getRelativePath(), vfsFile, delta);
+                }
+            } else {
+                refreshDirectory(url, dir, path, delta);
+            }
+        }
+        endRefresh(delta, time);
+        return delta.build();
+    }
+
+    /**
+     * rescans the files of the given directory of the given url, given as a path relative to it, which were modified or added since scanned,
+     * and removes the entries of the files which were deleted, including the given path itself if it was a file
+     */
+    private void refreshDirectory(URL url, SystemDir dir, String path, StoreDelta.Builder delta) {
+        String prefix = path.isEmpty() || path.endsWith("/") ? path : path + "/";
+        Map<String, Long> sources = store.getSources(url);
+        sources.keySet().removeIf(source -> !source.equals(path) && !source.startsWith(prefix));
+        java.io.File directory = new java.io.File(dir.getPath(), path);
+        if (directory.isDirectory()) {
+            try (Stream<Path> paths = Files.walk(directory.toPath())) {
+                for (Path filePath : (Iterable<Path>) paths.filter(Files::isRegularFile)::iterator) {
+                    Vfs.File file = new SystemFile(dir, filePath.toFile());
+                    if (acceptsInput(file)) {
+                        Long lastModified = sources.remove(file.getRelativePath());
+                        if (lastModified == null || lastModified != Vfs.lastModified(file)) {
+                            refreshSource(url, file.getRelativePath(), file, delta);
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                throw new ReflectionsException("could not get files for " + directory, e);
+            }
+        }
+        for (String source : sources.keySet()) {
+            refreshSource(url, source, null, delta);
+        }
+    }
+
+    /** removes the entries of the given source file of the given url, and scans it again unless it is null, collecting the delta */
+    private void refreshSource(URL url, String path, Vfs.File file, StoreDelta.Builder delta) {
+        List<String[]> removed = store.removeSourceEntries(url, path);
+        if (removed != null) {
+            delta.removed(removed);
+        }
+        if (file != null) {
+            scan(url, file, store);
+            delta.added(store.getSourceEntries(url, path));
+        }
+        if (file != null || removed != null) {
+            delta.file();
+            if (log != null && log.isTraceEnabled()) {
+                log.trace("{} {} in url {}", file == null ? "removed" : removed == null ? "added" : "rescanned", path, url.toExternalForm());
+            }
+        }
+    }
+
+    private void endRefresh(StoreDelta.Builder delta, long time) {
+        prefilters.clear();
+        if (delta.getFiles() != 0) {
+            ReflectionUtils.clearNotFoundTypes(); //types added by the changed files may have been looked up before
+            indexStore();
+        }
+        if (log != null) {
+            log.debug(format("Reflections took %d ms to refresh %d changed files", System.currentTimeMillis() - time, delta.getFiles()));
+        }
+    }
+
+    private void checkTrackingSources() {
+        if (!store.isTrackingSources()) {
+            throw new ReflectionsException("sources were not tracked, see Configuration#shouldTrackSources()");
+        }
+    }
+
+    /**
+     * watches the class directories of the configured urls, applying created, modified and deleted files to the store
+     * in a background thread, and notifying the given listener of each {@link StoreDelta}. close the returned watcher to stop watching.
+     * <p/>more listeners may be added with {@link ReflectionsWatcher#addListener(Consumer)}
+     * <p/>depends on {@link Configuration#shouldTrackSources()}, see {@link ReflectionsWatcher}
+     */
+    public ReflectionsWatcher watch(Consumer<StoreDelta> listener) {
+        checkTrackingSources();
+        List<URL> directories = new ArrayList<>();
+        for (URL url : configuration.getUrls()) {
+            java.io.File root = Vfs.getFile(url);
+            if (root != null && root.isDirectory()) {
+                directories.add(url);
+            }
+        }
+        try {
+            return new ReflectionsWatcher(this, directories, Collections.singletonList(listener));
+        } catch (IOException e) {
+            throw new ReflectionsException("could not watch urls " + directories, e);
+        }
+    }
+
     /**
      * expand super types after scanning, for super types that were not scanned.
      * this is helpful in finding the transitive closure without scanning all 3rd party dependencies.
-     * it uses {@link ReflectionUtils#getSuperTypes(Class)}.
      * <p>
      * for example, for classes A,B,C where A supertype of B, B supertype of C:
      * <ul>
      *     <li>if scanning C resulted in B (B->C in store), but A was not scanned (although A supertype of B) - then getSubTypes(A) will not return C</li>
      *     <li>if expanding supertypes, B will be expanded with A (A->B in store) - then getSubTypes(A) will return C</li>
      * </ul>
+     * <p>the super types of each type are read from the header of its class file, found as a resource of the configured class loaders,
+     * using the configured {@link org.reflections.adapters.MetadataAdapter}, so that classes are not loaded.
+     * a type which has no class file resource is loaded, and uses {@link ReflectionUtils#getSuperTypes(Class)}.
+     * types are expanded level by level, and the class files of each level are read in parallel using the configured executor service,
+     * unless there is none or it was shut down, as it is once the constructor scanned and expanded super types.
      */
     public void expandSuperTypes() {
         String index = index(SubTypesScanner.class);
+        Set<String> scanned = store.values(index);
         Set<String> keys = store.keys(index);
-        keys.removeAll(store.values(index));
-        for (String key : keys) {
-            final Class<?> type = forName(key, loaders());
-            if (type != null) {
-                expandSupertypes(store, key, type);
+        keys.removeAll(scanned);
+        Set<String> visited = new HashSet<>(keys);
+        Map<String, List<String>> superTypes = new ConcurrentHashMap<>();
+        Set<String> unresolved = ConcurrentHashMap.newKeySet();
+        ClassLoader[] classLoaders = ClasspathHelper.classLoaders(loaders());
+        ExecutorService executorService = configuration.getExecutorService();
+        boolean parallel = executorService != null && !executorService.isShutdown();
+        while (!keys.isEmpty()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (String key : keys) {
+                Runnable expand = () -> {
+                    List<String> names = getSuperTypeNames(key, classLoaders);
+                    if (names != null) superTypes.put(key, names);
+                    else unresolved.add(key);
+                };
+                if (parallel) futures.add(executorService.submit(expand));
+                else expand.run();
+            }
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (InterruptedException | ExecutionException e) {
+                    throw new RuntimeException(e);
+                }
             }
+            Set<String> expanded = new LinkedHashSet<>();
+            for (String key : keys) {
+                for (String supertype : superTypes.getOrDefault(key, Collections.emptyList())) {
+                    if (store.put(SubTypesScanner.class, supertype, key)) {
+                        if (log != null && log.isTraceEnabled()) {
+                            log.trace("expanded subtype {} -> {}", supertype, key);
+                        }
+                        if (!scanned.contains(supertype) && visited.add(supertype)) {
+                            expanded.add(supertype);
+                        }
+                    }
+                }
+            }
+            keys = expanded;
+        }
+        if (log != null && !unresolved.isEmpty()) {
+            log.debug("could not expand super types of {} types, which have no class file and could not be loaded", unresolved.size());
+            if (log.isTraceEnabled()) log.trace("could not expand super types of {}", unresolved);
         }
     }
 
-    private void expandSupertypes(Store store, String key, Class<?> type) {
-        for (Class<?> supertype : ReflectionUtils.getSuperTypes(type)) {
-            if (store.put(SubTypesScanner.class, supertype.getName(), key)) {
-                if (log != null && log.isTraceEnabled()) {
-                    log.trace("expanded subtype {} -> {}", supertype.getName(), key);
+    /**
+     * returns the names of the direct super class, unless it is {@code Object}, and of the interfaces of the given type,
+     * read from its class file, or null if it has no class file and could not be loaded
+     */
+    @SuppressWarnings("unchecked")
+    private List<String> getSuperTypeNames(String type, ClassLoader[] classLoaders) {
+        String resourceName = type.replace('.', '/') + ".class";
+        for (ClassLoader classLoader : classLoaders) {
+            URL url = classLoader.getResource(resourceName);
+            if (url != null) {
+                try {
+                    MetadataAdapter<Object, ?, ?> adapter = configuration.getMetadataAdapter();
+                    Object cls = adapter.getOrCreateClassObject(new ResourceFile(url, resourceName));
+                    List<String> result = new ArrayList<>();
+                    String superclass = adapter.getSuperclassName(cls);
+                    if (superclass != null && !superclass.isEmpty() && (ReflectionUtils.includeObject || !superclass.equals(Object.class.getName()))) {
+                        result.add(superclass);
+                    }
+                    result.addAll(adapter.getInterfacesNames(cls));
+                    return result;
+                } catch (Exception e) {
+                    if (log != null) log.trace("could not read class file " + url, e);
+                    break;
                 }
-                expandSupertypes(store, supertype.getName(), supertype);
             }
         }
+        Class<?> loaded = forName(type, loaders());
+        return loaded != null ? names(ReflectionUtils.getSuperTypes(loaded)) : null;
+    }
+
+    /** a class file resource, as found by a class loader */
+    private static class ResourceFile implements Vfs.File {
+        private final URL url;
+        private final String resourceName;
+
+        ResourceFile(URL url, String resourceName) {
+            this.url = url;
+            this.resourceName = resourceName;
+        }
+
+        public String getName() {
+            return resourceName.substring(resourceName.lastIndexOf('/') + 1);
+        }
+
+        public String getRelativePath() {
+            return resourceName;
+        }
+
+        public InputStream openInputStream() throws IOException {
+            return url.openStream();
+        }
+
+        @Override
+        public String toString() {
+            return url.toExternalForm();
+        }
     }
 
     //query
@@ -426,7 +1045,31 @@ public class Reflections {
      * <p/>depends on SubTypesScanner configured
      */
     public <T> Set<Class<? extends T>> getSubTypesOf(final Class<T> type) {
-        return forNames(store.getAll(SubTypesScanner.class, type.getName()), loaders());
+        return forNames(getSubTypeNamesOf(type.getName()), loaders());
+    }
+
+    /**
+     * returns true if the given type name is the given super type name or one of its transitive sub types, without loading classes
+     * <p/>depends on SubTypesScanner configured, see {@link Store#isSubType(String, String)}
+     */
+    public boolean isSubType(String type, String superType) {
+        return store.isSubType(type, superType);
+    }
+
+    /**
+     * gets the names of the direct super class and interfaces of a given type name, as scanned
+     * <p/>depends on SubTypesScanner configured
+     */
+    public Set<String> getDirectSuperTypes(String type) {
+        return store.getDirectSuperTypes(type);
+    }
+
+    /**
+     * gets the names of the types which all given type names are sub types of
+     * <p/>depends on SubTypesScanner configured
+     */
+    public Set<String> getCommonSuperTypes(String... types) {
+        return store.getCommonSuperTypes(Arrays.asList(types));
     }
 
     /**
@@ -451,6 +1094,9 @@ public class Reflections {
      * <p/>depends on TypeAnnotationsScanner and SubTypesScanner configured
      */
     public Set<Class<?>> getTypesAnnotatedWith(final Class<? extends Annotation> annotation, boolean honorInherited) {
+        if (!honorInherited) {
+            return forNames(getTypeNamesAnnotatedWith(annotation.getName()), loaders());
+        }
         Set<String> annotated = store.get(TypeAnnotationsScanner.class, annotation.getName());
         annotated.addAll(getAllAnnotated(annotated, annotation, honorInherited));
         return forNames(annotated, loaders());
@@ -468,31 +1114,120 @@ public class Reflections {
     /**
      * get types annotated with a given annotation, both classes and annotations, including annotation member values matching
      * <p>{@link java.lang.annotation.Inherited} is honored according to given honorInherited
+     * <p>if {@link AnnotationValuesScanner} is configured, member values are matched by the scanned values, and only matching classes are loaded
      * <p/>depends on TypeAnnotationsScanner configured
      */
     public Set<Class<?>> getTypesAnnotatedWith(final Annotation annotation, boolean honorInherited) {
         Set<String> annotated = store.get(TypeAnnotationsScanner.class, annotation.annotationType().getName());
-        Set<Class<?>> allAnnotated = filter(forNames(annotated, loaders()), withAnnotation(annotation));
-        Set<Class<?>> classes = forNames(filter(getAllAnnotated(names(allAnnotated), annotation.annotationType(), honorInherited), s -> !annotated.contains(s)), loaders());
-        allAnnotated.addAll(classes);
-        return allAnnotated;
+        Set<String> notIndexed = new HashSet<>();
+        Set<String> allAnnotated = getAnnotatedMatching(annotated, annotation, notIndexed);
+        allAnnotated.addAll(names(filter(forNames(notIndexed, loaders()), withAnnotation(annotation))));
+        allAnnotated.addAll(filter(getAllAnnotated(allAnnotated, annotation.annotationType(), honorInherited), s -> !annotated.contains(s)));
+        return forNames(allAnnotated, loaders());
+    }
+
+    /**
+     * returns the given annotated elements whose annotation element values match the given annotation, as indexed by the
+     * {@link AnnotationValuesScanner}, without loading them, and adds the annotated elements which were not indexed to the given collection.
+     * if the scanner is not configured, or some element value of the given annotation is not indexed, such as nested annotations,
+     * all annotated elements are added to the given collection
+     */
+    private Set<String> getAnnotatedMatching(Collection<String> annotated, Annotation annotation, Collection<String> notIndexed) {
+        Class<? extends Annotation> annotationType = annotation.annotationType();
+        Retention retention = annotationType.getAnnotation(Retention.class);
+        if (!store.keySet().contains(index(AnnotationValuesScanner.class)) || retention == null || retention.value() != RetentionPolicy.RUNTIME) {
+            notIndexed.addAll(annotated);
+            return new LinkedHashSet<>();
+        }
+        Map<String, String> expected = new HashMap<>();
+        Map<String, String> defaults = new HashMap<>();
+        Map<String, Map<String, String>> values = new HashMap<>(); //encoded values by annotated element, by annotation element
+        for (Method element : annotationType.getDeclaredMethods()) {
+            if (Modifier.isStatic(element.getModifiers()) || element.isSynthetic()) continue;
+            String value;
+            try {
+                value = AnnotationValues.encode(element.invoke(annotation));
+            } catch (Exception e) {
+                throw new ReflectionsException(format("could not invoke method %s on annotation %s", element.getName(), annotationType), e);
+            }
+            if (value == null) {
+                notIndexed.addAll(annotated);
+                return new LinkedHashSet<>();
+            }
+            expected.put(element.getName(), value);
+            String defaultValue = AnnotationValues.encode(element.getDefaultValue());
+            if (defaultValue != null) defaults.put(element.getName(), defaultValue);
+            Map<String, String> elementValues = new HashMap<>();
+            for (String entry : store.get(AnnotationValuesScanner.class, annotationType.getName() + "." + element.getName() + "()")) {
+                int separator = entry.indexOf(AnnotationValuesScanner.VALUE_SEPARATOR);
+                elementValues.put(entry.substring(0, separator), entry.substring(separator + AnnotationValuesScanner.VALUE_SEPARATOR.length()));
+            }
+            values.put(element.getName(), elementValues);
+        }
+
+        Set<String> indexed = store.get(AnnotationValuesScanner.class, annotationType.getName());
+        Set<String> result = new LinkedHashSet<>();
+        for (String element : annotated) {
+            if (!indexed.contains(element)) {
+                notIndexed.add(element);
+                continue;
+            }
+            boolean matching = true;
+            for (Map.Entry<String, String> entry : expected.entrySet()) {
+                String value = values.get(entry.getKey()).getOrDefault(element, defaults.get(entry.getKey()));
+                if (value == null) { //neither given nor defaulted, as when scanned with another version of the annotation
+                    notIndexed.add(element);
+                }
+                if (value == null || !value.equals(entry.getValue())) {
+                    matching = false;
+                    break;
+                }
+            }
+            if (matching) result.add(element);
+        }
+        return result;
     }
 
     protected Collection<String> getAllAnnotated(Collection<String> annotated, Class<? extends Annotation> annotation, boolean honorInherited) {
         if (honorInherited) {
             if (annotation.isAnnotationPresent(Inherited.class)) {
-                Set<String> subTypes = store.get(SubTypesScanner.class, filter(annotated, input -> {
+                boolean modifiers = store.keySet().contains(index(TypeModifiersScanner.class));
+                Set<String> classes = filter(annotated, input -> {
+                    int typeModifiers = modifiers ? getTypeModifiers(input) : -1;
+                    if (typeModifiers != -1) {
+                        return !Modifier.isInterface(typeModifiers);
+                    }
                     final Class<?> type = forName(input, loaders());
                     return type != null && !type.isInterface();
-                }));
-                return store.getAllIncluding(SubTypesScanner.class, subTypes);
+                });
+                BitmapIndex bitmaps = store.getBitmapIndex();
+                if (bitmaps != null) {
+                    return bitmaps.names(bitmaps.getAllIncluding(classes));
+                }
+                return store.getAllIncluding(SubTypesScanner.class, store.get(SubTypesScanner.class, classes));
             } else {
                 return annotated;
             }
         } else {
-            Collection<String> subTypes = store.getAllIncluding(TypeAnnotationsScanner.class, annotated);
-            return store.getAllIncluding(SubTypesScanner.class, subTypes);
+            return getAllAnnotated(annotated);
+        }
+    }
+
+    private Collection<String> getAllAnnotated(Collection<String> annotated) {
+        BitmapIndex bitmaps = store.getBitmapIndex();
+        if (bitmaps != null) {
+            Set<String> result = bitmaps.names(bitmaps.getAllAnnotated(bitmaps.of(annotated)));
+            result.addAll(annotated);
+            return result;
+        }
+        MetaAnnotationGraph metaAnnotations = store.getMetaAnnotationGraph();
+        if (metaAnnotations != null) {
+            Set<String> result = new LinkedHashSet<>(annotated);
+            result.addAll(metaAnnotations.getAllAnnotatedWith(annotated));
+            return store.getAllIncluding(SubTypesScanner.class, result);
         }
+        Collection<String> subTypes = store.getAllIncluding(TypeAnnotationsScanner.class, annotated);
+        return store.getAllIncluding(SubTypesScanner.class, subTypes);
     }
 
     /**
@@ -505,10 +1240,15 @@ public class Reflections {
 
     /**
      * get all methods annotated with a given annotation, including annotation member values matching
+     * <p>member values are matched by the scanned values if {@link AnnotationValuesScanner} is configured
      * <p/>depends on MethodAnnotationsScanner configured
      */
     public Set<Method> getMethodsAnnotatedWith(final Annotation annotation) {
-        return filter(getMethodsAnnotatedWith(annotation.annotationType()), withAnnotation(annotation));
+        Set<String> notIndexed = new HashSet<>();
+        Set<Method> result = getMethodsFromDescriptors(getAnnotatedMatching(
+                store.get(MethodAnnotationsScanner.class, annotation.annotationType().getName()), annotation, notIndexed), loaders());
+        result.addAll(filter(getMethodsFromDescriptors(notIndexed, loaders()), withAnnotation(annotation)));
+        return result;
     }
 
     /**
@@ -550,10 +1290,15 @@ public class Reflections {
 
     /**
      * get all constructors annotated with a given annotation, including annotation member values matching
+     * <p>member values are matched by the scanned values if {@link AnnotationValuesScanner} is configured
      * <p/>depends on MethodAnnotationsScanner configured
      */
     public Set<Constructor> getConstructorsAnnotatedWith(final Annotation annotation) {
-        return filter(getConstructorsAnnotatedWith(annotation.annotationType()), withAnnotation(annotation));
+        Set<String> notIndexed = new HashSet<>();
+        Set<Constructor> result = getConstructorsFromDescriptors(getAnnotatedMatching(
+                store.get(MethodAnnotationsScanner.class, annotation.annotationType().getName()), annotation, notIndexed), loaders());
+        result.addAll(filter(getConstructorsFromDescriptors(notIndexed, loaders()), withAnnotation(annotation)));
+        return result;
     }
 
     /**
@@ -589,10 +1334,15 @@ public class Reflections {
 
     /**
      * get all methods annotated with a given annotation, including annotation member values matching
+     * <p>member values are matched by the scanned values if {@link AnnotationValuesScanner} is configured
      * <p/>depends on FieldAnnotationsScanner configured
      */
     public Set<Field> getFieldsAnnotatedWith(final Annotation annotation) {
-        return filter(getFieldsAnnotatedWith(annotation.annotationType()), withAnnotation(annotation));
+        Set<String> notIndexed = new HashSet<>();
+        Set<Field> result = getAnnotatedMatching(store.get(FieldAnnotationsScanner.class, annotation.annotationType().getName()), annotation, notIndexed)
+                .stream().map(annotated -> getFieldFromString(annotated, loaders())).collect(Collectors.toSet());
+        result.addAll(filter(notIndexed.stream().map(annotated -> getFieldFromString(annotated, loaders())).collect(Collectors.toSet()), withAnnotation(annotation)));
+        return result;
     }
 
     /**
@@ -618,8 +1368,7 @@ public class Reflections {
      * <p>depends on MethodParameterNamesScanner configured
      */
     public List<String> getMethodParamNames(Method method) {
-        Set<String> names = store.get(MethodParameterNamesScanner.class, name(method));
-        return names.size() == 1 ? Arrays.asList(names.iterator().next().split(", ")) : Collections.emptyList();
+        return getParamNames(name(method));
     }
 
     /**
@@ -627,8 +1376,7 @@ public class Reflections {
      * <p>depends on MethodParameterNamesScanner configured
      */
     public List<String> getConstructorParamNames(Constructor constructor) {
-        Set<String> names = store.get(MethodParameterNamesScanner.class, Utils.name(constructor));
-        return names.size() == 1 ? Arrays.asList(names.iterator().next().split(", ")) : Collections.emptyList();
+        return getParamNames(Utils.name(constructor));
     }
 
     /**
@@ -655,6 +1403,165 @@ public class Reflections {
         return getMembersFromDescriptors(store.get(MemberUsageScanner.class, name(constructor)));
     }
 
+    //query names
+    //the following queries return type names and member descriptors as stored, without loading or linking any class,
+    //so that results can be filtered by name before loading the relevant classes
+
+    /**
+     * gets the names of all sub types in hierarchy of a given type name
+     * <p/>depends on SubTypesScanner configured
+     */
+    public Set<String> getSubTypeNamesOf(final String type) {
+        return store.getAll(SubTypesScanner.class, type);
+    }
+
+    /**
+     * gets the names of types annotated with a given annotation name, both classes and annotations, and their sub types.
+     * {@link java.lang.annotation.Inherited} is not honored, as in {@link #getTypesAnnotatedWith(Class)}
+     * <p/>depends on TypeAnnotationsScanner and SubTypesScanner configured
+     */
+    public Set<String> getTypeNamesAnnotatedWith(final String annotation) {
+        BitmapIndex bitmaps = store.getBitmapIndex();
+        if (bitmaps != null) {
+            return bitmaps.names(bitmaps.getAllAnnotatedWith(annotation));
+        }
+        Set<String> annotated = store.get(TypeAnnotationsScanner.class, annotation);
+        annotated.addAll(getAllAnnotated(annotated));
+        return annotated;
+    }
+
+    /**
+     * returns the modifiers of the given type as scanned, or -1 if it was not scanned, without loading it.
+     * use {@link java.lang.reflect.Modifier} and the {@link TypeModifiersScanner} constants to decode them
+     * <p/>depends on TypeModifiersScanner configured
+     */
+    public int getTypeModifiers(final String type) {
+        Set<String> modifiers = store.get(TypeModifiersScanner.class, type);
+        return !modifiers.isEmpty() ? Integer.parseInt(modifiers.iterator().next()) : -1;
+    }
+
+    /**
+     * returns a predicate over type names, accepting the types scanned with all the given modifiers,
+     * such as {@code withTypeModifiers(Modifier.PUBLIC | Modifier.FINAL)}. types which were not scanned are not accepted
+     * <p/>depends on TypeModifiersScanner configured
+     */
+    public Predicate<String> withTypeModifiers(final int modifiers) {
+        return type -> {
+            int typeModifiers = getTypeModifiers(type);
+            return typeModifiers != -1 && (typeModifiers & modifiers) == modifiers;
+        };
+    }
+
+    /**
+     * returns a predicate over type names, accepting the types scanned with none of the given modifiers,
+     * such as {@code withoutTypeModifiers(Modifier.INTERFACE | Modifier.ABSTRACT)} for concrete classes.
+     * types which were not scanned are not accepted
+     * <p/>depends on TypeModifiersScanner configured
+     */
+    public Predicate<String> withoutTypeModifiers(final int modifiers) {
+        return type -> {
+            int typeModifiers = getTypeModifiers(type);
+            return typeModifiers != -1 && (typeModifiers & modifiers) == 0;
+        };
+    }
+
+    /**
+     * gets the descriptors of all methods annotated with a given annotation name, such as {@code my.package.C.method(int)}
+     * <p/>depends on MethodAnnotationsScanner configured
+     */
+    public Set<String> getMethodNamesAnnotatedWith(final String annotation) {
+        return filter(store.get(MethodAnnotationsScanner.class, annotation), descriptor -> !isConstructor(descriptor));
+    }
+
+    /**
+     * gets the descriptors of methods with parameter type names matching given {@code types}, with arrays named as {@code int[]}
+     * <p/>depends on MethodParameterScanner configured
+     */
+    public Set<String> getMethodNamesMatchParams(final String... types) {
+        return filter(store.get(MethodParameterScanner.class, Arrays.asList(types).toString()), descriptor -> !isConstructor(descriptor));
+    }
+
+    /**
+     * gets the descriptors of methods with return type name matching given {@code returnType}
+     * <p/>depends on MethodParameterScanner configured
+     */
+    public Set<String> getMethodNamesReturn(final String returnType) {
+        return filter(store.get(MethodParameterScanner.class, returnType), descriptor -> !isConstructor(descriptor));
+    }
+
+    /**
+     * gets the descriptors of methods with any parameter annotated with given annotation name
+     * <p/>depends on MethodParameterScanner configured
+     */
+    public Set<String> getMethodNamesWithAnyParamAnnotated(final String annotation) {
+        return filter(store.get(MethodParameterScanner.class, annotation), descriptor -> !isConstructor(descriptor));
+    }
+
+    /**
+     * gets the descriptors of all constructors annotated with a given annotation name, such as {@code my.package.C.<init>(int)}
+     * <p/>depends on MethodAnnotationsScanner configured
+     */
+    public Set<String> getConstructorNamesAnnotatedWith(final String annotation) {
+        return filter(store.get(MethodAnnotationsScanner.class, annotation), Utils::isConstructor);
+    }
+
+    /**
+     * gets the descriptors of constructors with parameter type names matching given {@code types}
+     * <p/>depends on MethodParameterScanner configured
+     */
+    public Set<String> getConstructorNamesMatchParams(final String... types) {
+        return filter(store.get(MethodParameterScanner.class, Arrays.asList(types).toString()), Utils::isConstructor);
+    }
+
+    /**
+     * gets the descriptors of constructors with any parameter annotated with given annotation name
+     * <p/>depends on MethodParameterScanner configured
+     */
+    public Set<String> getConstructorNamesWithAnyParamAnnotated(final String annotation) {
+        return filter(store.get(MethodParameterScanner.class, annotation), Utils::isConstructor);
+    }
+
+    /**
+     * gets the descriptors of all fields annotated with a given annotation name, such as {@code my.package.C.field}
+     * <p/>depends on FieldAnnotationsScanner configured
+     */
+    public Set<String> getFieldNamesAnnotatedWith(final String annotation) {
+        return store.get(FieldAnnotationsScanner.class, annotation);
+    }
+
+    /**
+     * gets the parameter names of a given method or constructor descriptor, see {@link Utils#name(Method)}
+     * <p>depends on MethodParameterNamesScanner configured
+     */
+    public List<String> getParamNames(final String member) {
+        Set<String> names = store.get(MethodParameterNamesScanner.class, member);
+        return names.size() == 1 ? Arrays.asList(names.iterator().next().split(", ")) : Collections.emptyList();
+    }
+
+    /**
+     * gets the descriptors of the methods and constructors using a given field, method or constructor descriptor.
+     * the line numbers of each usage are kept in the store, see {@link #getStore()}
+     * <p>depends on MemberUsageScanner configured
+     */
+    public Set<String> getMemberUsageNames(final String member) {
+        Set<String> result = new HashSet<>();
+        for (String usage : store.get(MemberUsageScanner.class, member)) {
+            int line = usage.lastIndexOf(" #");
+            result.add(line != -1 ? usage.substring(0, line) : usage);
+        }
+        return result;
+    }
+
+    /**
+     * creates a compound query of types matching all given criteria, evaluated over the type names in the store
+     * before resolving only the matching types to classes, for example
+     * {@code reflections.query().subTypeOf(B.class).annotatedWith(A.class).withMemberAnnotated(C.class).classes()}
+     * <p>see {@link TypeQuery}
+     */
+    public TypeQuery query() {
+        return new TypeQuery(this);
+    }
+
     /**
      * get all types scanned. this is effectively similar to getting all subtypes of Object.
      * <p>depends on SubTypesScanner configured with {@code SubTypesScanner(false)}, otherwise {@code ReflectionsException} is thrown
@@ -679,6 +1586,14 @@ public class Reflections {
         return store;
     }
 
+    /**
+     * returns the per url {@link ScanMetrics} of the last parallel scan, in the order urls were scheduled,
+     * or an empty list if scanning was not done using an executor service
+     */
+    public List<ScanMetrics> getScanMetrics() {
+        return scanMetrics != null ? scanMetrics : Collections.emptyList();
+    }
+
     /**
      * returns the {@link org.reflections.Configuration} object of this instance
      */
@@ -0,0 +1,205 @@
+package org.reflections;
+
+import org.reflections.vfs.Vfs;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URL;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static org.reflections.Reflections.log;
+
+/**
+ * watches the class directories scanned by a {@link Reflections} instance with a {@link WatchService}, and applies created,
+ * modified and deleted files to its store in a background thread, notifying the listeners of each {@link StoreDelta}
+ * <pre>
+ * ReflectionsWatcher watcher = reflections.watch(delta -> routes.update(delta.getAdded(TypeAnnotationsScanner.class)));
+ * ...
+ * watcher.close();
+ * </pre>
+ * <p>events are collected until the directories are quiet for {@link #QUIET_MILLIS}, so that compiling many classes is applied
+ * as a single {@link Reflections#refresh(URL, Collection)}. if events were lost, the whole directory is refreshed incrementally.
+ * once started, the directories are refreshed once, so that changes made after the scan and before watching are applied as well.
+ * <p>queries are not synchronized with the background updates, and may see the store partially updated.
+ * <p>use {@link Reflections#watch(Consumer)} to create a watcher
+ */
+public class ReflectionsWatcher implements Closeable {
+    /** milliseconds without events after which collected events are applied */
+    public static final long QUIET_MILLIS = 50;
+
+    private final Reflections reflections;
+    private final List<Consumer<StoreDelta>> listeners = new CopyOnWriteArrayList<>();
+    private final WatchService watchService;
+    private final Map<WatchKey, Directory> directories = new ConcurrentHashMap<>();
+    private final List<URL> urls;
+    private final Thread thread;
+    private volatile boolean closed;
+
+    ReflectionsWatcher(Reflections reflections, List<URL> urls, Collection<Consumer<StoreDelta>> listeners) throws IOException {
+        this.reflections = reflections;
+        this.urls = urls;
+        this.listeners.addAll(listeners);
+        this.watchService = FileSystems.getDefault().newWatchService();
+        try {
+            for (URL url : urls) {
+                Path root = Vfs.getFile(url).toPath();
+                register(url, root, root);
+            }
+        } catch (IOException e) {
+            watchService.close();
+            throw e;
+        }
+        thread = new Thread(this::run, "reflections-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /** the class directory urls which are watched */
+    public List<URL> getUrls() {
+        return Collections.unmodifiableList(urls);
+    }
+
+    public void addListener(Consumer<StoreDelta> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<StoreDelta> listener) {
+        listeners.remove(listener);
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /** stops watching, waiting for the changes being applied, if any */
+    public void close() {
+        closed = true;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            if (log != null) log.warn("could not close watch service", e);
+        }
+        if (Thread.currentThread() != thread) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /** a watched directory of a class directory url */
+    private static class Directory {
+        private final URL url;
+        private final Path root;
+        private final Path path;
+
+        Directory(URL url, Path root, Path path) {
+            this.url = url;
+            this.root = root;
+            this.path = path;
+        }
+    }
+
+    /** registers the given directory and its sub directories */
+    private void register(URL url, Path root, Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : (Iterable<Path>) paths.filter(Files::isDirectory)::iterator) {
+                WatchKey key = path.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+                directories.put(key, new Directory(url, root, path));
+            }
+        }
+    }
+
+    private void run() {
+        apply(Collections.emptyMap(), new LinkedHashSet<>(urls));
+        try {
+            while (!closed) {
+                Map<URL, Set<String>> changed = new LinkedHashMap<>();
+                Set<URL> overflowed = new LinkedHashSet<>();
+                for (WatchKey key = watchService.take(); key != null; key = watchService.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS)) {
+                    collect(key, changed, overflowed);
+                }
+                apply(changed, overflowed);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            //closed
+        }
+    }
+
+    /** collects the paths of the events of the given key, relative to their class directory, registering created directories */
+    private void collect(WatchKey key, Map<URL, Set<String>> changed, Set<URL> overflowed) {
+        Directory directory = directories.get(key);
+        if (directory == null) return;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                overflowed.add(directory.url);
+                continue;
+            }
+            Path path = directory.path.resolve((Path) event.context());
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+                try {
+                    register(directory.url, directory.root, path);
+                } catch (IOException e) {
+                    if (log != null) log.warn("could not watch directory " + path, e);
+                    overflowed.add(directory.url);
+                }
+            }
+            changed.computeIfAbsent(directory.url, url -> new LinkedHashSet<>())
+                    .add(directory.root.relativize(path).toString().replace('\\', '/'));
+        }
+        if (!key.reset()) {
+            directories.remove(key);
+        }
+    }
+
+    /** refreshes the changed paths of each url, or the whole url if events were lost, notifying the listeners of each delta */
+    private void apply(Map<URL, Set<String>> changed, Set<URL> overflowed) {
+        List<StoreDelta> deltas = new ArrayList<>();
+        for (URL url : urls) {
+            Collection<String> paths = overflowed.contains(url) ? Collections.singleton("") : changed.get(url);
+            if (paths != null && !closed) {
+                try {
+                    deltas.add(reflections.refresh(url, paths));
+                } catch (RuntimeException e) {
+                    if (log != null) log.warn("could not refresh url " + url, e);
+                }
+            }
+        }
+        for (StoreDelta delta : deltas) {
+            if (!delta.isEmpty()) {
+                if (log != null) log.debug(delta.toString());
+                for (Consumer<StoreDelta> listener : listeners) {
+                    try {
+                        listener.accept(delta);
+                    } catch (RuntimeException e) {
+                        if (log != null) log.warn("reflections watcher listener failed", e);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package org.reflections;
+
+import org.reflections.scanners.AbstractScanner;
+import org.reflections.scanners.Scanner;
+import org.reflections.vfs.Vfs;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+/**
+ * an on disk cache of the scan results of jar files, so that jars which did not change since the last scan,
+ * such as third party dependencies, are loaded from the cache rather than opened and parsed again
+ * <pre>
+ * new Reflections(new ConfigurationBuilder()
+ *     .setUrls(ClasspathHelper.forJavaClassPath())
+ *     .setScanCache(new ScanCache(new File("build/reflections-cache"))));
+ * </pre>
+ * <p>the cache directory has a sub directory for each set of scanners, keyed by the metadata adapter and its options,
+ * the inputs filter, and the scanners along with their options and result filters. each jar url has a shard in it, keyed by the url,
+ * the jar size and last modified time, and optionally a CRC of the jar central directory. a shard holds the store entries
+ * produced by scanning the jar, and replaces older shards of the same url once written.
+ * <p>urls which are not jar files, such as class directories, are always scanned. filters which have no stable
+ * {@link Object#toString()}, such as lambdas, can not be told apart between runs, and disable the cache, as do scanners
+ * whose options can not be described, see {@link org.reflections.scanners.Scanner#getOptions()}.
+ * <p>see {@link Configuration#getScanCache()}
+ */
+public class ScanCache {
+    private static final int MAGIC = 0x52534331;
+    private static final String SHARD_SUFFIX = ".shard";
+    private static final int MAX_STRING_BYTES = 1 << 24;
+
+    private final File directory;
+    private final boolean checksum;
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    /** a scan cache in the given directory, keying jars by url, size and last modified time */
+    public ScanCache(File directory) {
+        this(directory, false);
+    }
+
+    /**
+     * a scan cache in the given directory, keying jars by url, size and last modified time,
+     * and if checksum is true, by the CRC of the jar central directory as well
+     */
+    public ScanCache(File directory, boolean checksum) {
+        this.directory = directory;
+        this.checksum = checksum;
+    }
+
+    public File getDirectory() {
+        return directory;
+    }
+
+    /** number of urls loaded from this cache */
+    public int getHits() {
+        return hits.get();
+    }
+
+    /** number of jar urls which were not in this cache, and were scanned */
+    public int getMisses() {
+        return misses.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s: %d hits, %d misses", getClass().getSimpleName(), directory, getHits(), getMisses());
+    }
+
+    /**
+     * returns the key of the scanners of the given configuration, which names the sub directory of their shards,
+     * or null if it has filters or options which have no stable description
+     */
+    String getScannersKey(Configuration configuration) {
+        StringBuilder description = new StringBuilder(configuration.getMetadataAdapter().getClass().getName());
+        if (!describe(description, configuration.getMetadataAdapter().getOptions())) return null;
+        if (!describe(description, configuration.getInputsFilter())) return null;
+        List<String> scanners = new ArrayList<>();
+        for (Scanner scanner : configuration.getScanners()) {
+            StringBuilder scannerDescription = new StringBuilder(scanner.getClass().getName());
+            if (!describe(scannerDescription, scanner.getOptions())) return null;
+            if (scanner instanceof AbstractScanner && !describe(scannerDescription, ((AbstractScanner) scanner).getResultFilter())) {
+                return null;
+            }
+            scanners.add(scannerDescription.toString());
+        }
+        Collections.sort(scanners); //scanners are a hash set, which is ordered by identity hash codes
+        for (String scanner : scanners) {
+            description.append('\n').append(scanner);
+        }
+        return hash(description.toString());
+    }
+
+    private static boolean describe(StringBuilder description, String options) {
+        if (options == null) return false;
+        description.append(" [").append(options).append(']');
+        return true;
+    }
+
+    private static boolean describe(StringBuilder description, Predicate<String> filter) {
+        if (filter == null) return true;
+        String string = filter.toString();
+        if (filter.getClass().isSynthetic() || string.equals(filter.getClass().getName() + "@" + Integer.toHexString(filter.hashCode()))) {
+            return false;
+        }
+        description.append(' ').append(filter.getClass().getName()).append(' ').append(string);
+        return true;
+    }
+
+    /** returns the shard of the given url, or null if it is not a jar file */
+    Shard getShard(String scannersKey, URL url) {
+        File file = Vfs.getFile(url);
+        if (file == null || !file.isFile()) return null;
+        String name = file.getName() + "-" + hash(url.toExternalForm()).substring(0, 16) + "-";
+        String fingerprint = url.toExternalForm() + "\n" + file.length() + "\n" + file.lastModified();
+        if (checksum) {
+            try {
+                fingerprint += "\n" + centralDirectoryCrc(file);
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        return new Shard(new File(new File(directory, scannersKey), name + hash(fingerprint).substring(0, 16) + SHARD_SUFFIX), name, fingerprint);
+    }
+
+    /** the CRC of the central directory of the given zip file, or of its last 64kb if the end of central directory is not found */
+    private static long centralDirectoryCrc(File file) throws IOException {
+        try (RandomAccessFile zip = new RandomAccessFile(file, "r")) {
+            long length = zip.length();
+            int tailLength = (int) Math.min(length, 0xFFFF + 22);
+            byte[] tail = new byte[tailLength];
+            zip.seek(length - tailLength);
+            zip.readFully(tail);
+            CRC32 crc = new CRC32();
+            for (int i = tailLength - 22; i >= 0; i--) {
+                if (tail[i] == 0x50 && tail[i + 1] == 0x4b && tail[i + 2] == 0x05 && tail[i + 3] == 0x06) {
+                    long size = littleEndianInt(tail, i + 12), offset = littleEndianInt(tail, i + 16);
+                    if (offset + size <= length && size <= Integer.MAX_VALUE) {
+                        byte[] centralDirectory = new byte[(int) size];
+                        zip.seek(offset);
+                        zip.readFully(centralDirectory);
+                        crc.update(centralDirectory);
+                        return crc.getValue();
+                    }
+                    break;
+                }
+            }
+            crc.update(tail);
+            return crc.getValue();
+        }
+    }
+
+    private static long littleEndianInt(byte[] bytes, int offset) {
+        return (bytes[offset] & 0xFFL) | (bytes[offset + 1] & 0xFFL) << 8 | (bytes[offset + 2] & 0xFFL) << 16 | (bytes[offset + 3] & 0xFFL) << 24;
+    }
+
+    private static String hash(String string) {
+        try {
+            StringBuilder hex = new StringBuilder();
+            for (byte b : MessageDigest.getInstance("SHA-1").digest(string.getBytes(StandardCharsets.UTF_8))) {
+                hex.append(String.format("%02x", b));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new ReflectionsException("could not hash scan cache key", e);
+        }
+    }
+
+    /** the cached scan results of a single jar url */
+    class Shard {
+        private final File file;
+        private final String prefix; //the file name prefix of all shards of the url
+        private final String fingerprint;
+
+        Shard(File file, String prefix, String fingerprint) {
+            this.file = file;
+            this.prefix = prefix;
+            this.fingerprint = fingerprint;
+        }
+
+        /** puts the cached entries into the given store, returning false if there are none for this fingerprint */
+        boolean load(Store store) throws IOException {
+            if (!file.isFile()) {
+                misses.incrementAndGet();
+                return false;
+            }
+            List<String[]> entries = new ArrayList<>();
+            try (DataInputStream input = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+                if (input.readInt() != MAGIC || !readString(input).equals(fingerprint)) {
+                    misses.incrementAndGet();
+                    return false;
+                }
+                for (int indices = input.readInt(); indices > 0; indices--) {
+                    String index = readString(input);
+                    for (int keys = input.readInt(); keys > 0; keys--) {
+                        String key = readString(input);
+                        for (int values = input.readInt(); values > 0; values--) {
+                            entries.add(new String[]{index, key, readString(input)});
+                        }
+                    }
+                }
+            } catch (IOException e) {
+                misses.incrementAndGet();
+                throw e;
+            }
+            for (String[] entry : entries) {
+                store.put(entry[0], entry[1], entry[2]);
+            }
+            hits.incrementAndGet();
+            return true;
+        }
+
+        /** writes the entries of the given store, which holds the scan results of this url only, replacing older shards of the url */
+        void save(Store store) throws IOException {
+            File parent = file.getParentFile();
+            if (!parent.isDirectory() && !parent.mkdirs() && !parent.isDirectory()) {
+                throw new IOException("could not create scan cache directory " + parent);
+            }
+            File temp = File.createTempFile(prefix, ".tmp", parent);
+            try {
+                try (DataOutputStream output = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+                    output.writeInt(MAGIC);
+                    writeString(output, fingerprint);
+                    List<String> indices = new ArrayList<>(store.keySet());
+                    output.writeInt(indices.size());
+                    for (String index : indices) {
+                        writeString(output, index);
+                        List<String> keys = new ArrayList<>(store.keys(index));
+                        output.writeInt(keys.size());
+                        for (String key : keys) {
+                            writeString(output, key);
+                            List<String> values = new ArrayList<>(store.get(index, key));
+                            output.writeInt(values.size());
+                            for (String value : values) {
+                                writeString(output, value);
+                            }
+                        }
+                    }
+                }
+                Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp.toPath());
+            }
+            File[] stale = parent.listFiles((dir, name) -> name.startsWith(prefix) && name.endsWith(SHARD_SUFFIX) && !name.equals(file.getName()));
+            if (stale != null) {
+                for (File shard : stale) {
+                    Files.deleteIfExists(shard.toPath());
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return file.toString();
+        }
+    }
+
+    private static String readString(DataInputStream input) throws IOException {
+        int length = input.readInt();
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new IOException("corrupt scan cache shard, string of " + length + " bytes");
+        }
+        byte[] bytes = new byte[length];
+        input.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(DataOutputStream output, String string) throws IOException {
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+}
@@ -1,10 +1,14 @@
 package org.reflections;
 
 import org.reflections.scanners.Scanner;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
 
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -20,19 +24,57 @@ import static org.reflections.util.Utils.index;
  * <p>use the different query methods (getXXX) to query the metadata
  * <p>the query methods are string based, and does not cause the class loader to define the types
  * <p>use {@link org.reflections.Reflections#getStore()} to access this store
+ * <p>a compact store, see {@link Configuration#shouldCompactStore()}, keeps keys and values as int ids of a symbol table
+ * shared by all indices, decoding them back to strings when queried
+ * <p>a store may be frozen once scanned, see {@link #freeze()}, so that queries take no locks,
+ * or may be frozen over indices read in place, see {@link #frozen(Map)}
+ * <p>transitive sub types queries may be answered from a precomputed {@link HierarchyIndex}, see {@link #indexHierarchy()}
+ * <p>types may be numbered into compressed bitmaps for large set algebra queries, see {@link #indexBitmaps()}
+ * <p>meta annotated types queries may be answered from a precomputed {@link MetaAnnotationGraph}, see {@link #indexMetaAnnotations()}
+ * <p>the entries put while scanning each source file may be tracked, so that they are removed by source file or url,
+ * see {@link Configuration#shouldTrackSources()} and {@link #removeSource(URL, String)}
  */
 public class Store {
 
     private final ConcurrentHashMap<String, Map<String, Collection<String>>> storeMap;
+    private transient volatile SymbolTable symbols;
+    private transient volatile boolean frozen;
+    private transient volatile HierarchyIndex hierarchy;
+    private transient volatile BitmapIndex bitmaps;
+    private transient volatile MetaAnnotationGraph metaAnnotations;
+    private final transient Map<String, Map<String, Source>> sources; //the sources of each url, by relative path, if tracked
+    private final transient ThreadLocal<List<String[]>> recording = new ThreadLocal<>(); //the entries put by the source being scanned
 
     protected Store(Configuration configuration) {
         storeMap = new ConcurrentHashMap<>();
+        symbols = configuration.shouldCompactStore() ? new SymbolTable() : null;
+        sources = configuration.shouldTrackSources() ? new ConcurrentHashMap<>() : null;
         for (Scanner scanner : configuration.getScanners()) {
             String index = index(scanner.getClass());
-            storeMap.computeIfAbsent(index, s -> new ConcurrentHashMap<>());
+            storeMap.computeIfAbsent(index, this::createIndex);
         }
     }
 
+    private Store(Map<String, Map<String, Collection<String>>> indices) {
+        storeMap = new ConcurrentHashMap<>(indices);
+        sources = null;
+        frozen = true;
+    }
+
+    /**
+     * returns a frozen store over the given immutable indices, by index name, such as the indices of a memory mapped file,
+     * see {@link org.reflections.serializers.BinarySerializer#map(java.io.File)}.
+     * <p>putting into it thaws it first, copying the indices into mutable ones
+     */
+    public static Store frozen(Map<String, Map<String, Collection<String>>> indices) {
+        return new Store(indices);
+    }
+
+    /** creates a multimap for an index, which is a {@link CompactIndex} over the shared symbol table in a compact store */
+    private Map<String, Collection<String>> createIndex(String index) {
+        return symbols != null ? new CompactIndex(symbols) : new ConcurrentHashMap<>();
+    }
+
     /** return all indices */
     public Set<String> keySet() {
         return storeMap.keySet();
@@ -78,6 +120,10 @@ public class Store {
     /** recursively get the values stored for the given {@code index} and {@code keys}, including keys */
     public Set<String> getAllIncluding(Class<?> scannerClass, Collection<String> keys) {
         String index = index(scannerClass);
+        HierarchyIndex hierarchy = this.hierarchy;
+        if (hierarchy != null && index.equals(index(SubTypesScanner.class))) {
+            return hierarchy.getAllIncluding(keys);
+        }
         Map<String, Collection<String>> mmap = get(index);
         List<String> workKeys = new ArrayList<>(keys);
 
@@ -120,12 +166,286 @@ public class Store {
     }
 
     public boolean put(String index, String key, String value) {
-        return storeMap.computeIfAbsent(index, s -> new ConcurrentHashMap<>())
-                .computeIfAbsent(key, s -> Collections.synchronizedList(new ArrayList<>()))
+        modify(index);
+        boolean added = put(storeMap.computeIfAbsent(index, this::createIndex), key, value);
+        List<String[]> entries = sources != null ? recording.get() : null;
+        if (added && entries != null) {
+            entries.add(new String[]{index, key, value});
+        }
+        return added;
+    }
+
+    /**
+     * removes one occurrence of the given value of the given key, and the key if it has no values left.
+     * returns false if there is no such value
+     */
+    public boolean remove(String index, String key, String value) {
+        modify(index);
+        Map<String, Collection<String>> mmap = storeMap.get(index);
+        if (mmap instanceof CompactIndex) {
+            return ((CompactIndex) mmap).remove(key, value);
+        }
+        boolean[] removed = new boolean[1];
+        if (mmap != null) {
+            mmap.computeIfPresent(key, (k, values) -> {
+                removed[0] = values.remove(value);
+                return values.isEmpty() ? null : values;
+            });
+        }
+        return removed[0];
+    }
+
+    /** thaws this store before it is modified, and drops the indices derived from the given index */
+    private void modify(String index) {
+        if (frozen) {
+            thaw();
+        }
+        if (hierarchy != null && index.equals(index(SubTypesScanner.class))) {
+            hierarchy = null;
+        }
+        if (bitmaps != null && (index.equals(index(SubTypesScanner.class)) || index.equals(index(TypeAnnotationsScanner.class)))) {
+            bitmaps = null;
+        }
+        if (metaAnnotations != null && index.equals(index(TypeAnnotationsScanner.class))) {
+            metaAnnotations = null;
+        }
+    }
+
+    private static boolean put(Map<String, Collection<String>> mmap, String key, String value) {
+        if (mmap instanceof CompactIndex) {
+            return ((CompactIndex) mmap).add(key, value);
+        }
+        return mmap.computeIfAbsent(key, s -> Collections.synchronizedList(new ArrayList<>()))
                 .add(value);
     }
 
+    /**
+     * freezes all indices into immutable arrays of sorted keys, values and offsets, see {@link FrozenIndex},
+     * so that queries take no locks and each index is a handful of arrays. equal strings are shared between indices,
+     * and the values arrays of a compact store are trimmed.
+     * <p>putting into a frozen store thaws it first, copying it back into mutable indices
+     * <p>see {@link Configuration#shouldFreezeStore()}
+     */
+    public synchronized void freeze() {
+        if (frozen) return;
+        SymbolTable frozenSymbols = symbols != null ? symbols.freeze() : null;
+        Map<String, String> canonical = new HashMap<>();
+        for (Map.Entry<String, Map<String, Collection<String>>> entry : storeMap.entrySet()) {
+            Map<String, Collection<String>> mmap = entry.getValue();
+            entry.setValue(mmap instanceof CompactIndex ? ((CompactIndex) mmap).freeze(frozenSymbols) : FrozenIndex.of(mmap, canonical));
+        }
+        symbols = frozenSymbols;
+        frozen = true;
+    }
+
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * builds the {@link HierarchyIndex} of the {@link SubTypesScanner} index, answering transitive sub types queries
+     * from then on, until a value is put into the sub types index.
+     * <p>returns the hierarchy index, or null if sub types were not scanned or have cycles
+     * <p>see {@link Configuration#shouldIndexHierarchy()}
+     */
+    public synchronized HierarchyIndex indexHierarchy() {
+        Map<String, Collection<String>> mmap = storeMap.get(index(SubTypesScanner.class));
+        hierarchy = mmap != null ? HierarchyIndex.of(mmap) : null;
+        return hierarchy;
+    }
+
+    /** returns the current hierarchy index, or null if there is none, see {@link #indexHierarchy()} */
+    public HierarchyIndex getHierarchyIndex() {
+        return hierarchy;
+    }
+
+    /**
+     * builds the {@link BitmapIndex} of the {@link SubTypesScanner} and {@link TypeAnnotationsScanner} indices,
+     * indexing the hierarchy first if needed, until a value is put into either index.
+     * <p>returns the bitmap index, or null if neither index was scanned, or sub types have cycles
+     * <p>see {@link Configuration#shouldIndexBitmaps()}
+     */
+    public synchronized BitmapIndex indexBitmaps() {
+        Map<String, Collection<String>> subTypes = storeMap.get(index(SubTypesScanner.class));
+        Map<String, Collection<String>> typeAnnotations = storeMap.get(index(TypeAnnotationsScanner.class));
+        HierarchyIndex hierarchy = subTypes != null ? this.hierarchy != null ? this.hierarchy : indexHierarchy() : null;
+        bitmaps = (subTypes == null || hierarchy != null) && (subTypes != null || typeAnnotations != null) ?
+                BitmapIndex.of(hierarchy, typeAnnotations) : null;
+        return bitmaps;
+    }
+
+    /** returns the current bitmap index, or null if there is none, see {@link #indexBitmaps()} */
+    public BitmapIndex getBitmapIndex() {
+        return bitmaps;
+    }
+
+    /**
+     * builds the {@link MetaAnnotationGraph} of the {@link TypeAnnotationsScanner} index, answering meta annotated types queries
+     * from then on, until a value is put into the type annotations index.
+     * <p>returns the meta annotation graph, or null if type annotations were not scanned
+     * <p>see {@link Configuration#shouldIndexMetaAnnotations()}
+     */
+    public synchronized MetaAnnotationGraph indexMetaAnnotations() {
+        Map<String, Collection<String>> mmap = storeMap.get(index(TypeAnnotationsScanner.class));
+        metaAnnotations = mmap != null ? MetaAnnotationGraph.of(mmap) : null;
+        return metaAnnotations;
+    }
+
+    /** returns the current meta annotation graph, or null if there is none, see {@link #indexMetaAnnotations()} */
+    public MetaAnnotationGraph getMetaAnnotationGraph() {
+        return metaAnnotations;
+    }
+
+    /**
+     * returns true if the given type is the given super type or one of its transitive sub types, without loading classes.
+     * uses the {@link HierarchyIndex}, indexing the hierarchy first if needed, see {@link HierarchyIndex#isSubType(String, String)}
+     */
+    public boolean isSubType(String type, String superType) {
+        return hierarchyIndex().isSubType(type, superType);
+    }
+
+    /** returns the direct super types of the given type as scanned, see {@link HierarchyIndex#getDirectSuperTypes(String)} */
+    public Set<String> getDirectSuperTypes(String type) {
+        return hierarchyIndex().getDirectSuperTypes(type);
+    }
+
+    /** returns the types which all the given types are sub types of, see {@link HierarchyIndex#getCommonSuperTypes(Collection)} */
+    public Set<String> getCommonSuperTypes(Collection<String> types) {
+        return hierarchyIndex().getCommonSuperTypes(types);
+    }
+
+    /** returns the hierarchy index, indexing the hierarchy first if needed, otherwise throws a {@link ReflectionsException} */
+    HierarchyIndex hierarchyIndex() {
+        HierarchyIndex hierarchy = this.hierarchy;
+        if (hierarchy == null) {
+            get(index(SubTypesScanner.class));
+            hierarchy = indexHierarchy();
+            if (hierarchy == null) {
+                throw new ReflectionsException("Could not index type hierarchy, sub types have cycles");
+            }
+        }
+        return hierarchy;
+    }
+
+    private synchronized void thaw() {
+        if (!frozen) return;
+        symbols = symbols != null ? symbols.thaw() : null;
+        for (Map.Entry<String, Map<String, Collection<String>>> entry : storeMap.entrySet()) {
+            Map<String, Collection<String>> mmap = createIndex(entry.getKey());
+            for (Map.Entry<String, Collection<String>> values : entry.getValue().entrySet()) {
+                for (String value : values.getValue()) {
+                    put(mmap, values.getKey(), value);
+                }
+            }
+            entry.setValue(mmap);
+        }
+        frozen = false;
+    }
+
+    //sources
+    /** the entries put while scanning a source file, and its last modified time when scanned */
+    static class Source {
+        final long lastModified;
+        final List<String[]> entries;
+
+        Source(long lastModified, List<String[]> entries) {
+            this.lastModified = lastModified;
+            this.entries = entries;
+        }
+    }
+
+    /** returns true if the entries put while scanning each source file are tracked, see {@link Configuration#shouldTrackSources()} */
+    public boolean isTrackingSources() {
+        return sources != null;
+    }
+
+    /** starts recording the entries put by the current thread as the entries of a source file, if sources are tracked */
+    void startSource() {
+        if (sources != null) {
+            recording.set(new ArrayList<>());
+        }
+    }
+
+    /**
+     * stops recording the entries put by the current thread, keeping them as the entries of the given source file of the given url,
+     * which was last modified at the given time, or -1 if not known
+     */
+    void endSource(URL url, String path, long lastModified) {
+        List<String[]> entries = sources != null ? recording.get() : null;
+        if (entries != null) {
+            recording.remove();
+            sources.computeIfAbsent(url.toExternalForm(), u -> new ConcurrentHashMap<>())
+                    .put(path, new Source(lastModified, entries.isEmpty() ? Collections.emptyList() : entries));
+        }
+    }
+
+    /** stops recording the entries put by the current thread, without keeping them */
+    void discardSource() {
+        if (sources != null) {
+            recording.remove();
+        }
+    }
+
+    /** returns the tracked source files of the given url, as relative paths mapped to their last modified time when scanned */
+    public Map<String, Long> getSources(URL url) {
+        Map<String, Source> urlSources = sources != null ? sources.get(url.toExternalForm()) : null;
+        Map<String, Long> result = new HashMap<>();
+        if (urlSources != null) {
+            urlSources.forEach((path, source) -> result.put(path, source.lastModified));
+        }
+        return result;
+    }
+
+    /**
+     * removes the entries put while scanning the given source file of the given url, returning the number of entries removed.
+     * entries which were put by other sources as well are removed once for each source.
+     * <p>depends on {@link Configuration#shouldTrackSources()}
+     */
+    public int removeSource(URL url, String path) {
+        List<String[]> removed = removeSourceEntries(url, path);
+        return removed != null ? removed.size() : 0;
+    }
+
+    /** removes the entries put while scanning the given source file of the given url, returning them, or null if there is no such source */
+    List<String[]> removeSourceEntries(URL url, String path) {
+        Map<String, Source> urlSources = sources != null ? sources.get(url.toExternalForm()) : null;
+        Source source = urlSources != null ? urlSources.remove(path) : null;
+        if (source == null) return null;
+        List<String[]> removed = new ArrayList<>();
+        for (String[] entry : source.entries) {
+            if (remove(entry[0], entry[1], entry[2])) removed.add(entry);
+        }
+        return removed;
+    }
+
+    /** returns the entries put while scanning the given source file of the given url, or an empty list if there is no such source */
+    List<String[]> getSourceEntries(URL url, String path) {
+        Map<String, Source> urlSources = sources != null ? sources.get(url.toExternalForm()) : null;
+        Source source = urlSources != null ? urlSources.get(path) : null;
+        return source != null ? source.entries : Collections.emptyList();
+    }
+
+    /**
+     * removes the entries put while scanning any source file of the given url, returning the number of entries removed
+     * <p>depends on {@link Configuration#shouldTrackSources()}
+     */
+    public int removeSources(URL url) {
+        Map<String, Source> urlSources = sources != null ? sources.remove(url.toExternalForm()) : null;
+        int removed = 0;
+        if (urlSources != null) {
+            for (Source source : urlSources.values()) {
+                for (String[] entry : source.entries) {
+                    if (remove(entry[0], entry[1], entry[2])) removed++;
+                }
+            }
+        }
+        return removed;
+    }
+
     void merge(Store store) {
+        if (store != null && sources != null && store.sources != null) {
+            store.sources.forEach((url, urlSources) -> sources.computeIfAbsent(url, u -> new ConcurrentHashMap<>()).putAll(urlSources));
+        }
         if (store != null) {
             for (String indexName : store.keySet()) {
                 Map<String, Collection<String>> index = store.get(indexName);
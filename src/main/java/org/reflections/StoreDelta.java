@@ -0,0 +1,117 @@
+package org.reflections;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.reflections.util.Utils.index;
+
+/**
+ * the store entries put and removed by rescanning source files, such as the sub types added to a super type,
+ * or the types added to or removed from an annotation key
+ * <p>an entry which was removed and put again, by a source file which was modified without changing it, is not part of the delta.
+ * super types expanded after rescanning are not part of the delta either.
+ * <p>see {@link Reflections#refresh(java.net.URL, java.util.Collection)} and {@link ReflectionsWatcher}
+ */
+public class StoreDelta {
+    private final int files;
+    private final Map<String, Map<String, Set<String>>> added;
+    private final Map<String, Map<String, Set<String>>> removed;
+
+    private StoreDelta(int files, Map<String, Map<String, Set<String>>> added, Map<String, Map<String, Set<String>>> removed) {
+        this.files = files;
+        this.added = added;
+        this.removed = removed;
+    }
+
+    /** number of source files rescanned or removed */
+    public int getFiles() {
+        return files;
+    }
+
+    /** returns true if no entries were put or removed */
+    public boolean isEmpty() {
+        return added.isEmpty() && removed.isEmpty();
+    }
+
+    /** returns the values put into each key of the given index */
+    public Map<String, Set<String>> getAdded(String index) {
+        return added.getOrDefault(index, Collections.emptyMap());
+    }
+
+    /** returns the values put into each key of the given scanner index, such as the sub types put into each super type */
+    public Map<String, Set<String>> getAdded(Class<?> scannerClass) {
+        return getAdded(index(scannerClass));
+    }
+
+    /** returns the values removed from each key of the given index */
+    public Map<String, Set<String>> getRemoved(String index) {
+        return removed.getOrDefault(index, Collections.emptyMap());
+    }
+
+    /** returns the values removed from each key of the given scanner index, such as the types no longer annotated with each annotation */
+    public Map<String, Set<String>> getRemoved(Class<?> scannerClass) {
+        return getRemoved(index(scannerClass));
+    }
+
+    /** returns the keys of the given scanner index which had values put or removed */
+    public Set<String> getChangedKeys(Class<?> scannerClass) {
+        Set<String> result = new LinkedHashSet<>(getAdded(scannerClass).keySet());
+        result.addAll(getRemoved(scannerClass).keySet());
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d files, %d entries added, %d entries removed",
+                getClass().getSimpleName(), files, count(added), count(removed));
+    }
+
+    private static int count(Map<String, Map<String, Set<String>>> entries) {
+        return entries.values().stream().flatMap(keys -> keys.values().stream()).mapToInt(Set::size).sum();
+    }
+
+    /** collects the entries removed and put by rescanning source files, cancelling out the entries which were both */
+    static class Builder {
+        private final Map<List<String>, Integer> counts = new LinkedHashMap<>();
+        private int files;
+
+        void removed(List<String[]> entries) {
+            for (String[] entry : entries) {
+                counts.merge(Arrays.asList(entry), -1, Integer::sum);
+            }
+        }
+
+        void added(List<String[]> entries) {
+            for (String[] entry : entries) {
+                counts.merge(Arrays.asList(entry), 1, Integer::sum);
+            }
+        }
+
+        void file() {
+            files++;
+        }
+
+        int getFiles() {
+            return files;
+        }
+
+        StoreDelta build() {
+            Map<String, Map<String, Set<String>>> added = new HashMap<>();
+            Map<String, Map<String, Set<String>>> removed = new HashMap<>();
+            for (Map.Entry<List<String>, Integer> entry : counts.entrySet()) {
+                if (entry.getValue() != 0) {
+                    List<String> key = entry.getKey();
+                    (entry.getValue() > 0 ? added : removed).computeIfAbsent(key.get(0), index -> new LinkedHashMap<>())
+                            .computeIfAbsent(key.get(1), k -> new LinkedHashSet<>()).add(key.get(2));
+                }
+            }
+            return new StoreDelta(files, added, removed);
+        }
+    }
+}
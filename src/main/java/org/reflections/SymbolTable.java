@@ -0,0 +1,404 @@
+package org.reflections;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * a dictionary of strings, encoding each string as an int id, shared by the indices of a compact {@link Store}
+ * <p>strings are stored as a parent id and a suffix, where the parent is the string up to the last separator, so that
+ * packages, classes and members names share their common prefixes. for example {@code com.foo.Bar.method(int)} is stored as
+ * the suffix {@code .method(int)} of {@code com.foo.Bar}, which is stored as the suffix {@code .Bar} of {@code com.foo}, and so on.
+ * the parameters list of a member is stored as a string of its own, referenced by id from the member suffix,
+ * so that equal parameters lists are shared as well.
+ * <p>suffixes are kept utf8 encoded in byte arrays, so that no object is allocated per string, and are encoded and decoded
+ * in per thread scratch buffers, which refer to a table by its serial number only, so that they do not keep discarded tables in memory.
+ * <p>a symbol table is thread safe. it is split into stripes by hash, each locked on its own, so that parallel scans interning
+ * strings rarely wait for each other. a frozen copy of it, see {@link #freeze()}, is read only and is read without locking.
+ */
+class SymbolTable {
+    private static final int NO_PARENT = -1;
+    private static final int REFERENCE = 0xff; //never used by utf8, followed by a 4 bytes id
+    private static final int STRIPE_BITS = 4;
+    private static final int STRIPE_MASK = (1 << STRIPE_BITS) - 1;
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+    private static final AtomicLong SERIALS = new AtomicLong();
+
+    private final long serial = SERIALS.incrementAndGet();
+    private final boolean frozen;
+    private final Stripe[] stripes; //an id is the position in its stripe, followed by the stripe in the low bits
+
+    SymbolTable() {
+        frozen = false;
+        stripes = new Stripe[STRIPE_MASK + 1];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    private SymbolTable(SymbolTable symbols, boolean frozen) {
+        this.frozen = frozen;
+        stripes = new Stripe[symbols.stripes.length];
+        for (int i = 0; i < stripes.length; i++) {
+            Stripe stripe = symbols.stripes[i];
+            synchronized (stripe) {
+                stripes[i] = new Stripe(stripe, frozen);
+            }
+        }
+    }
+
+    /** returns a read only copy of this table with trimmed arrays, keeping the same ids */
+    SymbolTable freeze() {
+        return frozen ? this : new SymbolTable(this, true);
+    }
+
+    /** returns a mutable copy of this table, keeping the same ids */
+    SymbolTable thaw() {
+        return new SymbolTable(this, false);
+    }
+
+    /** returns the id of the given string, adding it if not present */
+    int id(String string) {
+        if (frozen) throw new IllegalStateException("symbol table is frozen");
+        return id(string, 0, string.length(), true, BUFFERS.get());
+    }
+
+    /** returns the id of the given string, or -1 if not present */
+    int find(String string) {
+        return id(string, 0, string.length(), false, BUFFERS.get());
+    }
+
+    /** returns the string of the given id */
+    String string(int id) {
+        Buffers buffers = BUFFERS.get();
+        int length = copy(id, buffers);
+        byte[] decoded = buffers.decoded;
+        String string = null;
+        for (int i = 0; i < length && string == null; i++) {
+            if (decoded[i] < 0) {
+                string = decode(decoded, length, buffers);
+            }
+        }
+        if (string == null) string = new String(decoded, 0, length, StandardCharsets.ISO_8859_1);
+        buffers.trim();
+        return string;
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            if (frozen) {
+                size += stripe.size;
+            } else {
+                synchronized (stripe) {
+                    size += stripe.size;
+                }
+            }
+        }
+        return size;
+    }
+
+    /**
+     * copies the bytes of the given id into the decoded buffer, returns their length.
+     * the parents of the previous string copied by this thread are kept in the buffer along with their end offsets,
+     * so that only the components following a common parent are copied, such as the member name of a member of the same class.
+     */
+    private int copy(int id, Buffers buffers) {
+        if (buffers.table != serial) {
+            buffers.table = serial;
+            buffers.depth = 0;
+        }
+        int pending = 0;
+        int common = -1;
+        for (int current = id; current != NO_PARENT; current = parent(current)) {
+            common = buffers.indexOf(current);
+            if (common != -1) break;
+            if (pending == buffers.pending.length) buffers.pending = Arrays.copyOf(buffers.pending, pending * 2);
+            buffers.pending[pending++] = current;
+        }
+        int depth = common + 1;
+        int offset = common != -1 ? buffers.ends[common] : 0;
+        while (pending > 0) {
+            int component = buffers.pending[--pending];
+            offset = copy(component, offset, buffers);
+            if (depth == buffers.ids.length) {
+                buffers.ids = Arrays.copyOf(buffers.ids, depth * 2);
+                buffers.ends = Arrays.copyOf(buffers.ends, depth * 2);
+            }
+            buffers.ids[depth] = component;
+            buffers.ends[depth++] = offset;
+        }
+        buffers.depth = depth;
+        return offset;
+    }
+
+    /** copies the suffix of the given id into the decoded buffer from the given offset, expanding its reference, returns the end offset */
+    private int copy(int id, int offset, Buffers buffers) {
+        Stripe stripe = stripes[id & STRIPE_MASK];
+        int position = id >>> STRIPE_BITS;
+        if (frozen) {
+            offset = stripe.copy(position, offset, buffers);
+        } else {
+            synchronized (stripe) {
+                offset = stripe.copy(position, offset, buffers);
+            }
+        }
+        int reference = buffers.reference; //a parameters list, which has no parent
+        return reference != NO_PARENT ? copy(reference, offset, buffers) : offset;
+    }
+
+    private int parent(int id) {
+        Stripe stripe = stripes[id & STRIPE_MASK];
+        if (frozen) return stripe.parents[id >>> STRIPE_BITS];
+        synchronized (stripe) {
+            return stripe.parents[id >>> STRIPE_BITS];
+        }
+    }
+
+    /** decodes the given encoded chars, used for non ascii strings */
+    private static String decode(byte[] decoded, int length, Buffers buffers) {
+        if (length > buffers.chars.length) {
+            buffers.chars = new char[Math.max(buffers.chars.length * 2, length)];
+        }
+        char[] chars = buffers.chars;
+        int count = 0;
+        for (int i = 0; i < length; ) {
+            int b = decoded[i++] & 0xff;
+            if (b < 0x80) {
+                chars[count++] = (char) b;
+            } else if ((b & 0xe0) == 0xc0) {
+                chars[count++] = (char) (((b & 0x1f) << 6) | (decoded[i++] & 0x3f));
+            } else {
+                chars[count++] = (char) (((b & 0x0f) << 12) | ((decoded[i++] & 0x3f) << 6) | (decoded[i++] & 0x3f));
+            }
+        }
+        return new String(chars, 0, count);
+    }
+
+    /**
+     * returns the id of the given range of the given string, or -1 if not present and not added.
+     * usage locations such as {@code a.B.m() #12} are split before the line number, members before their name,
+     * and names before each '.', '$' or '/' separator.
+     */
+    private int id(String string, int start, int end, boolean add, Buffers buffers) {
+        int line = string.lastIndexOf(" #", end - 2);
+        if (line > start) {
+            int parent = id(string, start, line, add, buffers);
+            return parent != -1 ? id(parent, string, line, end, NO_PARENT, add, buffers) : -1;
+        }
+
+        int paren = string.indexOf('(', start);
+        int nameEnd = paren != -1 && paren < end ? paren : end;
+        int parent = NO_PARENT;
+        int from = start;
+        for (int i = start + 1; i < nameEnd; i++) {
+            char c = string.charAt(i);
+            if (c == '.' || c == '$' || c == '/') {
+                parent = id(parent, string, from, i, NO_PARENT, add, buffers);
+                if (parent == -1) return -1;
+                from = i;
+            }
+        }
+        if (nameEnd < end && nameEnd > from) {
+            int parameters = id(NO_PARENT, string, nameEnd, end, NO_PARENT, add, buffers);
+            return parameters != -1 ? id(parent, string, from, nameEnd, parameters, add, buffers) : -1;
+        }
+        return id(parent, string, from, end, NO_PARENT, add, buffers);
+    }
+
+    /** returns the id of the given parent and suffix, which is the given chars range followed by the given parameters id if any */
+    private int id(int parent, String string, int start, int end, int parameters, boolean add, Buffers buffers) {
+        int length = encode(string, start, end, parameters, buffers);
+        int hash = hash(parent, buffers.suffix, 0, length);
+        Stripe stripe = stripes[hash & STRIPE_MASK];
+        int position;
+        if (frozen) {
+            position = stripe.find(parent, buffers.suffix, length, hash >>> STRIPE_BITS);
+        } else {
+            synchronized (stripe) {
+                position = add ? stripe.add(parent, buffers.suffix, length, hash >>> STRIPE_BITS) :
+                        stripe.find(parent, buffers.suffix, length, hash >>> STRIPE_BITS);
+            }
+        }
+        return position != -1 ? position << STRIPE_BITS | hash & STRIPE_MASK : -1;
+    }
+
+    /** encodes the given chars range into the suffix buffer, followed by a reference to the given parameters id if any, returns its length */
+    private static int encode(String string, int start, int end, int parameters, Buffers buffers) {
+        if (3 * (end - start) + 5 > buffers.suffix.length) {
+            buffers.suffix = new byte[3 * (end - start) + 5];
+        }
+        byte[] suffix = buffers.suffix;
+        int offset = 0;
+        for (int i = start; i < end; i++) {
+            char c = string.charAt(i);
+            if (c > 0 && c < 0x80) {
+                suffix[offset++] = (byte) c;
+            } else if (c < 0x800) {
+                suffix[offset++] = (byte) (0xc0 | (c >> 6));
+                suffix[offset++] = (byte) (0x80 | (c & 0x3f));
+            } else {
+                suffix[offset++] = (byte) (0xe0 | (c >> 12));
+                suffix[offset++] = (byte) (0x80 | ((c >> 6) & 0x3f));
+                suffix[offset++] = (byte) (0x80 | (c & 0x3f));
+            }
+        }
+        if (parameters != NO_PARENT) {
+            suffix[offset++] = (byte) REFERENCE;
+            suffix[offset++] = (byte) (parameters >>> 24);
+            suffix[offset++] = (byte) (parameters >>> 16);
+            suffix[offset++] = (byte) (parameters >>> 8);
+            suffix[offset++] = (byte) parameters;
+        }
+        return offset;
+    }
+
+    private static int hash(int parent, byte[] bytes, int start, int end) {
+        int hash = parent * 31;
+        for (int i = start; i < end; i++) {
+            hash = hash * 31 + bytes[i];
+        }
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int readInt(byte[] bytes, int offset) {
+        return ((bytes[offset] & 0xff) << 24) | ((bytes[offset + 1] & 0xff) << 16) | ((bytes[offset + 2] & 0xff) << 8) | (bytes[offset + 3] & 0xff);
+    }
+
+    /** the strings of a hash stripe, as parents and suffixes in a single byte array, with an open addressing hash table */
+    private static class Stripe {
+        private int[] parents;
+        private int[] offsets;
+        private byte[] bytes;
+        private int size;
+        private int[] table; //open addressing hash table of position + 1, 0 for empty slots
+
+        Stripe() {
+            parents = new int[64];
+            offsets = new int[65];
+            bytes = new byte[1024];
+            table = new int[128];
+        }
+
+        Stripe(Stripe stripe, boolean frozen) {
+            size = stripe.size;
+            parents = Arrays.copyOf(stripe.parents, frozen ? size : stripe.parents.length);
+            offsets = Arrays.copyOf(stripe.offsets, frozen ? size + 1 : stripe.offsets.length);
+            bytes = Arrays.copyOf(stripe.bytes, frozen ? stripe.offsets[size] : stripe.bytes.length);
+            table = stripe.table.clone();
+        }
+
+        /** returns the position of the given parent and suffix, or -1 if not present */
+        int find(int parent, byte[] suffix, int length, int hash) {
+            int mask = table.length - 1;
+            for (int slot = hash & mask, entry; (entry = table[slot]) != 0; slot = (slot + 1) & mask) {
+                int position = entry - 1;
+                if (parents[position] == parent && equals(position, suffix, length)) {
+                    return position;
+                }
+            }
+            return -1;
+        }
+
+        /** returns the position of the given parent and suffix, adding it if not present */
+        int add(int parent, byte[] suffix, int length, int hash) {
+            int mask = table.length - 1;
+            int slot = hash & mask;
+            for (int entry; (entry = table[slot]) != 0; slot = (slot + 1) & mask) {
+                int position = entry - 1;
+                if (parents[position] == parent && equals(position, suffix, length)) {
+                    return position;
+                }
+            }
+            if (size + 1 == offsets.length) {
+                int capacity = size + (size >> 1) + 16;
+                parents = Arrays.copyOf(parents, capacity);
+                offsets = Arrays.copyOf(offsets, capacity + 1);
+            }
+            int offset = offsets[size];
+            if (offset + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length + (bytes.length >> 1), offset + length));
+            }
+            System.arraycopy(suffix, 0, bytes, offset, length);
+            int position = size++;
+            parents[position] = parent;
+            offsets[position + 1] = offset + length;
+            table[slot] = position + 1;
+            if (size * 4 > table.length * 3) {
+                rehash();
+            }
+            return position;
+        }
+
+        /**
+         * copies the suffix chars of the given position into the decoded buffer from the given offset, returns the end offset,
+         * and sets the reference of the buffers to the referenced parameters id, if any
+         */
+        int copy(int position, int offset, Buffers buffers) {
+            int start = offsets[position], end = offsets[position + 1];
+            buffers.reference = NO_PARENT;
+            if (end - start >= 5 && bytes[end - 5] == (byte) REFERENCE) {
+                buffers.reference = readInt(bytes, end - 4);
+                end -= 5;
+            }
+            if (offset + end - start > buffers.decoded.length) {
+                buffers.decoded = Arrays.copyOf(buffers.decoded, Math.max(buffers.decoded.length * 2, offset + end - start));
+            }
+            System.arraycopy(bytes, start, buffers.decoded, offset, end - start);
+            return offset + end - start;
+        }
+
+        private boolean equals(int position, byte[] suffix, int length) {
+            int start = offsets[position];
+            if (offsets[position + 1] - start != length) return false;
+            for (int i = 0; i < length; i++) {
+                if (bytes[start + i] != suffix[i]) return false;
+            }
+            return true;
+        }
+
+        private void rehash() {
+            int[] table = new int[this.table.length * 2];
+            int mask = table.length - 1;
+            for (int position = 0; position < size; position++) {
+                int slot = hash(parents[position], bytes, offsets[position], offsets[position + 1]) >>> STRIPE_BITS & mask;
+                while (table[slot] != 0) {
+                    slot = (slot + 1) & mask;
+                }
+                table[slot] = position + 1;
+            }
+            this.table = table;
+        }
+    }
+
+    /** per thread scratch buffers, for encoding a suffix and decoding a string */
+    private static class Buffers {
+        private static final int MAX_LENGTH = 1 << 14; //larger buffers, grown by an unusually long string, are not kept
+        byte[] suffix = new byte[256];
+        byte[] decoded = new byte[256];
+        char[] chars = new char[256];
+        int reference;
+        int[] pending = new int[16]; //the components of the string being copied, from the last one
+        long table; //the serial number of the table of the previous string copied
+        int[] ids = new int[16]; //the components of the previous string copied, from the first one
+        int[] ends = new int[16]; //the end offset of each of these components in the decoded buffer
+        int depth;
+
+        /** returns the depth of the given id among the components of the previous string copied, or -1 */
+        int indexOf(int id) {
+            for (int i = depth - 1; i >= 0; i--) {
+                if (ids[i] == id) return i;
+            }
+            return -1;
+        }
+
+        /** drops the decoding buffers grown over the max length, along with the components of the previous string copied */
+        void trim() {
+            if (decoded.length > MAX_LENGTH || chars.length > MAX_LENGTH) {
+                decoded = new byte[256];
+                chars = new char[256];
+                depth = 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package org.reflections;
+
+import org.reflections.scanners.FieldAnnotationsScanner;
+import org.reflections.scanners.MethodAnnotationsScanner;
+import org.reflections.util.Bitmap;
+import org.reflections.vfs.Vfs;
+
+import java.lang.annotation.Annotation;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import static org.reflections.ReflectionUtils.forNames;
+import static org.reflections.util.Utils.index;
+
+/**
+ * a compound query of types matching all given criteria, evaluated over the store's type names before loading any class
+ * <pre>
+ * Set&lt;Class&lt;?&gt;&gt; types = reflections.query()
+ *     .subTypeOf(Service.class)
+ *     .annotatedWith(Component.class)
+ *     .withMemberAnnotated(Inject.class)
+ *     .classes();
+ * </pre>
+ * <p>the most selective criterion, the one expected to match the fewest types, produces the candidate type names,
+ * and each candidate is then tested by the other criteria, cheapest test first. sub type tests use the {@link HierarchyIndex},
+ * and only the names of the final result are resolved to classes, see {@link #classes()}
+ * <p>if the store has a {@link BitmapIndex}, the sub types and annotated types criteria are evaluated by intersecting their bitmaps instead
+ * <p>use {@link Reflections#query()} to create a query
+ */
+public class TypeQuery {
+    private final Reflections reflections;
+    private final Store store;
+    private final List<Criterion> criteria = new ArrayList<>();
+
+    TypeQuery(Reflections reflections) {
+        this.reflections = reflections;
+        this.store = reflections.getStore();
+    }
+
+    /**
+     * matches the transitive sub types of the given type, not including it, as {@link Reflections#getSubTypesOf(Class)}
+     * <p/>depends on SubTypesScanner configured
+     */
+    public TypeQuery subTypeOf(String type) {
+        criteria.add(new SubTypeOf(type));
+        return this;
+    }
+
+    /** see {@link #subTypeOf(String)} */
+    public TypeQuery subTypeOf(Class<?> type) {
+        return subTypeOf(type.getName());
+    }
+
+    /**
+     * matches the types annotated with the given annotation and their sub types, as {@link Reflections#getTypesAnnotatedWith(Class)}
+     * <p/>depends on TypeAnnotationsScanner and SubTypesScanner configured
+     */
+    public TypeQuery annotatedWith(String annotation) {
+        criteria.add(new AnnotatedWith(annotation));
+        return this;
+    }
+
+    /** see {@link #annotatedWith(String)} */
+    public TypeQuery annotatedWith(Class<? extends Annotation> annotation) {
+        return annotatedWith(annotation.getName());
+    }
+
+    /** matches the types in the given package or in its sub packages */
+    public TypeQuery inPackage(String packageName) {
+        criteria.add(new InPackage(packageName));
+        return this;
+    }
+
+    /**
+     * matches the types declaring a method, constructor or field annotated with the given annotation
+     * <p/>depends on MethodAnnotationsScanner or FieldAnnotationsScanner configured
+     */
+    public TypeQuery withMemberAnnotated(String annotation) {
+        criteria.add(new WithMemberAnnotated(annotation));
+        return this;
+    }
+
+    /** see {@link #withMemberAnnotated(String)} */
+    public TypeQuery withMemberAnnotated(Class<? extends Annotation> annotation) {
+        return withMemberAnnotated(annotation.getName());
+    }
+
+    /**
+     * matches the types whose class file is in the given jar or directory url, such as one of {@link Configuration#getUrls()},
+     * including types shadowed by another url of the class path. these are the tracked source files of the url if sources are tracked,
+     * see {@link Store#getSources(URL)}, and otherwise the class files listed in the url and accepted by the inputs filter
+     */
+    public TypeQuery fromUrl(URL url) {
+        criteria.add(new FromUrl(url));
+        return this;
+    }
+
+    /** returns the names of the types matching all criteria, or all scanned types if there are no criteria */
+    public Set<String> names() {
+        List<Criterion> criteria = new ArrayList<>(this.criteria);
+        Set<String> candidates = intersectBitmaps(criteria);
+        if (candidates == null) {
+            Generator generator = null;
+            long estimate = Long.MAX_VALUE;
+            for (Criterion criterion : criteria) {
+                if (criterion instanceof Generator && (generator == null || ((Generator) criterion).estimate() < estimate)) {
+                    generator = (Generator) criterion;
+                    estimate = generator.estimate();
+                }
+            }
+            criteria.remove(generator);
+            candidates = generator != null ? generator.candidates() : reflections.getAllTypes();
+        }
+        criteria.sort(Comparator.comparingInt(criterion -> criterion.cost));
+
+        Set<String> result = new LinkedHashSet<>();
+        for (String type : candidates) {
+            if (criteria.stream().allMatch(criterion -> criterion.test(type))) {
+                result.add(type);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * intersects the bitmaps of the criteria which have one, if the store has a {@link BitmapIndex} and at least one of them
+     * produces candidates, removing these criteria from the given criteria. returns the names of the intersection, or null
+     */
+    private Set<String> intersectBitmaps(List<Criterion> criteria) {
+        BitmapIndex bitmaps = store.getBitmapIndex();
+        if (bitmaps == null || criteria.stream().noneMatch(criterion -> criterion instanceof SubTypeOf || criterion instanceof AnnotatedWith)) {
+            return null;
+        }
+        List<Bitmap> intersected = new ArrayList<>();
+        for (Iterator<Criterion> iterator = criteria.iterator(); iterator.hasNext(); ) {
+            Bitmap bitmap = iterator.next().bitmap(bitmaps);
+            if (bitmap != null) {
+                intersected.add(bitmap);
+                iterator.remove();
+            }
+        }
+        intersected.sort(Comparator.comparingInt(Bitmap::cardinality));
+        Bitmap result = intersected.get(0);
+        for (int i = 1; i < intersected.size() && !result.isEmpty(); i++) {
+            result = result.and(intersected.get(i));
+        }
+        return bitmaps.names(result);
+    }
+
+    /** returns the classes of the types matching all criteria, resolved lazily, see {@link ReflectionUtils#forNames(java.util.Collection, ClassLoader...)} */
+    public Set<Class<?>> classes() {
+        return forNames(names(), reflections.getConfiguration().getClassLoaders());
+    }
+
+    /** a query criterion, which tests a type name */
+    private abstract static class Criterion {
+        final int cost; //the relative cost of testing a type
+
+        Criterion(int cost) {
+            this.cost = cost;
+        }
+
+        abstract boolean test(String type);
+
+        /** returns the bitmap of the matching types, or null if the criterion can not be evaluated by the given bitmap index */
+        Bitmap bitmap(BitmapIndex bitmaps) {
+            return null;
+        }
+    }
+
+    /** a query criterion which may produce its matching type names as well */
+    private abstract static class Generator extends Criterion {
+        Generator(int cost) {
+            super(cost);
+        }
+
+        /** returns the expected number of matching types */
+        abstract long estimate();
+
+        abstract Set<String> candidates();
+    }
+
+    /** a criterion testing types by the membership of its candidates, which are collected once */
+    private abstract static class Candidates extends Generator {
+        private Set<String> candidates;
+
+        Candidates() {
+            super(2);
+        }
+
+        abstract Set<String> collect();
+
+        long estimate() {
+            return candidates().size();
+        }
+
+        Set<String> candidates() {
+            if (candidates == null) {
+                candidates = collect();
+            }
+            return candidates;
+        }
+
+        boolean test(String type) {
+            return candidates().contains(type);
+        }
+    }
+
+    private class SubTypeOf extends Generator {
+        private final String type;
+
+        SubTypeOf(String type) {
+            super(1);
+            this.type = type;
+        }
+
+        long estimate() {
+            return store.hierarchyIndex().countSubTypes(type);
+        }
+
+        Set<String> candidates() {
+            return reflections.getSubTypeNamesOf(type);
+        }
+
+        boolean test(String type) {
+            return !this.type.equals(type) && store.isSubType(type, this.type);
+        }
+
+        Bitmap bitmap(BitmapIndex bitmaps) {
+            return bitmaps.getAllIncluding(type).andNot(bitmaps.of(Collections.singleton(type)));
+        }
+    }
+
+    private class AnnotatedWith extends Candidates {
+        private final String annotation;
+
+        AnnotatedWith(String annotation) {
+            this.annotation = annotation;
+        }
+
+        Set<String> collect() {
+            return reflections.getTypeNamesAnnotatedWith(annotation);
+        }
+
+        Bitmap bitmap(BitmapIndex bitmaps) {
+            return bitmaps.getAllAnnotatedWith(annotation);
+        }
+    }
+
+    private class WithMemberAnnotated extends Candidates {
+        private final String annotation;
+
+        WithMemberAnnotated(String annotation) {
+            this.annotation = annotation;
+        }
+
+        Set<String> collect() {
+            boolean methods = store.keySet().contains(index(MethodAnnotationsScanner.class));
+            boolean fields = store.keySet().contains(index(FieldAnnotationsScanner.class));
+            if (!methods && !fields) {
+                throw new ReflectionsException("Scanner " + index(MethodAnnotationsScanner.class) + " or " +
+                        index(FieldAnnotationsScanner.class) + " was not configured");
+            }
+            Set<String> result = new HashSet<>();
+            if (methods) {
+                for (String descriptor : store.get(MethodAnnotationsScanner.class, annotation)) {
+                    result.add(descriptor.substring(0, descriptor.lastIndexOf('.', descriptor.indexOf('('))));
+                }
+            }
+            if (fields) {
+                for (String descriptor : store.get(FieldAnnotationsScanner.class, annotation)) {
+                    result.add(descriptor.substring(0, descriptor.lastIndexOf('.')));
+                }
+            }
+            return result;
+        }
+    }
+
+    private static class InPackage extends Criterion {
+        private final String prefix;
+
+        InPackage(String packageName) {
+            super(0);
+            this.prefix = packageName.endsWith(".") ? packageName : packageName + ".";
+        }
+
+        boolean test(String type) {
+            return type.startsWith(prefix);
+        }
+    }
+
+    private class FromUrl extends Candidates {
+        private final URL url;
+
+        FromUrl(URL url) {
+            this.url = url;
+        }
+
+        Set<String> collect() {
+            Set<String> paths = store.getSources(url).keySet();
+            if (paths.isEmpty()) {
+                paths = new HashSet<>();
+                Predicate<String> inputsFilter = reflections.getConfiguration().getInputsFilter();
+                Vfs.Dir dir = Vfs.fromURL(url);
+                try {
+                    for (Vfs.File file : dir.getFiles()) {
+                        String path = file.getRelativePath();
+                        if (inputsFilter == null || inputsFilter.test(path) || inputsFilter.test(path.replace('/', '.'))) {
+                            paths.add(path);
+                        }
+                    }
+                } finally {
+                    dir.close();
+                }
+            }
+            Set<String> result = new HashSet<>();
+            for (String path : paths) {
+                if (path.endsWith(".class") && !path.endsWith("-info.class")) { //not package-info or module-info
+                    result.add(path.substring(0, path.length() - ".class".length()).replace('/', '.'));
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package org.reflections.adapters;
+
+import javassist.ClassPath;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.NotFoundException;
+import org.reflections.util.Utils;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * a javassist {@link ClassPool} caching classes up to a given number of bytes, evicting least recently used classes first
+ * <p>the size of a cached class is its class file size, measured once its class file was read through a class path
+ * appended or inserted as a {@link ClassPath} object. primitive types are always cached.
+ * <p>a bounded class pool is not thread safe and is meant to be used by a single thread, without locking,
+ * while its metrics may be read from any thread.
+ */
+public class BoundedClassPool extends ClassPool {
+    private final long maxBytes;
+    private final LinkedHashMap<String, CachedClass> cache = new LinkedHashMap<>(64, 0.75f, true);
+
+    private volatile long retainedBytes;
+    private volatile long hits;
+    private volatile long misses;
+    private volatile long evictions;
+
+    /** @param maxBytes the maximal class file bytes of the cached classes */
+    public BoundedClassPool(long maxBytes) {
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    protected CtClass getCached(String classname) {
+        CachedClass cached = cache.get(classname);
+        if (cached != null) {
+            hits++;
+            return cached.ctClass;
+        }
+        CtClass ctClass = super.getCached(classname);
+        if (ctClass == null) {
+            misses++;
+        }
+        return ctClass;
+    }
+
+    @Override
+    protected void cacheCtClass(String classname, CtClass c, boolean dynamic) {
+        CachedClass cached = cache.put(classname, new CachedClass(c));
+        if (cached != null) {
+            retainedBytes -= cached.bytes;
+        }
+    }
+
+    @Override
+    protected CtClass removeCached(String classname) {
+        CachedClass cached = cache.remove(classname);
+        if (cached != null) {
+            retainedBytes -= cached.bytes;
+            return cached.ctClass;
+        }
+        return super.removeCached(classname);
+    }
+
+    @Override
+    public ClassPath insertClassPath(ClassPath cp) {
+        return super.insertClassPath(new MeasuringClassPath(cp));
+    }
+
+    @Override
+    public ClassPath appendClassPath(ClassPath cp) {
+        return super.appendClassPath(new MeasuringClassPath(cp));
+    }
+
+    private void measured(String classname, int bytes) {
+        CachedClass cached = cache.get(classname);
+        if (cached != null) {
+            retainedBytes += bytes - cached.bytes;
+            cached.bytes = bytes;
+            evict();
+        }
+    }
+
+    private void evict() {
+        Iterator<CachedClass> iterator = cache.values().iterator();
+        while (retainedBytes > maxBytes && iterator.hasNext()) {
+            CachedClass eldest = iterator.next();
+            iterator.remove();
+            retainedBytes -= eldest.bytes;
+            evictions++;
+        }
+    }
+
+    //
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    /** class file bytes of the currently cached classes */
+    public long getRetainedBytes() {
+        return retainedBytes;
+    }
+
+    /** number of cached classes, excluding primitive types */
+    public int getCachedClasses() {
+        return cache.size();
+    }
+
+    /** number of lookups answered from the cache */
+    public long getHits() {
+        return hits;
+    }
+
+    /** number of lookups not answered from the cache */
+    public long getMisses() {
+        return misses;
+    }
+
+    /** number of classes evicted from the cache to keep it within its bound */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /** hits to lookups ratio, or 0 if there were no lookups */
+    public double getHitRate() {
+        long hits = this.hits, lookups = hits + misses;
+        return lookups != 0 ? (double) hits / lookups : 0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d classes, %d/%d bytes, %d hits, %d misses, %d evictions",
+                getClass().getSimpleName(), getCachedClasses(), retainedBytes, maxBytes, hits, misses, evictions);
+    }
+
+    private static class CachedClass {
+        final CtClass ctClass;
+        int bytes;
+
+        CachedClass(CtClass ctClass) {
+            this.ctClass = ctClass;
+        }
+    }
+
+    /** a class path recording the size of the class files read through it */
+    private class MeasuringClassPath implements ClassPath {
+        private final ClassPath classPath;
+
+        MeasuringClassPath(ClassPath classPath) {
+            this.classPath = classPath;
+        }
+
+        public InputStream openClassfile(String classname) throws NotFoundException {
+            InputStream inputStream = classPath.openClassfile(classname);
+            if (inputStream == null) return null;
+            byte[] bytes;
+            try {
+                bytes = Utils.readAllBytes(inputStream);
+            } catch (IOException e) {
+                throw new NotFoundException(classname, e);
+            } finally {
+                Utils.close(inputStream);
+            }
+            measured(classname, bytes.length);
+            return new ByteArrayInputStream(bytes);
+        }
+
+        public URL find(String classname) {
+            return classPath.find(classname);
+        }
+
+        @Override
+        public String toString() {
+            return classPath.toString();
+        }
+    }
+}
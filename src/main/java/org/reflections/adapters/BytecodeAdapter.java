@@ -0,0 +1,141 @@
+package org.reflections.adapters;
+
+import org.reflections.ReflectionsException;
+import org.reflections.util.Utils;
+import org.reflections.vfs.Vfs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+
+import static org.reflections.util.Utils.join;
+
+/**
+ * a dependency free metadata adapter, reading class files directly using {@link BytecodeClass}
+ * <p>only the constant pool and the class header are read when creating the class object,
+ * anything else is decoded only when requested by the configured scanners, and method code is never decoded.
+ * <p>it can be used instead of the {@link JavassistAdapter} for scanners that rely only on the {@link MetadataAdapter} methods.
+ * <p>usage:
+ * <pre>
+ *     new Reflections(new ConfigurationBuilder().setMetadataAdapter(new BytecodeAdapter())...)
+ * </pre>
+ */
+public class BytecodeAdapter implements MetadataAdapter<BytecodeClass, BytecodeMember, BytecodeMember> {
+
+    /**setting this to false will result in returning only visible annotations from the relevant methods here (only {@link java.lang.annotation.RetentionPolicy#RUNTIME})*/
+    public static boolean includeInvisibleTag = true;
+
+    public String getClassName(final BytecodeClass cls) {
+        return cls.getName();
+    }
+
+    public String getSuperclassName(final BytecodeClass cls) {
+        return cls.getSuperclassName();
+    }
+
+    public List<String> getInterfacesNames(final BytecodeClass cls) {
+        return cls.getInterfaceNames();
+    }
+
+    public List<BytecodeMember> getFields(final BytecodeClass cls) {
+        return cls.getFields();
+    }
+
+    public List<BytecodeMember> getMethods(final BytecodeClass cls) {
+        return cls.getMethods();
+    }
+
+    public String getMethodName(final BytecodeMember method) {
+        return method.getName();
+    }
+
+    public List<String> getParameterNames(final BytecodeMember method) {
+        return method.getParameterTypeNames();
+    }
+
+    public List<String> getClassAnnotationNames(final BytecodeClass aClass) {
+        return aClass.getAnnotationNames(includeInvisibleTag);
+    }
+
+    public List<String> getFieldAnnotationNames(final BytecodeMember field) {
+        return field.getAnnotationNames(includeInvisibleTag);
+    }
+
+    public List<String> getMethodAnnotationNames(final BytecodeMember method) {
+        return method.getAnnotationNames(includeInvisibleTag);
+    }
+
+    public Map<String, Map<String, String>> getClassAnnotationValues(final BytecodeClass aClass) {
+        return aClass.getAnnotationValues(includeInvisibleTag);
+    }
+
+    public Map<String, Map<String, String>> getFieldAnnotationValues(final BytecodeMember field) {
+        return field.getAnnotationValues(includeInvisibleTag);
+    }
+
+    public Map<String, Map<String, String>> getMethodAnnotationValues(final BytecodeMember method) {
+        return method.getAnnotationValues(includeInvisibleTag);
+    }
+
+    public List<String> getParameterAnnotationNames(final BytecodeMember method, final int parameterIndex) {
+        return method.getParameterAnnotationNames(parameterIndex, includeInvisibleTag);
+    }
+
+    public String getReturnTypeName(final BytecodeMember method) {
+        return method.getReturnTypeName();
+    }
+
+    public String getFieldName(final BytecodeMember field) {
+        return field.getName();
+    }
+
+    public BytecodeClass getOrCreateClassObject(final Vfs.File file) {
+        InputStream inputStream = null;
+        try {
+            inputStream = file.openInputStream();
+            return BytecodeClass.read(inputStream, Vfs.estimateSize(file));
+        } catch (IOException e) {
+            throw new ReflectionsException("could not create class file from " + file.getName(), e);
+        } finally {
+            Utils.close(inputStream);
+        }
+    }
+
+    public String getMethodModifier(BytecodeMember method) {
+        int accessFlags = method.getAccessFlags();
+        return Modifier.isPrivate(accessFlags) ? "private" :
+               Modifier.isProtected(accessFlags) ? "protected" :
+               Modifier.isPublic(accessFlags) ? "public" : "";
+    }
+
+    public int getClassAccessFlags(BytecodeClass aClass) {
+        return aClass.getAccessFlags();
+    }
+
+    public String getMethodKey(BytecodeClass cls, BytecodeMember method) {
+        return getMethodName(method) + "(" + join(getParameterNames(method), ", ") + ")";
+    }
+
+    public String getMethodFullKey(BytecodeClass cls, BytecodeMember method) {
+        return getClassName(cls) + "." + getMethodKey(cls, method);
+    }
+
+    public boolean isPublic(Object o) {
+        Integer accessFlags =
+                o instanceof BytecodeClass ? ((BytecodeClass) o).getAccessFlags() :
+                o instanceof BytecodeMember ? ((BytecodeMember) o).getAccessFlags() : null;
+
+        return accessFlags != null && Modifier.isPublic(accessFlags);
+    }
+
+    public boolean acceptsInput(String file) {
+        return file.endsWith(".class");
+    }
+
+    @Override
+    public String getOptions() {
+        return "includeInvisibleTag=" + includeInvisibleTag;
+    }
+}
@@ -0,0 +1,609 @@
+package org.reflections.adapters;
+
+import org.reflections.ReflectionsException;
+import org.reflections.util.Utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import static org.reflections.util.AnnotationValues.encodeArray;
+import static org.reflections.util.AnnotationValues.encodeChar;
+import static org.reflections.util.AnnotationValues.encodeClass;
+import static org.reflections.util.AnnotationValues.encodeEnum;
+import static org.reflections.util.AnnotationValues.encodeString;
+
+/**
+ * a minimal, read only view over the bytes of a java class file
+ * <p>only the constant pool entry offsets and the class header (access flags, this class, super class and interfaces) are
+ * read eagerly. fields, methods and attributes are located on demand by skipping over the preceding structures,
+ * constant pool utf8 entries are decoded on first use, and code attributes are decoded only when visiting a method's references
+ * using {@link BytecodeMember#visitReferences(BytecodeMember.ReferenceVisitor)}.
+ * <p>instances are not thread safe, and are meant to be used by a single scanning thread.
+ * <p>see <a href="https://docs.oracle.com/javase/specs/jvms/se17/html/jvms-4.html">The class File Format</a>
+ */
+public class BytecodeClass {
+    public static final int MAGIC = 0xCAFEBABE;
+
+    //constant pool tags
+    public static final int UTF8 = 1;
+    public static final int INTEGER = 3;
+    public static final int FLOAT = 4;
+    public static final int LONG = 5;
+    public static final int DOUBLE = 6;
+    public static final int CLASS = 7;
+    public static final int STRING = 8;
+    public static final int FIELD_REF = 9;
+    public static final int METHOD_REF = 10;
+    public static final int INTERFACE_METHOD_REF = 11;
+    public static final int NAME_AND_TYPE = 12;
+    public static final int METHOD_HANDLE = 15;
+    public static final int METHOD_TYPE = 16;
+    public static final int DYNAMIC = 17;
+    public static final int INVOKE_DYNAMIC = 18;
+    public static final int MODULE = 19;
+    public static final int PACKAGE = 20;
+
+    public static final String RUNTIME_VISIBLE_ANNOTATIONS = "RuntimeVisibleAnnotations";
+    public static final String RUNTIME_INVISIBLE_ANNOTATIONS = "RuntimeInvisibleAnnotations";
+    public static final String RUNTIME_VISIBLE_PARAMETER_ANNOTATIONS = "RuntimeVisibleParameterAnnotations";
+    public static final String RUNTIME_INVISIBLE_PARAMETER_ANNOTATIONS = "RuntimeInvisibleParameterAnnotations";
+    public static final String CODE = "Code";
+    public static final String LINE_NUMBER_TABLE = "LineNumberTable";
+
+    //member reference opcodes
+    public static final int GETSTATIC = 0xb2;
+    public static final int PUTSTATIC = 0xb3;
+    public static final int GETFIELD = 0xb4;
+    public static final int PUTFIELD = 0xb5;
+    public static final int INVOKEVIRTUAL = 0xb6;
+    public static final int INVOKESPECIAL = 0xb7;
+    public static final int INVOKESTATIC = 0xb8;
+    public static final int INVOKEINTERFACE = 0xb9;
+    public static final int NEW = 0xbb;
+
+    /** instruction lengths by opcode, or 0 for the variable length tableswitch, lookupswitch and wide instructions */
+    private static final byte[] INSTRUCTION_LENGTHS = new byte[256];
+
+    static {
+        Arrays.fill(INSTRUCTION_LENGTHS, (byte) 1);
+        for (int opcode : new int[]{0x10, 0x12, 0x15, 0x16, 0x17, 0x18, 0x19, 0x36, 0x37, 0x38, 0x39, 0x3a, 0xa9, 0xbc}) {
+            INSTRUCTION_LENGTHS[opcode] = 2; //bipush, ldc, loads, stores, ret, newarray
+        }
+        for (int opcode = 0x99; opcode <= 0xa8; opcode++) {
+            INSTRUCTION_LENGTHS[opcode] = 3; //if*, goto, jsr
+        }
+        for (int opcode = GETSTATIC; opcode <= INVOKESTATIC; opcode++) {
+            INSTRUCTION_LENGTHS[opcode] = 3;
+        }
+        for (int opcode : new int[]{0x11, 0x13, 0x14, 0x84, NEW, 0xbd, 0xc0, 0xc1, 0xc6, 0xc7}) {
+            INSTRUCTION_LENGTHS[opcode] = 3; //sipush, ldc_w, ldc2_w, iinc, new, anewarray, checkcast, instanceof, ifnull, ifnonnull
+        }
+        INSTRUCTION_LENGTHS[0xc5] = 4; //multianewarray
+        for (int opcode : new int[]{INVOKEINTERFACE, 0xba, 0xc8, 0xc9}) {
+            INSTRUCTION_LENGTHS[opcode] = 5; //invokeinterface, invokedynamic, goto_w, jsr_w
+        }
+        INSTRUCTION_LENGTHS[0xaa] = 0; //tableswitch
+        INSTRUCTION_LENGTHS[0xab] = 0; //lookupswitch
+        INSTRUCTION_LENGTHS[0xc4] = 0; //wide
+    }
+
+    final byte[] bytes;
+    private final int[] offsets;
+    private final String[] utf8s;
+    private final int accessFlags;
+    private final int thisClass;
+    private final int superClass;
+    private final int interfacesOffset;
+    private final int interfacesCount;
+    private final int fieldsOffset;
+
+    private List<BytecodeMember> fields;
+    private List<BytecodeMember> methods;
+    private int attributesOffset = -1;
+
+    public BytecodeClass(byte[] bytes) {
+        this.bytes = bytes;
+        if (bytes.length < 10 || u4(0) != MAGIC) {
+            throw new ReflectionsException("not a class file");
+        }
+
+        int count = u2(8);
+        offsets = new int[count];
+        utf8s = new String[count];
+        int offset = 10;
+        for (int i = 1; i < count; i++) {
+            offsets[i] = offset;
+            int tag = u1(offset);
+            switch (tag) {
+                case UTF8: offset += 3 + u2(offset + 1); break;
+                case INTEGER: case FLOAT: case FIELD_REF: case METHOD_REF: case INTERFACE_METHOD_REF:
+                case NAME_AND_TYPE: case DYNAMIC: case INVOKE_DYNAMIC: offset += 5; break;
+                case LONG: case DOUBLE: offset += 9; i++; break;
+                case CLASS: case STRING: case METHOD_TYPE: case MODULE: case PACKAGE: offset += 3; break;
+                case METHOD_HANDLE: offset += 4; break;
+                default: throw new ReflectionsException("unknown constant pool tag " + tag + " at " + offset);
+            }
+        }
+
+        accessFlags = u2(offset);
+        thisClass = u2(offset + 2);
+        superClass = u2(offset + 4);
+        interfacesCount = u2(offset + 6);
+        interfacesOffset = offset + 8;
+        fieldsOffset = interfacesOffset + 2 * interfacesCount;
+    }
+
+    /** reads the given input stream fully into a new {@link BytecodeClass} */
+    public static BytecodeClass read(InputStream inputStream) throws IOException {
+        return new BytecodeClass(Utils.readAllBytes(inputStream));
+    }
+
+    /** reads the given input stream fully into a new {@link BytecodeClass}, given the expected size in bytes or -1 if not known */
+    public static BytecodeClass read(InputStream inputStream, long size) throws IOException {
+        return new BytecodeClass(readBytes(inputStream, size));
+    }
+
+    /** reads the given input stream fully, given the expected size in bytes or -1 if not known */
+    public static byte[] readBytes(InputStream inputStream, long size) throws IOException {
+        if (size <= 0 || size > Integer.MAX_VALUE) {
+            return Utils.readAllBytes(inputStream);
+        }
+        byte[] bytes = new byte[(int) size];
+        int n = 0;
+        for (int read; n < bytes.length && (read = inputStream.read(bytes, n, bytes.length - n)) != -1; ) {
+            n += read;
+        }
+        if (n < bytes.length || inputStream.read() != -1) {
+            throw new IOException("unexpected class file size, expected " + size + " bytes");
+        }
+        return bytes;
+    }
+
+    public int getAccessFlags() {
+        return accessFlags;
+    }
+
+    public String getName() {
+        return getClassName(thisClass);
+    }
+
+    /** returns the super class name, or null for {@link Object} and for module descriptors */
+    public String getSuperclassName() {
+        return superClass != 0 ? getClassName(superClass) : null;
+    }
+
+    public List<String> getInterfaceNames() {
+        List<String> names = new ArrayList<>(interfacesCount);
+        for (int i = 0; i < interfacesCount; i++) {
+            names.add(getClassName(u2(interfacesOffset + 2 * i)));
+        }
+        return names;
+    }
+
+    public List<BytecodeMember> getFields() {
+        if (fields == null) {
+            fields = readMembers(fieldsOffset);
+        }
+        return fields;
+    }
+
+    public List<BytecodeMember> getMethods() {
+        if (methods == null) {
+            methods = readMembers(skipMembers(fieldsOffset));
+        }
+        return methods;
+    }
+
+    /** returns the offset of the class attributes count */
+    int getAttributesOffset() {
+        if (attributesOffset == -1) {
+            attributesOffset = skipMembers(skipMembers(fieldsOffset));
+        }
+        return attributesOffset;
+    }
+
+    /** returns the annotation type names of this class, visible first, and invisible ones if {@code includeInvisible} */
+    public List<String> getAnnotationNames(boolean includeInvisible) {
+        return getAnnotationNames(getAttributesOffset(), includeInvisible);
+    }
+
+    /**
+     * returns the encoded element values given explicitly to the annotations of this class, by annotation type name and element name,
+     * visible first, and invisible ones if {@code includeInvisible}. see {@link #readElementValue(int)}
+     */
+    public Map<String, Map<String, String>> getAnnotationValues(boolean includeInvisible) {
+        return getAnnotationValues(getAttributesOffset(), includeInvisible);
+    }
+
+    //constant pool
+    /** returns the number of constant pool slots, including the unused slot 0 */
+    public int getConstantPoolSize() {
+        return offsets.length;
+    }
+
+    /** returns the tag of the constant pool entry at the given index, or 0 for unused slots */
+    public int getTag(int index) {
+        return offsets[index] != 0 ? u1(offsets[index]) : 0;
+    }
+
+    /** returns the offset of the first byte after the tag of the constant pool entry at the given index */
+    public int getEntryOffset(int index) {
+        return offsets[index] + 1;
+    }
+
+    /** returns the decoded (modified utf8) string of the utf8 constant pool entry at the given index */
+    public String getUtf8(int index) {
+        String utf8 = utf8s[index];
+        if (utf8 == null) {
+            int offset = offsets[index];
+            utf8s[index] = utf8 = decodeUtf8(offset + 3, u2(offset + 1));
+        }
+        return utf8;
+    }
+
+    /** returns the value of the integer constant pool entry at the given index, which is also used for boolean, byte, char and short constants */
+    public int getInt(int index) {
+        return u4(offsets[index] + 1);
+    }
+
+    /** returns the value of the long constant pool entry at the given index */
+    public long getLong(int index) {
+        return ((long) u4(offsets[index] + 1) << 32) | (u4(offsets[index] + 5) & 0xffffffffL);
+    }
+
+    /** returns true if the utf8 constant pool entry at the given index equals the given ascii string, without decoding it */
+    public boolean utf8Equals(int index, String ascii) {
+        int offset = offsets[index];
+        int length = u2(offset + 1);
+        if (length != ascii.length()) return false;
+        for (int i = 0; i < length; i++) {
+            if (bytes[offset + 3 + i] != ascii.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * returns true if the given predicate accepts any of the type names referenced from the constant pool,
+     * either by class entries (such as the super class and interfaces) or by type descriptor utf8 entries (such as annotation types).
+     * <p>this reads the constant pool only, and is used to skip classes before parsing them any further.
+     * array types referenced by class entries are not tested.
+     */
+    public boolean referencesType(Predicate<String> predicate) {
+        for (int i = 1; i < offsets.length; i++) {
+            int offset = offsets[i];
+            if (offset == 0) continue;
+            int tag = u1(offset);
+            if (tag == CLASS) {
+                int nameOffset = offsets[u2(offset + 1)];
+                if (u2(nameOffset + 1) > 0 && u1(nameOffset + 3) != '[' && predicate.test(getClassName(i))) {
+                    return true;
+                }
+            } else if (tag == UTF8) {
+                int length = u2(offset + 1);
+                if (length > 2 && u1(offset + 3) == 'L' && u1(offset + 2 + length) == ';') {
+                    String descriptor = getUtf8(i);
+                    if (predicate.test(descriptor.substring(1, descriptor.length() - 1).replace('/', '.'))) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    /** returns the java name (with '.' separators) of the class constant pool entry at the given index */
+    public String getClassName(int classIndex) {
+        return getUtf8(u2(offsets[classIndex] + 1)).replace('/', '.');
+    }
+
+    /** returns the java name of the class of the field, method or interface method reference constant pool entry at the given index */
+    public String getRefClassName(int refIndex) {
+        return getClassName(u2(offsets[refIndex] + 1));
+    }
+
+    /** returns the member name of the field, method or interface method reference constant pool entry at the given index */
+    public String getRefName(int refIndex) {
+        return getUtf8(u2(offsets[u2(offsets[refIndex] + 3)] + 1));
+    }
+
+    /** returns the member descriptor of the field, method or interface method reference constant pool entry at the given index */
+    public String getRefDescriptor(int refIndex) {
+        return getUtf8(u2(offsets[u2(offsets[refIndex] + 3)] + 3));
+    }
+
+    //code
+    /** visits the member references of the code attribute at the given offset, in a single pass over its instructions */
+    void visitReferences(int codeOffset, BytecodeMember.ReferenceVisitor visitor) {
+        int codeLength = u4(codeOffset + 4);
+        int code = codeOffset + 8;
+        int exceptionsOffset = code + codeLength;
+        int lineNumbers = findAttribute(exceptionsOffset + 2 + 8 * u2(exceptionsOffset), LINE_NUMBER_TABLE);
+        int lineCount = lineNumbers != -1 ? u2(lineNumbers) : 0;
+        int lineIndex = 0;
+
+        int pc = 0;
+        while (pc < codeLength) {
+            int opcode = u1(code + pc);
+            if (opcode >= GETSTATIC && opcode <= INVOKEINTERFACE) {
+                while (lineIndex + 1 < lineCount && u2(lineNumbers + 2 + 4 * (lineIndex + 1)) <= pc) {
+                    lineIndex++;
+                }
+                visitor.visit(opcode, u2(code + pc + 1), lineCount > 0 ? u2(lineNumbers + 4 + 4 * lineIndex) : -1);
+            }
+
+            int length = INSTRUCTION_LENGTHS[opcode];
+            if (length == 0) {
+                if (opcode == 0xc4) { //wide
+                    length = u1(code + pc + 1) == 0x84 ? 6 : 4;
+                } else {
+                    int operands = code + pc + 1 + ((4 - (pc + 1) % 4) % 4); //4 byte aligned to the code start
+                    length = opcode == 0xaa ?
+                            operands + 12 + 4 * (u4(operands + 8) - u4(operands + 4) + 1) - (code + pc) : //tableswitch
+                            operands + 8 + 8 * u4(operands + 4) - (code + pc); //lookupswitch
+                }
+            }
+            pc += length;
+        }
+    }
+
+    //attributes
+    /**
+     * returns the offset of the info of the first attribute with the given name,
+     * in the attributes table starting at the given offset, or -1 if there is no such attribute
+     */
+    int findAttribute(int attributesOffset, String name) {
+        int count = u2(attributesOffset);
+        int offset = attributesOffset + 2;
+        for (int i = 0; i < count; i++) {
+            if (utf8Equals(u2(offset), name)) {
+                return offset + 6;
+            }
+            offset += 6 + u4(offset + 2);
+        }
+        return -1;
+    }
+
+    List<String> getAnnotationNames(int attributesOffset, boolean includeInvisible) {
+        int visible = findAttribute(attributesOffset, RUNTIME_VISIBLE_ANNOTATIONS);
+        int invisible = includeInvisible ? findAttribute(attributesOffset, RUNTIME_INVISIBLE_ANNOTATIONS) : -1;
+        if (visible == -1 && invisible == -1) {
+            return Collections.emptyList();
+        }
+        List<String> names = new ArrayList<>();
+        if (visible != -1) readAnnotationNames(visible, names);
+        if (invisible != -1) readAnnotationNames(invisible, names);
+        return names;
+    }
+
+    /** reads the type names of an annotations table (num_annotations, annotations) at the given offset, returns the end offset */
+    int readAnnotationNames(int offset, List<String> names) {
+        int count = u2(offset);
+        offset += 2;
+        for (int i = 0; i < count; i++) {
+            names.add(toTypeName(getUtf8(u2(offset))));
+            offset = skipAnnotation(offset);
+        }
+        return offset;
+    }
+
+    Map<String, Map<String, String>> getAnnotationValues(int attributesOffset, boolean includeInvisible) {
+        int visible = findAttribute(attributesOffset, RUNTIME_VISIBLE_ANNOTATIONS);
+        int invisible = includeInvisible ? findAttribute(attributesOffset, RUNTIME_INVISIBLE_ANNOTATIONS) : -1;
+        if (visible == -1 && invisible == -1) {
+            return Collections.emptyMap();
+        }
+        Map<String, Map<String, String>> annotations = new LinkedHashMap<>();
+        if (visible != -1) readAnnotationValues(visible, annotations);
+        if (invisible != -1) readAnnotationValues(invisible, annotations);
+        return annotations;
+    }
+
+    /** reads the encoded element values of an annotations table (num_annotations, annotations) at the given offset, by annotation type name and element name */
+    private void readAnnotationValues(int offset, Map<String, Map<String, String>> annotations) {
+        int count = u2(offset);
+        offset += 2;
+        for (int i = 0; i < count; i++) {
+            Map<String, String> values = new LinkedHashMap<>();
+            annotations.put(toTypeName(getUtf8(u2(offset))), values);
+            int pairs = u2(offset + 2);
+            offset += 4;
+            for (int j = 0; j < pairs; j++) {
+                String value = readElementValue(offset + 2);
+                if (value != null) values.put(getUtf8(u2(offset)), value);
+                offset = skipElementValue(offset + 2);
+            }
+        }
+    }
+
+    /**
+     * returns the element_value structure at the given offset, encoded as {@link org.reflections.util.AnnotationValues#encode(Object)},
+     * or null for nested annotations and arrays of nested annotations
+     */
+    String readElementValue(int offset) {
+        int index = u2(offset + 1);
+        switch (u1(offset)) {
+            case 'B': case 'I': case 'S': return String.valueOf(getInt(index));
+            case 'Z': return String.valueOf(getInt(index) != 0);
+            case 'C': return encodeChar((char) getInt(index));
+            case 'J': return String.valueOf(getLong(index));
+            case 'F': return String.valueOf(Float.intBitsToFloat(getInt(index)));
+            case 'D': return String.valueOf(Double.longBitsToDouble(getLong(index)));
+            case 's': return encodeString(getUtf8(index));
+            case 'e': return encodeEnum(toTypeName(getUtf8(index)), getUtf8(u2(offset + 3)));
+            case 'c': return encodeClass(toTypeName(getUtf8(index)));
+            case '[':
+                List<String> elements = new ArrayList<>(index);
+                offset += 3;
+                for (int i = 0; i < index; i++) {
+                    elements.add(readElementValue(offset));
+                    offset = skipElementValue(offset);
+                }
+                return encodeArray(elements);
+            default: return null; //nested annotation
+        }
+    }
+
+    /** returns the offset following the annotation structure at the given offset */
+    int skipAnnotation(int offset) {
+        int pairs = u2(offset + 2);
+        offset += 4;
+        for (int i = 0; i < pairs; i++) {
+            offset = skipElementValue(offset + 2);
+        }
+        return offset;
+    }
+
+    /** returns the offset following the element_value structure at the given offset */
+    int skipElementValue(int offset) {
+        int tag = u1(offset);
+        switch (tag) {
+            case 'e': return offset + 5;
+            case '@': return skipAnnotation(offset + 1);
+            case '[':
+                int count = u2(offset + 1);
+                offset += 3;
+                for (int i = 0; i < count; i++) {
+                    offset = skipElementValue(offset);
+                }
+                return offset;
+            default: return offset + 3; //const value or class info
+        }
+    }
+
+    //
+    private List<BytecodeMember> readMembers(int offset) {
+        int count = u2(offset);
+        List<BytecodeMember> members = new ArrayList<>(count);
+        offset += 2;
+        for (int i = 0; i < count; i++) {
+            BytecodeMember member = new BytecodeMember(this, u2(offset), u2(offset + 2), u2(offset + 4), offset + 6);
+            members.add(member);
+            offset = skipAttributes(offset + 6);
+        }
+        return members;
+    }
+
+    private int skipMembers(int offset) {
+        int count = u2(offset);
+        offset += 2;
+        for (int i = 0; i < count; i++) {
+            offset = skipAttributes(offset + 6);
+        }
+        return offset;
+    }
+
+    private int skipAttributes(int offset) {
+        int count = u2(offset);
+        offset += 2;
+        for (int i = 0; i < count; i++) {
+            offset += 6 + u4(offset + 2);
+        }
+        return offset;
+    }
+
+    private String decodeUtf8(int offset, int length) {
+        char[] chars = new char[length];
+        int end = offset + length;
+        int n = 0;
+        while (offset < end) {
+            int b = bytes[offset++] & 0xff;
+            if (b < 0x80) {
+                chars[n++] = (char) b;
+            } else if ((b & 0xe0) == 0xc0) {
+                chars[n++] = (char) (((b & 0x1f) << 6) | (bytes[offset++] & 0x3f));
+            } else {
+                chars[n++] = (char) (((b & 0x0f) << 12) | ((bytes[offset++] & 0x3f) << 6) | (bytes[offset++] & 0x3f));
+            }
+        }
+        return new String(chars, 0, n);
+    }
+
+    //
+    int u1(int offset) {
+        return bytes[offset] & 0xff;
+    }
+
+    int u2(int offset) {
+        return ((bytes[offset] & 0xff) << 8) | (bytes[offset + 1] & 0xff);
+    }
+
+    int u4(int offset) {
+        return ((bytes[offset] & 0xff) << 24) | ((bytes[offset + 1] & 0xff) << 16) | ((bytes[offset + 2] & 0xff) << 8) | (bytes[offset + 3] & 0xff);
+    }
+
+    /** converts a field descriptor, such as {@code [Ljava/lang/String;}, to a java type name, such as {@code java.lang.String[]} */
+    public static String toTypeName(String descriptor) {
+        return toTypeName(descriptor, 0, descriptor.length());
+    }
+
+    /** converts the field descriptor in the given range of the given string to a java type name */
+    public static String toTypeName(String descriptor, int from, int to) {
+        int dimensions = 0;
+        while (descriptor.charAt(from) == '[') {
+            dimensions++;
+            from++;
+        }
+        String name;
+        switch (descriptor.charAt(from)) {
+            case 'L': name = descriptor.substring(from + 1, to - 1).replace('/', '.'); break;
+            case 'Z': name = "boolean"; break;
+            case 'C': name = "char"; break;
+            case 'B': name = "byte"; break;
+            case 'S': name = "short"; break;
+            case 'I': name = "int"; break;
+            case 'J': name = "long"; break;
+            case 'F': name = "float"; break;
+            case 'D': name = "double"; break;
+            case 'V': name = "void"; break;
+            default: throw new ReflectionsException("invalid descriptor " + descriptor);
+        }
+        if (dimensions == 0) {
+            return name;
+        }
+        StringBuilder builder = new StringBuilder(name.length() + 2 * dimensions).append(name);
+        for (int i = 0; i < dimensions; i++) {
+            builder.append("[]");
+        }
+        return builder.toString();
+    }
+
+    /** returns the end index (exclusive) of the field descriptor starting at the given index */
+    public static int descriptorEnd(String descriptor, int from) {
+        while (descriptor.charAt(from) == '[') from++;
+        return descriptor.charAt(from) == 'L' ? descriptor.indexOf(';', from) + 1 : from + 1;
+    }
+
+    /** splits a method descriptor, such as {@code (I[Ljava/lang/String;)V}, to its parameter type names */
+    public static List<String> toParameterTypeNames(String methodDescriptor) {
+        int end = methodDescriptor.lastIndexOf(')');
+        if (end == 1) {
+            return Collections.emptyList();
+        }
+        List<String> names = new ArrayList<>();
+        int from = 1;
+        while (from < end) {
+            int to = descriptorEnd(methodDescriptor, from);
+            names.add(toTypeName(methodDescriptor, from, to));
+            from = to;
+        }
+        return names;
+    }
+
+    /** returns the return type name of a method descriptor */
+    public static String toReturnTypeName(String methodDescriptor) {
+        int from = methodDescriptor.lastIndexOf(')') + 1;
+        return toTypeName(methodDescriptor, from, methodDescriptor.length());
+    }
+
+    @Override
+    public String toString() {
+        return getName();
+    }
+}
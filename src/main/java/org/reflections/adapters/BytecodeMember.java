@@ -0,0 +1,120 @@
+package org.reflections.adapters;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * a field or method of a {@link BytecodeClass}
+ * <p>attributes of the member, including its code, are not read until requested
+ */
+public class BytecodeMember {
+    private final BytecodeClass declaringClass;
+    private final int accessFlags;
+    private final int nameIndex;
+    private final int descriptorIndex;
+    private final int attributesOffset;
+
+    BytecodeMember(BytecodeClass declaringClass, int accessFlags, int nameIndex, int descriptorIndex, int attributesOffset) {
+        this.declaringClass = declaringClass;
+        this.accessFlags = accessFlags;
+        this.nameIndex = nameIndex;
+        this.descriptorIndex = descriptorIndex;
+        this.attributesOffset = attributesOffset;
+    }
+
+    public BytecodeClass getDeclaringClass() {
+        return declaringClass;
+    }
+
+    public int getAccessFlags() {
+        return accessFlags;
+    }
+
+    public String getName() {
+        return declaringClass.getUtf8(nameIndex);
+    }
+
+    /** returns the field or method descriptor, such as {@code I} or {@code (ILjava/lang/String;)V} */
+    public String getDescriptor() {
+        return declaringClass.getUtf8(descriptorIndex);
+    }
+
+    /** returns the method parameter type names */
+    public List<String> getParameterTypeNames() {
+        return BytecodeClass.toParameterTypeNames(getDescriptor());
+    }
+
+    /** returns the method return type name */
+    public String getReturnTypeName() {
+        return BytecodeClass.toReturnTypeName(getDescriptor());
+    }
+
+    /** returns the field type name */
+    public String getTypeName() {
+        return BytecodeClass.toTypeName(getDescriptor());
+    }
+
+    /** returns the annotation type names of this member, visible first, and invisible ones if {@code includeInvisible} */
+    public List<String> getAnnotationNames(boolean includeInvisible) {
+        return declaringClass.getAnnotationNames(attributesOffset, includeInvisible);
+    }
+
+    /** returns the encoded element values given explicitly to the annotations of this member, see {@link BytecodeClass#getAnnotationValues(boolean)} */
+    public Map<String, Map<String, String>> getAnnotationValues(boolean includeInvisible) {
+        return declaringClass.getAnnotationValues(attributesOffset, includeInvisible);
+    }
+
+    /** returns the annotation type names of the parameter at the given index, visible first, and invisible ones if {@code includeInvisible} */
+    public List<String> getParameterAnnotationNames(int parameterIndex, boolean includeInvisible) {
+        List<String> names = Collections.emptyList();
+        for (String attribute : new String[]{BytecodeClass.RUNTIME_VISIBLE_PARAMETER_ANNOTATIONS, BytecodeClass.RUNTIME_INVISIBLE_PARAMETER_ANNOTATIONS}) {
+            if (!includeInvisible && attribute.equals(BytecodeClass.RUNTIME_INVISIBLE_PARAMETER_ANNOTATIONS)) break;
+            int offset = declaringClass.findAttribute(attributesOffset, attribute);
+            if (offset != -1) {
+                int parameters = declaringClass.u1(offset);
+                if (parameterIndex < parameters) {
+                    offset++;
+                    for (int i = 0; i < parameterIndex; i++) {
+                        offset = declaringClass.readAnnotationNames(offset, new ArrayList<>());
+                    }
+                    if (names.isEmpty()) names = new ArrayList<>();
+                    declaringClass.readAnnotationNames(offset, names);
+                }
+            }
+        }
+        return names;
+    }
+
+    /**
+     * visits the field and method references of this method's code, in a single pass over its instructions
+     * <p>nothing is visited for abstract and native methods, or for fields
+     */
+    public void visitReferences(ReferenceVisitor visitor) {
+        int codeOffset = findAttribute(BytecodeClass.CODE);
+        if (codeOffset != -1) {
+            declaringClass.visitReferences(codeOffset, visitor);
+        }
+    }
+
+    /** a visitor of the member references in a method's code, see {@link #visitReferences(ReferenceVisitor)} */
+    public interface ReferenceVisitor {
+        /**
+         * @param opcode one of the get/put field and invoke opcodes, such as {@link BytecodeClass#INVOKEVIRTUAL}
+         * @param refIndex the index of the referenced member constant pool entry, see {@link BytecodeClass#getRefName(int)}
+         * @param lineNumber the source line number of the instruction, or -1 if there is no line number table
+         */
+        void visit(int opcode, int refIndex, int lineNumber);
+    }
+
+    /** returns the offset of the info of the attribute with the given name in the class bytes, or -1 if there is no such attribute */
+    int findAttribute(String name) {
+        return declaringClass.findAttribute(attributesOffset, name);
+    }
+
+    @Override
+    public String toString() {
+        return declaringClass.getName() + "." + getName() + getDescriptor();
+    }
+}
@@ -12,10 +12,16 @@ import java.lang.reflect.Modifier;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static org.reflections.ReflectionUtils.forName;
+import static org.reflections.util.AccessFlags.ANNOTATION;
+import static org.reflections.util.AccessFlags.ENUM;
+import static org.reflections.util.AccessFlags.SYNTHETIC;
+import static org.reflections.util.AnnotationValues.encode;
 import static org.reflections.util.Utils.join;
 
 /** */
@@ -59,6 +65,25 @@ public class JavaReflectionAdapter implements MetadataAdapter<Class, Field, Memb
         return getAnnotationNames(annotations);
     }
 
+    /**
+     * returns the element values of the class annotations which differ from the element default value, since whether a value
+     * was given explicitly is not known at runtime, see {@link MetadataAdapter#getClassAnnotationValues(Object)}
+     */
+    public Map<String, Map<String, String>> getClassAnnotationValues(Class aClass) {
+        return getAnnotationValues(aClass.getDeclaredAnnotations());
+    }
+
+    public Map<String, Map<String, String>> getFieldAnnotationValues(Field field) {
+        return getAnnotationValues(field.getDeclaredAnnotations());
+    }
+
+    public Map<String, Map<String, String>> getMethodAnnotationValues(Member method) {
+        Annotation[] annotations =
+                method instanceof Method ? ((Method) method).getDeclaredAnnotations() :
+                method instanceof Constructor ? ((Constructor) method).getDeclaredAnnotations() : null;
+        return annotations != null ? getAnnotationValues(annotations) : null;
+    }
+
     public List<String> getParameterAnnotationNames(Member method, int parameterIndex) {
         Annotation[][] annotations =
                 method instanceof Method ? ((Method) method).getParameterAnnotations() :
@@ -88,6 +113,11 @@ public class JavaReflectionAdapter implements MetadataAdapter<Class, Field, Memb
         return Modifier.toString(method.getModifiers());
     }
 
+    /** returns the class modifiers, with the synthetic, annotation and enum access flags of the class file */
+    public int getClassAccessFlags(Class aClass) {
+        return aClass.getModifiers() | (aClass.isSynthetic() ? SYNTHETIC : 0) | (aClass.isAnnotation() ? ANNOTATION : 0) | (aClass.isEnum() ? ENUM : 0);
+    }
+
     public String getMethodKey(Class cls, Member method) {
         return getMethodName(method) + "(" + join(getParameterNames(method), ", ") + ")";
     }
@@ -127,6 +157,25 @@ public class JavaReflectionAdapter implements MetadataAdapter<Class, Field, Memb
         return Arrays.stream(annotations).map(annotation -> annotation.annotationType().getName()).collect(Collectors.toList());
     }
 
+    /** annotations whose values can not be read are not included, nor are values equal to the element default value */
+    private Map<String, Map<String, String>> getAnnotationValues(Annotation[] annotations) {
+        Map<String, Map<String, String>> result = new LinkedHashMap<>();
+        for (Annotation annotation : annotations) {
+            Map<String, String> values = new LinkedHashMap<>();
+            try {
+                for (Method element : annotation.annotationType().getDeclaredMethods()) {
+                    element.setAccessible(true);
+                    String value = encode(element.invoke(annotation));
+                    if (value != null && !value.equals(encode(element.getDefaultValue()))) values.put(element.getName(), value);
+                }
+                result.put(annotation.annotationType().getName(), values);
+            } catch (Exception e) {
+                //not indexed
+            }
+        }
+        return result;
+    }
+
     public static String getName(Class type) {
         if (type.isArray()) {
             try {
@@ -8,6 +8,13 @@ import javassist.bytecode.FieldInfo;
 import javassist.bytecode.MethodInfo;
 import javassist.bytecode.ParameterAnnotationsAttribute;
 import javassist.bytecode.annotation.Annotation;
+import javassist.bytecode.annotation.AnnotationMemberValue;
+import javassist.bytecode.annotation.ArrayMemberValue;
+import javassist.bytecode.annotation.CharMemberValue;
+import javassist.bytecode.annotation.ClassMemberValue;
+import javassist.bytecode.annotation.EnumMemberValue;
+import javassist.bytecode.annotation.MemberValue;
+import javassist.bytecode.annotation.StringMemberValue;
 import org.reflections.ReflectionsException;
 import org.reflections.util.Utils;
 import org.reflections.vfs.Vfs;
@@ -19,13 +26,20 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import static javassist.bytecode.AccessFlag.isPrivate;
 import static javassist.bytecode.AccessFlag.isProtected;
+import static org.reflections.util.AnnotationValues.encodeArray;
+import static org.reflections.util.AnnotationValues.encodeChar;
+import static org.reflections.util.AnnotationValues.encodeClass;
+import static org.reflections.util.AnnotationValues.encodeEnum;
+import static org.reflections.util.AnnotationValues.encodeString;
 import static org.reflections.util.Utils.join;
 
 /**
@@ -69,6 +83,21 @@ public class JavassistAdapter implements MetadataAdapter<ClassFile, FieldInfo, M
                 includeInvisibleTag ? (AnnotationsAttribute) method.getAttribute(AnnotationsAttribute.invisibleTag) : null);
     }
 
+    public Map<String, Map<String, String>> getClassAnnotationValues(final ClassFile aClass) {
+        return getAnnotationValues((AnnotationsAttribute) aClass.getAttribute(AnnotationsAttribute.visibleTag),
+                includeInvisibleTag ? (AnnotationsAttribute) aClass.getAttribute(AnnotationsAttribute.invisibleTag) : null);
+    }
+
+    public Map<String, Map<String, String>> getFieldAnnotationValues(final FieldInfo field) {
+        return getAnnotationValues((AnnotationsAttribute) field.getAttribute(AnnotationsAttribute.visibleTag),
+                includeInvisibleTag ? (AnnotationsAttribute) field.getAttribute(AnnotationsAttribute.invisibleTag) : null);
+    }
+
+    public Map<String, Map<String, String>> getMethodAnnotationValues(final MethodInfo method) {
+        return getAnnotationValues((AnnotationsAttribute) method.getAttribute(AnnotationsAttribute.visibleTag),
+                includeInvisibleTag ? (AnnotationsAttribute) method.getAttribute(AnnotationsAttribute.invisibleTag) : null);
+    }
+
     public List<String> getParameterAnnotationNames(final MethodInfo method, final int parameterIndex) {
         List<String> result = new ArrayList<>();
 
@@ -119,6 +148,10 @@ public class JavassistAdapter implements MetadataAdapter<ClassFile, FieldInfo, M
                isPublic(accessFlags) ? "public" : "";
     }
 
+    public int getClassAccessFlags(ClassFile aClass) {
+        return aClass.getAccessFlags();
+    }
+
     public String getMethodKey(ClassFile cls, MethodInfo method) {
         return getMethodName(method) + "(" + join(getParameterNames(method), ", ") + ")";
     }
@@ -166,6 +199,39 @@ public class JavassistAdapter implements MetadataAdapter<ClassFile, FieldInfo, M
         }
     }
 
+    private Map<String, Map<String, String>> getAnnotationValues(final AnnotationsAttribute... annotationsAttributes) {
+        Map<String, Map<String, String>> result = new LinkedHashMap<>();
+        for (AnnotationsAttribute annotationsAttribute : annotationsAttributes) {
+            if (annotationsAttribute != null) {
+                for (Annotation annotation : annotationsAttribute.getAnnotations()) {
+                    Map<String, String> values = new LinkedHashMap<>();
+                    if (annotation.getMemberNames() != null) {
+                        for (Object member : annotation.getMemberNames()) {
+                            String value = encode(annotation.getMemberValue((String) member));
+                            if (value != null) values.put((String) member, value);
+                        }
+                    }
+                    result.put(annotation.getTypeName(), values);
+                }
+            }
+        }
+        return result;
+    }
+
+    /** encodes the given member value as {@link org.reflections.util.AnnotationValues#encode(Object)} */
+    private static String encode(final MemberValue value) {
+        if (value instanceof StringMemberValue) return encodeString(((StringMemberValue) value).getValue());
+        if (value instanceof CharMemberValue) return encodeChar(((CharMemberValue) value).getValue());
+        if (value instanceof EnumMemberValue) return encodeEnum(((EnumMemberValue) value).getType(), ((EnumMemberValue) value).getValue());
+        if (value instanceof ClassMemberValue) return encodeClass(((ClassMemberValue) value).getValue());
+        if (value instanceof ArrayMemberValue) {
+            MemberValue[] elements = ((ArrayMemberValue) value).getValue();
+            return elements != null ? encodeArray(Arrays.stream(elements).map(JavassistAdapter::encode).collect(Collectors.toList())) : null;
+        }
+        if (value instanceof AnnotationMemberValue) return null;
+        return value.toString(); //numbers and booleans
+    }
+
     private List<String> getAnnotationNames(final Annotation[] annotations) {
         return Arrays.stream(annotations).map(Annotation::getTypeName).collect(Collectors.toList());
     }
@@ -190,4 +256,9 @@ public class JavassistAdapter implements MetadataAdapter<ClassFile, FieldInfo, M
 
         return result;
     }
+
+    @Override
+    public String getOptions() {
+        return "includeInvisibleTag=" + includeInvisibleTag;
+    }
 }
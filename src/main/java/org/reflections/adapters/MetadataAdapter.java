@@ -3,6 +3,7 @@ package org.reflections.adapters;
 import org.reflections.vfs.Vfs;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  *
@@ -31,6 +32,25 @@ public interface MetadataAdapter<C, F, M> {
 
     List<String> getParameterAnnotationNames(M method, int parameterIndex);
 
+    /**
+     * returns the element values given explicitly to the annotations of the class, by annotation name and element name,
+     * encoded as {@link org.reflections.util.AnnotationValues#encode(Object)}, or null if not supported by this adapter.
+     * adapters which can not tell whether a value was given explicitly leave out the values equal to the element default value
+     */
+    default Map<String, Map<String, String>> getClassAnnotationValues(C aClass) {
+        return null;
+    }
+
+    /** see {@link #getClassAnnotationValues(Object)} */
+    default Map<String, Map<String, String>> getFieldAnnotationValues(F field) {
+        return null;
+    }
+
+    /** see {@link #getClassAnnotationValues(Object)} */
+    default Map<String, Map<String, String>> getMethodAnnotationValues(M method) {
+        return null;
+    }
+
     String getReturnTypeName(M method);
 
     String getFieldName(F field);
@@ -39,6 +59,11 @@ public interface MetadataAdapter<C, F, M> {
 
     String getMethodModifier(M method);
 
+    /** returns the access flags of the class file header, see {@link java.lang.reflect.Modifier}, or -1 if not supported by this adapter */
+    default int getClassAccessFlags(C aClass) {
+        return -1;
+    }
+
     String getMethodKey(C cls, M method);
 
     String getMethodFullKey(C cls, M method);
@@ -47,4 +72,12 @@ public interface MetadataAdapter<C, F, M> {
 
     boolean acceptsInput(String file);
 
+    /**
+     * returns a stable description of the options of this adapter which change its results, such as {@code "includeInvisibleTag=true"},
+     * or null if they can not be described. "" by default. see {@link org.reflections.scanners.Scanner#getOptions()}
+     */
+    default String getOptions() {
+        return "";
+    }
+
 }
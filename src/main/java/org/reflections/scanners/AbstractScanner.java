@@ -4,9 +4,12 @@ import org.reflections.Configuration;
 import org.reflections.ReflectionsException;
 import org.reflections.Store;
 import org.reflections.adapters.MetadataAdapter;
+import org.reflections.util.FilterBuilder;
 import org.reflections.util.Utils;
 import org.reflections.vfs.Vfs;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.util.function.Predicate;
 
 /**
@@ -16,7 +19,7 @@ import java.util.function.Predicate;
 public abstract class AbstractScanner implements Scanner {
 
     private Configuration configuration;
-    private Predicate<String> resultFilter = s -> true; //accept all by default
+    private Predicate<String> resultFilter = new FilterBuilder(); //accept all by default
 
     public boolean acceptsInput(String file) {
         return getMetadataAdapter().acceptsInput(file);
@@ -62,6 +65,17 @@ public abstract class AbstractScanner implements Scanner {
         return this;
     }
 
+    /** returns "" for scanners which have no instance fields, and so no options, and null otherwise. see {@link Scanner#getOptions()} */
+    @Override
+    public String getOptions() {
+        for (Class<?> type = getClass(); type != AbstractScanner.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (!Modifier.isStatic(field.getModifiers()) && !field.isSynthetic()) return null;
+            }
+        }
+        return "";
+    }
+
     //
     public boolean acceptResult(final String fqn) {
         return fqn != null && resultFilter.test(fqn);
@@ -0,0 +1,54 @@
+package org.reflections.scanners;
+
+import org.reflections.Store;
+import org.reflections.util.AnnotationValues;
+
+import java.lang.annotation.Annotation;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * scans for the element values of type, field, method and constructor annotations, as given in the class files,
+ * so that annotation instances are matched without loading and proxying the annotated classes,
+ * see {@link org.reflections.Reflections#getTypesAnnotatedWith(Annotation)}
+ * <p>for each annotated element, the annotation name is keyed to the element, such as {@code my.C} for a type,
+ * {@code my.C.field} for a field or {@code my.C.method(int)} for a method. each element value given explicitly
+ * is keyed by the annotation element, such as {@code my.Annotation.value()}, to the annotated element and the
+ * encoded value, such as {@code my.C = "some value"}, see {@link AnnotationValues#encode(Object)}. annotation elements
+ * which are not given have their default value.
+ * <p>depends on the {@link org.reflections.adapters.MetadataAdapter} supporting annotation values,
+ * elements are not indexed otherwise
+ */
+@SuppressWarnings({"unchecked"})
+public class AnnotationValuesScanner extends AbstractScanner {
+    /** the separator of the annotated element and the encoded value, in the values of annotation element keys */
+    public static final String VALUE_SEPARATOR = " = ";
+
+    public void scan(final Object cls, Store store) {
+        final String className = getMetadataAdapter().getClassName(cls);
+        put(store, className, getMetadataAdapter().getClassAnnotationValues(cls));
+        for (Object field : getMetadataAdapter().getFields(cls)) {
+            put(store, className + "." + getMetadataAdapter().getFieldName(field), getMetadataAdapter().getFieldAnnotationValues(field));
+        }
+        for (Object method : getMetadataAdapter().getMethods(cls)) {
+            put(store, getMetadataAdapter().getMethodFullKey(cls, method), getMetadataAdapter().getMethodAnnotationValues(method));
+        }
+    }
+
+    private void put(Store store, String element, Map<String, Map<String, String>> annotations) {
+        if (annotations == null) return;
+        for (Map.Entry<String, Map<String, String>> annotation : annotations.entrySet()) {
+            if (acceptResult(annotation.getKey())) {
+                put(store, annotation.getKey(), element);
+                for (Map.Entry<String, String> value : annotation.getValue().entrySet()) {
+                    put(store, annotation.getKey() + "." + value.getKey() + "()", element + VALUE_SEPARATOR + value.getValue());
+                }
+            }
+        }
+    }
+
+    @Override
+    public Predicate<String> getReferencedTypesFilter() {
+        return this::acceptResult;
+    }
+}
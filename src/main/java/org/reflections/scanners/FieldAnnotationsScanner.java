@@ -3,6 +3,7 @@ package org.reflections.scanners;
 import org.reflections.Store;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 /** scans for field's annotations */
 @SuppressWarnings({"unchecked"})
@@ -21,4 +22,9 @@ public class FieldAnnotationsScanner extends AbstractScanner {
             }
         }
     }
+
+    @Override
+    public Predicate<String> getReferencedTypesFilter() {
+        return this::acceptResult;
+    }
 }
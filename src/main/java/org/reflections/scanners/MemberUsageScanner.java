@@ -1,114 +1,194 @@
 package org.reflections.scanners;
 
-import javassist.CannotCompileException;
-import javassist.ClassPool;
-import javassist.CtBehavior;
-import javassist.CtClass;
-import javassist.LoaderClassPath;
-import javassist.NotFoundException;
-import javassist.bytecode.MethodInfo;
-import javassist.expr.ConstructorCall;
-import javassist.expr.ExprEditor;
-import javassist.expr.FieldAccess;
-import javassist.expr.MethodCall;
-import javassist.expr.NewExpr;
 import org.reflections.ReflectionsException;
 import org.reflections.Store;
+import org.reflections.adapters.BytecodeClass;
+import org.reflections.adapters.BytecodeMember;
 import org.reflections.util.ClasspathHelper;
+import org.reflections.util.Utils;
+import org.reflections.vfs.Vfs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.reflections.util.Utils.join;
 
 /** scans methods/constructors/fields usage
- * <p><i> depends on {@link org.reflections.adapters.JavassistAdapter} configured </i>*/
+ * <p>the field access and invoke instructions of methods and constructors are read directly from the class file, in a single pass,
+ * so that it works with any {@link org.reflections.adapters.MetadataAdapter} configured.
+ * <p>usages of inherited members are keyed by their declaring class, resolved the way the jvm does from the headers and member
+ * signatures of the referenced class and its super types, read once per class through the configured class loaders.
+ * members of classes which can not be found are keyed by the class referenced from the class file.
+ * use {@link #resolveDeclaringClasses(boolean)} to always key usages by the referenced class, without reading any other class */
 @SuppressWarnings("unchecked")
 public class MemberUsageScanner extends AbstractScanner {
-    private ClassPool classPool;
+    private boolean resolveDeclaringClasses = true;
+    private final Map<String, String> declaringClasses = new ConcurrentHashMap<>();
+    private final Map<String, ClassMembers> classMembers = new ConcurrentHashMap<>();
+
+    @Override
+    public Object scan(Vfs.File file, Object classObject, Store store) {
+        BytecodeClass bytecodeClass;
+        if (classObject instanceof BytecodeClass) {
+            bytecodeClass = (BytecodeClass) classObject;
+        } else {
+            InputStream inputStream = null;
+            try {
+                inputStream = file.openInputStream();
+                bytecodeClass = BytecodeClass.read(inputStream, Vfs.estimateSize(file));
+            } catch (IOException e) {
+                throw new ReflectionsException("could not create class file from " + file.getName(), e);
+            } finally {
+                Utils.close(inputStream);
+            }
+        }
+        scan(bytecodeClass, store);
+        return classObject;
+    }
 
     @Override
     public void scan(Object cls, Store store) {
+        String className = cls instanceof BytecodeClass ? ((BytecodeClass) cls).getName() : getMetadataAdapter().getClassName(cls);
         try {
-            CtClass ctClass = getClassPool().get(getMetadataAdapter().getClassName(cls));
-            for (CtBehavior member : ctClass.getDeclaredConstructors()) {
-                scanMember(member, store);
-            }
-            for (CtBehavior member : ctClass.getDeclaredMethods()) {
-                scanMember(member, store);
+            BytecodeClass bytecodeClass = cls instanceof BytecodeClass ? (BytecodeClass) cls : readClass(className);
+            String[] usedKeys = new String[bytecodeClass.getConstantPoolSize()];
+            for (BytecodeMember member : bytecodeClass.getMethods()) {
+                if (member.getName().equals("<clinit>")) continue;
+                //key contains this$/val$ means local field/parameter closure
+                String key = bytecodeClass.getName() + "." + member.getName() + "(" + join(member.getParameterTypeNames(), ", ") + ")";
+                member.visitReferences((opcode, refIndex, lineNumber) -> {
+                    String usedKey = usedKeys[refIndex];
+                    if (usedKey == null) {
+                        usedKeys[refIndex] = usedKey = usedKey(bytecodeClass, opcode, refIndex);
+                    }
+                    if (acceptResult(usedKey)) {
+                        put(store, usedKey, key + " #" + lineNumber);
+                    }
+                });
             }
-            ctClass.detach();
         } catch (Exception e) {
-            throw new ReflectionsException("Could not scan method usage for " + getMetadataAdapter().getClassName(cls), e);
+            throw new ReflectionsException("Could not scan method usage for " + className, e);
         }
     }
 
-    void scanMember(CtBehavior member, Store store) throws CannotCompileException {
-        //key contains this$/val$ means local field/parameter closure
-        final String key = member.getDeclaringClass().getName() + "." + member.getMethodInfo().getName() +
-                "(" + parameterNames(member.getMethodInfo()) + ")"; //+ " #" + member.getMethodInfo().getLineNumber(0)
-        member.instrument(new ExprEditor() {
-            @Override
-            public void edit(NewExpr e) throws CannotCompileException {
-                try {
-                    put(store, e.getConstructor().getDeclaringClass().getName() + "." + "<init>" +
-                            "(" + parameterNames(e.getConstructor().getMethodInfo()) + ")", e.getLineNumber(), key);
-                } catch (NotFoundException e1) {
-                    throw new ReflectionsException("Could not find new instance usage in " + key, e1);
-                }
-            }
+    private String usedKey(BytecodeClass cls, int opcode, int refIndex) {
+        String className = cls.getRefClassName(refIndex);
+        String name = cls.getRefName(refIndex);
+        String descriptor = cls.getRefDescriptor(refIndex);
+        boolean field = opcode <= BytecodeClass.PUTFIELD;
+        if (className.startsWith("[")) {
+            className = Object.class.getName(); //array members, such as clone()
+        } else if (resolveDeclaringClasses && !name.equals("<init>")) {
+            className = getDeclaringClassName(className, name, descriptor, field);
+        }
+        return field ? className + "." + name :
+                className + "." + name + "(" + join(BytecodeClass.toParameterTypeNames(descriptor), ", ") + ")";
+    }
 
-            @Override
-            public void edit(MethodCall m) throws CannotCompileException {
-                try {
-                    put(store, m.getMethod().getDeclaringClass().getName() + "." + m.getMethodName() +
-                            "(" + parameterNames(m.getMethod().getMethodInfo()) + ")", m.getLineNumber(), key);
-                } catch (NotFoundException e) {
-                    throw new ReflectionsException("Could not find member " + m.getClassName() + " in " + key, e);
-                }
+    private String getDeclaringClassName(String className, String name, String descriptor, boolean field) {
+        String key = className + "." + name + descriptor;
+        String declaringClassName = declaringClasses.get(key);
+        if (declaringClassName == null) {
+            declaringClassName = findDeclaringClassName(className, name + descriptor, field);
+            if (declaringClassName == null) declaringClassName = className;
+            declaringClasses.put(key, declaringClassName);
+        }
+        return declaringClassName;
+    }
+
+    /** returns the class declaring the given member, searched as in jvm field and method resolution, or null if there is no such class */
+    private String findDeclaringClassName(String className, String member, boolean field) {
+        ClassMembers members = getClassMembers(className);
+        if (members == null) return null;
+        if ((field ? members.fields : members.methods).contains(member)) return className;
+        if (field) {
+            for (String interfaceName : members.interfaceNames) {
+                String declaringClassName = findDeclaringClassName(interfaceName, member, true);
+                if (declaringClassName != null) return declaringClassName;
+            }
+        }
+        if (members.superclassName != null) {
+            String declaringClassName = findDeclaringClassName(members.superclassName, member, field);
+            if (declaringClassName != null) return declaringClassName;
+        }
+        if (!field) {
+            for (String interfaceName : members.interfaceNames) {
+                String declaringClassName = findDeclaringClassName(interfaceName, member, false);
+                if (declaringClassName != null) return declaringClassName;
             }
+        }
+        return null;
+    }
 
-            @Override
-            public void edit(ConstructorCall c) throws CannotCompileException {
-                try {
-                    put(store, c.getConstructor().getDeclaringClass().getName() + "." + "<init>" +
-                            "(" + parameterNames(c.getConstructor().getMethodInfo()) + ")", c.getLineNumber(), key);
-                } catch (NotFoundException e) {
-                    throw new ReflectionsException("Could not find member " + c.getClassName() + " in " + key, e);
-                }
+    private ClassMembers getClassMembers(String className) {
+        ClassMembers members = classMembers.get(className);
+        if (members == null) {
+            try {
+                members = new ClassMembers(readClass(className));
+            } catch (Exception e) {
+                members = ClassMembers.NOT_FOUND;
             }
+            classMembers.put(className, members);
+        }
+        return members != ClassMembers.NOT_FOUND ? members : null;
+    }
 
-            @Override
-            public void edit(FieldAccess f) throws CannotCompileException {
+    private BytecodeClass readClass(String className) throws IOException {
+        String resourceName = className.replace('.', '/') + ".class";
+        for (ClassLoader classLoader : getClassLoaders()) {
+            InputStream inputStream = classLoader.getResourceAsStream(resourceName);
+            if (inputStream != null) {
                 try {
-                    put(store, f.getField().getDeclaringClass().getName() + "." + f.getFieldName(), f.getLineNumber(), key);
-                } catch (NotFoundException e) {
-                    throw new ReflectionsException("Could not find member " + f.getFieldName() + " in " + key, e);
+                    return BytecodeClass.read(inputStream);
+                } finally {
+                    Utils.close(inputStream);
                 }
             }
-        });
+        }
+        throw new ReflectionsException("Could not find class file " + resourceName);
     }
 
-    private void put(Store store, String key, int lineNumber, String value) {
-        if (acceptResult(key)) {
-            put(store, key, value + " #" + lineNumber);
-        }
+    private ClassLoader[] getClassLoaders() {
+        ClassLoader[] classLoaders = getConfiguration().getClassLoaders();
+        return classLoaders != null ? classLoaders : ClasspathHelper.classLoaders();
     }
 
-    String parameterNames(MethodInfo info) {
-        return join(getMetadataAdapter().getParameterNames(info), ", ");
+    /** if true, usages of inherited members are keyed by their declaring class, otherwise by the class referenced from the class file. true by default */
+    public MemberUsageScanner resolveDeclaringClasses(boolean resolve) {
+        this.resolveDeclaringClasses = resolve;
+        return this;
     }
 
-    private ClassPool getClassPool() {
-        if (classPool == null) {
-            synchronized (this) {
-                classPool = new ClassPool();
-                ClassLoader[] classLoaders = getConfiguration().getClassLoaders();
-                if (classLoaders == null) {
-                    classLoaders = ClasspathHelper.classLoaders();
-                }
-                for (ClassLoader classLoader : classLoaders) {
-                    classPool.appendClassPath(new LoaderClassPath(classLoader));
-                }
-            }
+    @Override
+    public String getOptions() {
+        return "resolveDeclaringClasses=" + resolveDeclaringClasses;
+    }
+
+    /** the super types and member signatures of a class, as needed to resolve the declaring class of its members */
+    private static class ClassMembers {
+        static final ClassMembers NOT_FOUND = new ClassMembers();
+
+        final String superclassName;
+        final List<String> interfaceNames;
+        final Set<String> fields = new HashSet<>();
+        final Set<String> methods = new HashSet<>();
+
+        private ClassMembers() {
+            superclassName = null;
+            interfaceNames = Collections.emptyList();
+        }
+
+        ClassMembers(BytecodeClass cls) {
+            superclassName = cls.getSuperclassName();
+            interfaceNames = cls.getInterfaceNames();
+            for (BytecodeMember field : cls.getFields()) fields.add(field.getName() + field.getDescriptor());
+            for (BytecodeMember method : cls.getMethods()) methods.add(method.getName() + method.getDescriptor());
         }
-        return classPool;
     }
 }
@@ -3,6 +3,7 @@ package org.reflections.scanners;
 import org.reflections.Store;
 
 import java.util.List;
+import java.util.function.Predicate;
 
 @SuppressWarnings({"unchecked"})
 /** scans for method's annotations */
@@ -16,4 +17,9 @@ public class MethodAnnotationsScanner extends AbstractScanner {
             }
         }
     }
+
+    @Override
+    public Predicate<String> getReferencedTypesFilter() {
+        return this::acceptResult;
+    }
 }
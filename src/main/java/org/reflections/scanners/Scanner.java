@@ -20,4 +20,27 @@ public interface Scanner {
     Object scan(Vfs.File file, Object classObject, Store store);
 
     boolean acceptResult(String fqn);
+
+    /**
+     * returns a predicate over type names referenced from a class file's constant pool, which accepts the names this scanner may
+     * produce results for, or null if results can not be told from referenced type names (the default).
+     * <p>this fits scanners whose results are keyed by type names a class file must reference from its constant pool to produce them,
+     * such as annotation names, narrowed by {@link #filterResultsBy(Predicate)}. it does not fit scanners keyed by names which
+     * any class file references, such as its own name or its super class name, since class files would hardly be skipped.
+     * <p>when all scanners of a class file return a predicate, and none accepts any of its referenced type names,
+     * the class file is skipped before being parsed. see {@link org.reflections.Configuration#shouldPrefilterInputs()}
+     */
+    default Predicate<String> getReferencedTypesFilter() {
+        return null;
+    }
+
+    /**
+     * returns a stable description of the options of this scanner which change its results, other than its result filter,
+     * such as {@code "publicOnly=true"}, or null if they can not be described (the default).
+     * <p>scanners are told apart by their class, result filter and options in a {@link org.reflections.ScanCache},
+     * which is not used if any scanner can not be described
+     */
+    default String getOptions() {
+        return null;
+    }
 }
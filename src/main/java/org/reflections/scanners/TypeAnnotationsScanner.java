@@ -4,6 +4,7 @@ import org.reflections.Store;
 
 import java.lang.annotation.Inherited;
 import java.util.List;
+import java.util.function.Predicate;
 
 /**
  * scans for class's annotations, where @Retention(RetentionPolicy.RUNTIME)
@@ -22,4 +23,8 @@ public class TypeAnnotationsScanner extends AbstractScanner {
         }
     }
 
+    @Override
+    public Predicate<String> getReferencedTypesFilter() {
+        return annotationType -> acceptResult(annotationType) || annotationType.equals(Inherited.class.getName());
+    }
 }
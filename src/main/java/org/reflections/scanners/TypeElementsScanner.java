@@ -42,6 +42,12 @@ public class TypeElementsScanner extends AbstractScanner {
         }
     }
 
+    @Override
+    public String getOptions() {
+        return "includeFields=" + includeFields + ", includeMethods=" + includeMethods +
+                ", includeAnnotations=" + includeAnnotations + ", publicOnly=" + publicOnly;
+    }
+
     //
     public TypeElementsScanner includeFields() { return includeFields(true); }
     public TypeElementsScanner includeFields(boolean include) { includeFields = include; return this; }
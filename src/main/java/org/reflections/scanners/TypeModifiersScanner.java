@@ -0,0 +1,38 @@
+package org.reflections.scanners;
+
+import org.reflections.Store;
+import org.reflections.util.AccessFlags;
+
+import java.lang.reflect.Modifier;
+
+/**
+ * scans for the kind and modifiers of a class, as given by the access flags of its class file header,
+ * so that interfaces, abstract classes, annotations, enums and records are told apart without loading classes
+ * <p>each class name is keyed to its modifiers, a decimal int of the {@link Modifier#PUBLIC}, {@link Modifier#FINAL},
+ * {@link Modifier#INTERFACE}, {@link Modifier#ABSTRACT}, {@link #SYNTHETIC}, {@link #ANNOTATION}, {@link #ENUM} and {@link #RECORD} bits.
+ * other modifiers of nested classes, such as private or static, are not given by the class file header and are not included.
+ * <p>see {@link org.reflections.Reflections#getTypeModifiers(String)} and {@link org.reflections.Reflections#withTypeModifiers(int)}
+ */
+@SuppressWarnings({"unchecked"})
+public class TypeModifiersScanner extends AbstractScanner {
+    public static final int SYNTHETIC = AccessFlags.SYNTHETIC;
+    public static final int ANNOTATION = AccessFlags.ANNOTATION;
+    public static final int ENUM = AccessFlags.ENUM;
+    /** a class extending {@link java.lang.Record}, which has no access flag of its own */
+    public static final int RECORD = 0x10000;
+
+    /** the class access flags which are kept */
+    public static final int MODIFIERS = Modifier.PUBLIC | Modifier.FINAL | Modifier.INTERFACE | Modifier.ABSTRACT | SYNTHETIC | ANNOTATION | ENUM;
+
+    public void scan(final Object cls, Store store) {
+        String className = getMetadataAdapter().getClassName(cls);
+        int accessFlags = getMetadataAdapter().getClassAccessFlags(cls);
+        if (accessFlags != -1 && acceptResult(className)) {
+            int modifiers = accessFlags & MODIFIERS;
+            if ("java.lang.Record".equals(getMetadataAdapter().getSuperclassName(cls))) {
+                modifiers |= RECORD;
+            }
+            put(store, className, String.valueOf(modifiers));
+        }
+    }
+}
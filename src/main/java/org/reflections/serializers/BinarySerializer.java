@@ -0,0 +1,358 @@
+package org.reflections.serializers;
+
+import org.reflections.Reflections;
+import org.reflections.ReflectionsException;
+import org.reflections.Store;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.Utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Constructor;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/** serialization of Reflections to a compact binary format, read over a memory mapped file
+ *
+ * <p>the format is a header, a string table and a section for each index:
+ * <pre>
+ * header:       magic, version, string count, string table offset, index count,
+ *               and for each index its name id, key count, section offset and section length, as 4 byte ints
+ * string table: the offset of each block of 16 strings as 4 byte ints, followed by the blocks.
+ *               all index names, keys and values are sorted by their utf-8 bytes and deduplicated, and each is front coded
+ *               against the previous one in its block, as a varint shared prefix length, a varint suffix length and the suffix bytes
+ * index:        the first key id and the offset of each block of 16 keys as 4 byte ints, followed by the blocks.
+ *               each key is its id as a varint delta from the previous one in its block, its varint value count,
+ *               the varint length of its values and its value ids in ascending order as varint deltas
+ * </pre>
+ * a string id is its position in the string table, so that a fully qualified name, which shares most of its package
+ * with the previous name, takes a few bytes in the table, and a few bytes each time it is referenced.
+ * <p>reading a file, using {@link #read(File)} or a {@link FileInputStream} such as given by {@link Reflections#collect(File)},
+ * maps it into memory and puts the entries into the store while decoding, without building an intermediate document.
+ * <p>{@link #map(File)} queries a mapped file in place instead, without reading it into a store, see {@link MappedIndex}
+ * <p>{@link #toString(Reflections)} returns the bytes in base64.
+ * */
+public class BinarySerializer implements Serializer {
+    private static final int MAGIC = 0x52534231;
+    private static final int VERSION = 2;
+    static final int INDEX_HEADER_INTS = 4;
+    /** number of strings or keys in a block, the first of which is not front coded or delta coded */
+    static final int BLOCK_SIZE = 16;
+
+    public Reflections read(InputStream inputStream) {
+        try {
+            if (inputStream instanceof FileInputStream) {
+                FileChannel channel = ((FileInputStream) inputStream).getChannel();
+                long position = channel.position();
+                return read(channel.map(FileChannel.MapMode.READ_ONLY, position, channel.size() - position));
+            }
+            return read(ByteBuffer.wrap(Utils.readAllBytes(inputStream)));
+        } catch (IOException e) {
+            throw new ReflectionsException("could not read.", e);
+        }
+    }
+
+    /** reads the given file, mapping it into memory */
+    public Reflections read(File file) {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new ReflectionsException("could not read " + file, e);
+        }
+    }
+
+    /** reads the given buffer, from its position */
+    public Reflections read(ByteBuffer buffer) {
+        Reflections reflections = newReflections();
+        Store store = reflections.getStore();
+        ByteBuffer bytes = buffer.slice();
+        try {
+            int[] header = readHeader(bytes);
+            String[] strings = readStrings(bytes, header[1], header[0]);
+            for (int i = 0; i < header[2]; i++) {
+                int h = 3 + i * INDEX_HEADER_INTS;
+                String index = strings[header[h]];
+                int keyCount = header[h + 1], offset = header[h + 2];
+                bytes.position(offset + blocks(keyCount) * 8);
+                int keyId = 0;
+                for (int k = 0; k < keyCount; k++) {
+                    if (k % BLOCK_SIZE == 0) keyId = bytes.getInt(offset + k / BLOCK_SIZE * 8);
+                    keyId += readVarint(bytes);
+                    String key = strings[keyId];
+                    int valueId = 0;
+                    int values = readVarint(bytes);
+                    readVarint(bytes);
+                    for (; values > 0; values--) {
+                        valueId += readVarint(bytes);
+                        store.put(index, key, strings[valueId]);
+                    }
+                }
+            }
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new ReflectionsException("could not read, corrupt binary reflections store", e);
+        }
+        return reflections;
+    }
+
+    /**
+     * maps the given file into memory and returns a Reflections over it, which queries the file in place,
+     * looking up keys by binary search and decoding values when queried, so that opening it takes no time regardless of its size,
+     * and the file pages are shared by all processes mapping it.
+     * <p>the store is frozen, see {@link Store#frozen(Map)}, and putting into it reads it into mutable indices first.
+     * the file should not be modified while mapped.
+     */
+    public Reflections map(File file) {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return new Reflections(new ConfigurationBuilder(), Store.frozen(MappedIndex.indices(buffer)));
+        } catch (IOException e) {
+            throw new ReflectionsException("could not map " + file, e);
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            throw new ReflectionsException("could not map, corrupt binary reflections store " + file, e);
+        }
+    }
+
+    public File save(Reflections reflections, String filename) {
+        try {
+            File file = Utils.prepareFile(filename);
+            Files.write(file.toPath(), toBytes(reflections));
+            return file;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    public String toString(Reflections reflections) {
+        return Base64.getEncoder().encodeToString(toBytes(reflections));
+    }
+
+    /** returns the binary form of the store of the given reflections */
+    public byte[] toBytes(Reflections reflections) {
+        Store store = reflections.getStore();
+        List<String> indices = new ArrayList<>(store.keySet());
+        Set<String> distinct = new HashSet<>(indices);
+        for (String index : indices) {
+            for (String key : store.keys(index)) {
+                distinct.add(key);
+                distinct.addAll(store.get(index, key));
+            }
+        }
+        byte[][] encoded = new byte[distinct.size()][];
+        int count = 0;
+        for (String string : distinct) {
+            encoded[count++] = string.getBytes(StandardCharsets.UTF_8);
+        }
+        Arrays.sort(encoded, (a, b) -> compareUnsigned(a, a.length, b, b.length));
+        String[] strings = new String[encoded.length];
+        Map<String, Integer> ids = new HashMap<>(strings.length * 2);
+        for (int id = 0; id < strings.length; id++) {
+            strings[id] = new String(encoded[id], StandardCharsets.UTF_8);
+            ids.put(strings[id], id);
+        }
+
+        Output output = new Output();
+        int headerLength = (5 + indices.size() * INDEX_HEADER_INTS) * 4;
+        output.skip(headerLength);
+        int stringTableOffset = output.size();
+        writeStrings(output, encoded);
+
+        ByteBuffer header = ByteBuffer.allocate(headerLength);
+        header.putInt(MAGIC).putInt(VERSION).putInt(strings.length).putInt(stringTableOffset).putInt(indices.size());
+        for (String index : indices) {
+            int offset = output.size();
+            int[] keyIds = toSortedIds(store.keys(index), ids);
+            output.skip(blocks(keyIds.length) * 8);
+            int keyId = 0;
+            for (int k = 0; k < keyIds.length; k++) {
+                if (k % BLOCK_SIZE == 0) {
+                    keyId = keyIds[k];
+                    output.putInt(offset + k / BLOCK_SIZE * 8, keyId);
+                    output.putInt(offset + k / BLOCK_SIZE * 8 + 4, output.size());
+                }
+                writeVarint(output, keyIds[k] - keyId);
+                keyId = keyIds[k];
+                int[] valueIds = toSortedIds(store.get(index, strings[keyId]), ids);
+                int length = 0;
+                for (int v = 0; v < valueIds.length; v++) {
+                    length += varintLength(v == 0 ? valueIds[v] : valueIds[v] - valueIds[v - 1]);
+                }
+                writeVarint(output, valueIds.length);
+                writeVarint(output, length);
+                int valueId = 0;
+                for (int value : valueIds) {
+                    writeVarint(output, value - valueId);
+                    valueId = value;
+                }
+            }
+            header.putInt(ids.get(index)).putInt(keyIds.length).putInt(offset).putInt(output.size() - offset);
+        }
+        byte[] bytes = output.toByteArray();
+        System.arraycopy(header.array(), 0, bytes, 0, headerLength);
+        return bytes;
+    }
+
+    /**
+     * reads and checks the header at the start of the given buffer, returning the string count, the string table offset,
+     * the index count, and the {@link #INDEX_HEADER_INTS} ints of each index
+     */
+    static int[] readHeader(ByteBuffer bytes) {
+        if (bytes.getInt(0) != MAGIC) throw new ReflectionsException("could not read, not a binary reflections store");
+        int version = bytes.getInt(4);
+        if (version != VERSION) throw new ReflectionsException("could not read binary reflections store version " + version);
+        int indexCount = bytes.getInt(16);
+        if (indexCount < 0) throw new IllegalArgumentException("negative index count " + indexCount);
+        int[] header = new int[3 + indexCount * INDEX_HEADER_INTS];
+        for (int i = 0; i < header.length; i++) {
+            header[i] = bytes.getInt(8 + i * 4);
+        }
+        return header;
+    }
+
+    /** compares the given byte ranges, starting at 0, lexicographically as unsigned bytes */
+    static int compareUnsigned(byte[] a, int aLength, byte[] b, int bLength) {
+        for (int i = 0; i < Math.min(aLength, bLength); i++) {
+            int compare = Integer.compare(a[i] & 0xFF, b[i] & 0xFF);
+            if (compare != 0) return compare;
+        }
+        return Integer.compare(aLength, bLength);
+    }
+
+    /** number of blocks of the given number of strings or keys */
+    static int blocks(int count) {
+        return (count + BLOCK_SIZE - 1) / BLOCK_SIZE;
+    }
+
+    private static Reflections newReflections() {
+        try {
+            Constructor<Reflections> constructor = Reflections.class.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return constructor.newInstance();
+        } catch (Exception e) {
+            return new Reflections(new ConfigurationBuilder());
+        }
+    }
+
+    private static int[] toSortedIds(Iterable<String> strings, Map<String, Integer> ids) {
+        int[] result = new int[16];
+        int size = 0;
+        for (String string : strings) {
+            if (size == result.length) result = Arrays.copyOf(result, size * 2);
+            result[size++] = ids.get(string);
+        }
+        result = Arrays.copyOf(result, size);
+        Arrays.sort(result);
+        return result;
+    }
+
+    private static void writeStrings(Output output, byte[][] strings) {
+        int offset = output.size();
+        output.skip(blocks(strings.length) * 4);
+        byte[] previous = new byte[0];
+        for (int i = 0; i < strings.length; i++) {
+            byte[] bytes = strings[i];
+            int shared = 0;
+            if (i % BLOCK_SIZE == 0) {
+                output.putInt(offset + i / BLOCK_SIZE * 4, output.size());
+            } else {
+                int max = Math.min(previous.length, bytes.length);
+                while (shared < max && previous[shared] == bytes[shared]) shared++;
+            }
+            writeVarint(output, shared);
+            writeVarint(output, bytes.length - shared);
+            output.write(bytes, shared, bytes.length - shared);
+            previous = bytes;
+        }
+    }
+
+    private static String[] readStrings(ByteBuffer bytes, int offset, int count) {
+        bytes.position(offset + blocks(count) * 4);
+        String[] strings = new String[count];
+        byte[] buffer = new byte[256];
+        int length = 0;
+        for (int i = 0; i < count; i++) {
+            int shared = readVarint(bytes);
+            int suffix = readVarint(bytes);
+            if (shared > length) throw new IllegalArgumentException("shared prefix " + shared + " exceeds previous string");
+            if (shared + suffix > buffer.length) buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, shared + suffix));
+            bytes.get(buffer, shared, suffix);
+            length = shared + suffix;
+            strings[i] = new String(buffer, 0, length, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    private static void writeVarint(Output output, int value) {
+        while ((value & ~0x7F) != 0) {
+            output.write((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.write(value);
+    }
+
+    private static int varintLength(int value) {
+        int length = 1;
+        while ((value & ~0x7F) != 0) {
+            value >>>= 7;
+            length++;
+        }
+        return length;
+    }
+
+    static int readVarint(ByteBuffer bytes) {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = bytes.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalArgumentException("malformed varint");
+    }
+
+    /** a byte array output stream which does not synchronize, and can patch ints written before */
+    private static class Output extends ByteArrayOutputStream {
+        Output() {
+            super(1 << 16);
+        }
+
+        @Override
+        public void write(int b) {
+            if (count == buf.length) buf = Arrays.copyOf(buf, buf.length * 2);
+            buf[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            if (count + len > buf.length) buf = Arrays.copyOf(buf, Math.max(buf.length * 2, count + len));
+            System.arraycopy(b, off, buf, count, len);
+            count += len;
+        }
+
+        /** writes the given number of zero bytes, to be patched later */
+        void skip(int length) {
+            write(new byte[length], 0, length);
+        }
+
+        /** overwrites the 4 bytes at the given position with the given int, big endian */
+        void putInt(int position, int value) {
+            buf[position] = (byte) (value >>> 24);
+            buf[position + 1] = (byte) (value >>> 16);
+            buf[position + 2] = (byte) (value >>> 8);
+            buf[position + 3] = (byte) value;
+        }
+    }
+}
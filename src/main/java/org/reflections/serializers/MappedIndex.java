@@ -0,0 +1,214 @@
+package org.reflections.serializers;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static org.reflections.serializers.BinarySerializer.BLOCK_SIZE;
+import static org.reflections.serializers.BinarySerializer.INDEX_HEADER_INTS;
+import static org.reflections.serializers.BinarySerializer.blocks;
+import static org.reflections.serializers.BinarySerializer.readVarint;
+
+/**
+ * a read only multimap index over an index section of a {@link BinarySerializer} file, typically memory mapped,
+ * which is queried in place: a key is looked up by binary search over the blocks of the string table, then over the blocks
+ * of the index, and its values are decoded when queried.
+ * <p>the buffer is never repositioned, each query reads a duplicate of it, so that queries take no locks.
+ * see {@link BinarySerializer#map(java.io.File)}
+ */
+class MappedIndex extends AbstractMap<String, Collection<String>> {
+    private final ByteBuffer buffer;
+    private final Strings strings;
+    private final int keyCount;
+    private final int offset; //the block table of this index, followed by its blocks
+
+    private MappedIndex(ByteBuffer buffer, Strings strings, int keyCount, int offset) {
+        this.buffer = buffer;
+        this.strings = strings;
+        this.keyCount = keyCount;
+        this.offset = offset;
+    }
+
+    /** returns the indices of the given buffer, by index name, reading its header only */
+    static Map<String, Map<String, Collection<String>>> indices(ByteBuffer buffer) {
+        int[] header = BinarySerializer.readHeader(buffer);
+        Strings strings = new Strings(buffer, header[1], header[0]);
+        Map<String, Map<String, Collection<String>>> indices = new LinkedHashMap<>();
+        for (int i = 0; i < header[2]; i++) {
+            int h = 3 + i * INDEX_HEADER_INTS;
+            indices.put(strings.get(header[h]), new MappedIndex(buffer, strings, header[h + 1], header[h + 2]));
+        }
+        return indices;
+    }
+
+    @Override
+    public Collection<String> get(Object key) {
+        int id = key instanceof String ? strings.indexOf((String) key) : -1;
+        if (id < 0) return null;
+        int low = 0, high = blocks(keyCount) - 1;
+        while (low < high) {
+            int middle = (low + high + 1) >>> 1;
+            if (buffer.getInt(offset + middle * 8) <= id) low = middle;
+            else high = middle - 1;
+        }
+        if (high < 0 || buffer.getInt(offset + low * 8) > id) return null;
+        ByteBuffer bytes = buffer.duplicate();
+        bytes.position(buffer.getInt(offset + low * 8 + 4));
+        int keyId = buffer.getInt(offset + low * 8);
+        for (int k = low * BLOCK_SIZE; k < Math.min(keyCount, (low + 1) * BLOCK_SIZE); k++) {
+            keyId += readVarint(bytes);
+            int values = readVarint(bytes);
+            int length = readVarint(bytes);
+            if (keyId == id) return new Values(readIds(bytes, values));
+            if (keyId > id) return null;
+            bytes.position(bytes.position() + length);
+        }
+        return null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public int size() {
+        return keyCount;
+    }
+
+    @Override
+    public Set<Entry<String, Collection<String>>> entrySet() {
+        return new AbstractSet<Entry<String, Collection<String>>>() {
+            public Iterator<Entry<String, Collection<String>>> iterator() {
+                ByteBuffer bytes = buffer.duplicate();
+                bytes.position(offset + blocks(keyCount) * 8);
+                return new Iterator<Entry<String, Collection<String>>>() {
+                    private int index;
+                    private int keyId;
+
+                    public boolean hasNext() {
+                        return index < keyCount;
+                    }
+
+                    public Entry<String, Collection<String>> next() {
+                        if (!hasNext()) throw new NoSuchElementException();
+                        if (index % BLOCK_SIZE == 0) keyId = buffer.getInt(offset + index / BLOCK_SIZE * 8);
+                        index++;
+                        keyId += readVarint(bytes);
+                        int values = readVarint(bytes);
+                        readVarint(bytes);
+                        return new SimpleImmutableEntry<>(strings.get(keyId), new Values(readIds(bytes, values)));
+                    }
+                };
+            }
+
+            public int size() {
+                return keyCount;
+            }
+        };
+    }
+
+    private static int[] readIds(ByteBuffer bytes, int count) {
+        int[] ids = new int[count];
+        int id = 0;
+        for (int i = 0; i < count; i++) {
+            id += readVarint(bytes);
+            ids[i] = id;
+        }
+        return ids;
+    }
+
+    /** the values of a key, decoded from the string table when queried */
+    private class Values extends AbstractList<String> {
+        private final int[] ids;
+
+        Values(int[] ids) {
+            this.ids = ids;
+        }
+
+        public String get(int i) {
+            return strings.get(ids[i]);
+        }
+
+        public int size() {
+            return ids.length;
+        }
+    }
+
+    /** the front coded string table of a {@link BinarySerializer} file, read in place */
+    static class Strings {
+        private final ByteBuffer buffer;
+        private final int offset; //the block table, followed by the blocks
+        private final int count;
+
+        Strings(ByteBuffer buffer, int offset, int count) {
+            this.buffer = buffer;
+            this.offset = offset;
+            this.count = count;
+        }
+
+        /** returns the string of the given id, decoding its block up to it */
+        String get(int id) {
+            if (id < 0 || id >= count) throw new IndexOutOfBoundsException("string id " + id);
+            ByteBuffer bytes = buffer.duplicate();
+            bytes.position(buffer.getInt(offset + id / BLOCK_SIZE * 4));
+            byte[] string = new byte[64];
+            int length = 0;
+            for (int i = id - id % BLOCK_SIZE; i <= id; i++) {
+                int shared = readVarint(bytes);
+                int suffix = readVarint(bytes);
+                if (shared + suffix > string.length) string = Arrays.copyOf(string, Math.max(string.length * 2, shared + suffix));
+                bytes.get(string, shared, suffix);
+                length = shared + suffix;
+            }
+            return new String(string, 0, length, StandardCharsets.UTF_8);
+        }
+
+        /** returns the id of the given string, or -1 if there is no such string */
+        int indexOf(String string) {
+            byte[] target = string.getBytes(StandardCharsets.UTF_8);
+            ByteBuffer bytes = buffer.duplicate();
+            int low = 0, high = blocks(count) - 1;
+            while (low < high) {
+                int middle = (low + high + 1) >>> 1;
+                if (compareFirst(bytes, middle, target) <= 0) low = middle;
+                else high = middle - 1;
+            }
+            if (high < 0) return -1;
+            bytes.position(buffer.getInt(offset + low * 4));
+            byte[] current = new byte[Math.max(64, target.length)];
+            for (int id = low * BLOCK_SIZE; id < Math.min(count, (low + 1) * BLOCK_SIZE); id++) {
+                int shared = readVarint(bytes);
+                int suffix = readVarint(bytes);
+                if (shared + suffix > current.length) current = Arrays.copyOf(current, Math.max(current.length * 2, shared + suffix));
+                bytes.get(current, shared, suffix);
+                int compare = BinarySerializer.compareUnsigned(current, shared + suffix, target, target.length);
+                if (compare == 0) return id;
+                if (compare > 0) return -1;
+            }
+            return -1;
+        }
+
+        /** compares the first string of the given block, which is not front coded, to the given bytes, without copying it */
+        private int compareFirst(ByteBuffer bytes, int block, byte[] target) {
+            bytes.position(buffer.getInt(offset + block * 4));
+            readVarint(bytes);
+            int length = readVarint(bytes);
+            int position = bytes.position();
+            for (int i = 0; i < Math.min(length, target.length); i++) {
+                int compare = Integer.compare(buffer.get(position + i) & 0xFF, target[i] & 0xFF);
+                if (compare != 0) return compare;
+            }
+            return Integer.compare(length, target.length);
+        }
+    }
+}
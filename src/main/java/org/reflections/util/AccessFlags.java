@@ -0,0 +1,11 @@
+package org.reflections.util;
+
+/**
+ * class file access flags which have no {@link java.lang.reflect.Modifier} constant,
+ * as returned by {@link org.reflections.adapters.MetadataAdapter#getClassAccessFlags(Object)}
+ */
+public abstract class AccessFlags {
+    public static final int SYNTHETIC = 0x1000;
+    public static final int ANNOTATION = 0x2000;
+    public static final int ENUM = 0x4000;
+}
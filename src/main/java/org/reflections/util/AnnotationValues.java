@@ -0,0 +1,58 @@
+package org.reflections.util;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.util.List;
+
+/**
+ * encodes annotation element values to strings, the same way for every {@link org.reflections.adapters.MetadataAdapter},
+ * so that values read from class files match values read from annotation instances.
+ * <p>see {@link org.reflections.scanners.AnnotationValuesScanner}
+ */
+public abstract class AnnotationValues {
+
+    /**
+     * encodes an annotation element value, as returned by invoking the annotation element method.
+     * strings are quoted, {@code "value"}, chars are quoted, {@code 'c'}, numbers and booleans are as {@link String#valueOf(Object)},
+     * enum constants are {@code my.Enum.CONSTANT}, class literals are {@code my.C.class} and arrays are {@code {a, b}}.
+     * <p>returns null for nested annotations, which are not indexed, and for null
+     */
+    public static String encode(Object value) {
+        if (value == null || value instanceof Annotation) return null;
+        if (value instanceof String) return encodeString((String) value);
+        if (value instanceof Character) return encodeChar((Character) value);
+        if (value instanceof Enum) return encodeEnum(((Enum<?>) value).getDeclaringClass().getName(), ((Enum<?>) value).name());
+        if (value instanceof Class) return encodeClass(Utils.name((Class<?>) value));
+        if (value.getClass().isArray()) {
+            StringBuilder builder = new StringBuilder("{");
+            for (int i = 0; i < Array.getLength(value); i++) {
+                String element = encode(Array.get(value, i));
+                if (element == null) return null;
+                builder.append(i != 0 ? ", " : "").append(element);
+            }
+            return builder.append("}").toString();
+        }
+        return String.valueOf(value);
+    }
+
+    public static String encodeString(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"") + "\"";
+    }
+
+    public static String encodeChar(char value) {
+        return "'" + (value == '\\' || value == '\'' ? "\\" + value : String.valueOf(value)) + "'";
+    }
+
+    public static String encodeEnum(String enumType, String constant) {
+        return enumType + "." + constant;
+    }
+
+    public static String encodeClass(String typeName) {
+        return typeName + ".class";
+    }
+
+    /** encodes an array of the given encoded elements, or returns null if any of them is null */
+    public static String encodeArray(List<String> elements) {
+        return elements.contains(null) ? null : "{" + Utils.join(elements, ", ") + "}";
+    }
+}
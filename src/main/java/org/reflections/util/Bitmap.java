@@ -0,0 +1,553 @@
+package org.reflections.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * an immutable compressed bitmap of non negative ints, for set algebra over dense ids
+ * <p>the ints are split by their high 16 bits into chunks of up to 65536 values, and each chunk is kept in the smallest of
+ * three containers: a sorted array of the low 16 bits for sparse chunks, a 1024 words bitset for dense chunks,
+ * or the sorted runs of consecutive values for chunks of a few long ranges.
+ * <p>{@link #and(Bitmap)}, {@link #or(Bitmap)} and {@link #andNot(Bitmap)} go over the matching chunks only,
+ * probing sparse arrays, and otherwise combining whole words of the chunks.
+ * <p>use {@link Builder} to build a bitmap
+ */
+public final class Bitmap {
+    private static final Bitmap EMPTY = new Bitmap(new char[0], new Container[0]);
+
+    private final char[] keys; //sorted high 16 bits of each chunk
+    private final Container[] containers;
+
+    private Bitmap(char[] keys, Container[] containers) {
+        this.keys = keys;
+        this.containers = containers;
+    }
+
+    public static Bitmap empty() {
+        return EMPTY;
+    }
+
+    /** returns a bitmap of the given ints, in any order */
+    public static Bitmap of(int... values) {
+        values = values.clone();
+        Arrays.sort(values);
+        if (values.length != 0 && values[0] < 0) throw new IllegalArgumentException("negative value " + values[0]);
+        char[] keys = new char[values.length];
+        Container[] containers = new Container[values.length];
+        int size = 0;
+        for (int from = 0, to; from < values.length; from = to) {
+            int key = values[from] >>> 16, count = 1, runs = 1;
+            for (to = from + 1; to < values.length && values[to] >>> 16 == key; to++) {
+                if (values[to] != values[to - 1]) {
+                    count++;
+                    if (values[to] != values[to - 1] + 1) runs++;
+                }
+            }
+            if (count <= Container.MAX_ARRAY && 4 * runs >= 2 * count) {
+                char[] array = new char[count];
+                array[0] = (char) values[from];
+                for (int i = from + 1, j = 1; i < to; i++) {
+                    if (values[i] != values[i - 1]) array[j++] = (char) values[i];
+                }
+                containers[size] = new ArrayContainer(array);
+            } else {
+                long[] words = new long[1024];
+                for (int i = from; i < to; i++) {
+                    words[(values[i] & 0xFFFF) >>> 6] |= 1L << values[i];
+                }
+                containers[size] = Container.of(words);
+            }
+            keys[size++] = (char) key;
+        }
+        return of(keys, containers, size);
+    }
+
+    /** returns a bitmap of the ints from {@code first} to {@code last}, inclusive */
+    public static Bitmap ofRange(int first, int last) {
+        return ofRanges(first, last);
+    }
+
+    /** returns a bitmap of the given ranges, as sorted and disjoint pairs of first and last ints, inclusive */
+    public static Bitmap ofRanges(int... ranges) {
+        if (ranges.length != 0 && ranges[0] < 0) throw new IllegalArgumentException("negative value " + ranges[0]);
+        char[] keys = new char[16];
+        Container[] containers = new Container[16];
+        char[] runs = new char[16];
+        int size = 0, count = 0, key = -1;
+        for (int r = 0; r < ranges.length; r += 2) {
+            for (int first = ranges[r], last; first <= ranges[r + 1]; first = last + 1) {
+                last = Math.min(ranges[r + 1], first | 0xFFFF);
+                if (first >>> 16 != key) {
+                    if (count != 0) {
+                        if (size == keys.length) {
+                            keys = Arrays.copyOf(keys, size * 2);
+                            containers = Arrays.copyOf(containers, size * 2);
+                        }
+                        keys[size] = (char) key;
+                        containers[size++] = RunContainer.of(Arrays.copyOf(runs, count));
+                    }
+                    key = first >>> 16;
+                    count = 0;
+                }
+                if (count + 2 > runs.length) runs = Arrays.copyOf(runs, count * 2);
+                runs[count++] = (char) first;
+                runs[count++] = (char) last;
+                if (last == Integer.MAX_VALUE) break;
+            }
+        }
+        if (count != 0) {
+            keys = Arrays.copyOf(keys, size + 1);
+            containers = Arrays.copyOf(containers, size + 1);
+            keys[size] = (char) key;
+            containers[size++] = RunContainer.of(Arrays.copyOf(runs, count));
+        }
+        return of(keys, containers, size);
+    }
+
+    public boolean contains(int value) {
+        int index = value >= 0 ? Arrays.binarySearch(keys, (char) (value >>> 16)) : -1;
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (Container container : containers) {
+            cardinality += container.cardinality();
+        }
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return keys.length == 0;
+    }
+
+    /** returns the ints in both this and the given bitmap */
+    public Bitmap and(Bitmap other) {
+        char[] keys = new char[Math.min(this.keys.length, other.keys.length)];
+        Container[] containers = new Container[keys.length];
+        int size = 0;
+        for (int i = 0, j = 0; i < this.keys.length && j < other.keys.length; ) {
+            if (this.keys[i] < other.keys[j]) i++;
+            else if (this.keys[i] > other.keys[j]) j++;
+            else {
+                Container container = this.containers[i].and(other.containers[j]);
+                if (container != null) {
+                    keys[size] = this.keys[i];
+                    containers[size++] = container;
+                }
+                i++;
+                j++;
+            }
+        }
+        return of(keys, containers, size);
+    }
+
+    /** returns the ints in this or the given bitmap */
+    public Bitmap or(Bitmap other) {
+        char[] keys = new char[this.keys.length + other.keys.length];
+        Container[] containers = new Container[keys.length];
+        int size = 0, i = 0, j = 0;
+        while (i < this.keys.length || j < other.keys.length) {
+            if (j == other.keys.length || i < this.keys.length && this.keys[i] < other.keys[j]) {
+                keys[size] = this.keys[i];
+                containers[size++] = this.containers[i++];
+            } else if (i == this.keys.length || this.keys[i] > other.keys[j]) {
+                keys[size] = other.keys[j];
+                containers[size++] = other.containers[j++];
+            } else {
+                keys[size] = this.keys[i];
+                containers[size++] = this.containers[i++].or(other.containers[j++]);
+            }
+        }
+        return of(keys, containers, size);
+    }
+
+    /** returns the ints in this bitmap and not in the given bitmap */
+    public Bitmap andNot(Bitmap other) {
+        char[] keys = new char[this.keys.length];
+        Container[] containers = new Container[keys.length];
+        int size = 0;
+        for (int i = 0, j = 0; i < this.keys.length; i++) {
+            while (j < other.keys.length && other.keys[j] < this.keys[i]) j++;
+            Container container = j < other.keys.length && other.keys[j] == this.keys[i] ?
+                    this.containers[i].andNot(other.containers[j]) : this.containers[i];
+            if (container != null) {
+                keys[size] = this.keys[i];
+                containers[size++] = container;
+            }
+        }
+        return of(keys, containers, size);
+    }
+
+    /** passes the ints of this bitmap to the given consumer, in ascending order */
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < keys.length; i++) {
+            containers[i].forEach(keys[i] << 16, consumer);
+        }
+    }
+
+    /** returns the ints of this bitmap in ascending order */
+    public int[] toArray() {
+        int[] result = new int[cardinality()];
+        int[] size = new int[1];
+        forEach(value -> result[size[0]++] = value);
+        return result;
+    }
+
+    /** approximate bytes retained by this bitmap */
+    public long getMemoryBytes() {
+        long bytes = 2L * keys.length;
+        for (Container container : containers) {
+            bytes += container.memoryBytes();
+        }
+        return bytes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o == this || o instanceof Bitmap && Arrays.equals(toArray(), ((Bitmap) o).toArray());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private static Bitmap of(char[] keys, Container[] containers, int size) {
+        return size == 0 ? EMPTY : new Bitmap(Arrays.copyOf(keys, size), Arrays.copyOf(containers, size));
+    }
+
+    /** a mutable builder of a {@link Bitmap}, which keeps a full bitset for each chunk until built */
+    public static class Builder {
+        private final Map<Integer, long[]> chunks = new HashMap<>();
+
+        public Builder add(int value) {
+            if (value < 0) throw new IllegalArgumentException("negative value " + value);
+            long[] words = chunks.computeIfAbsent(value >>> 16, k -> new long[1024]);
+            words[(value & 0xFFFF) >>> 6] |= 1L << value;
+            return this;
+        }
+
+        /** adds the ints from {@code first} to {@code last}, inclusive */
+        public Builder addRange(int first, int last) {
+            if (first < 0) throw new IllegalArgumentException("negative value " + first);
+            while (first <= last) {
+                int chunkLast = Math.min(last, first | 0xFFFF);
+                setRange(chunks.computeIfAbsent(first >>> 16, k -> new long[1024]), first & 0xFFFF, chunkLast & 0xFFFF);
+                if (chunkLast == Integer.MAX_VALUE) break;
+                first = chunkLast + 1;
+            }
+            return this;
+        }
+
+        public Builder addAll(Bitmap bitmap) {
+            for (int i = 0; i < bitmap.keys.length; i++) {
+                long[] words = chunks.computeIfAbsent((int) bitmap.keys[i], k -> new long[1024]);
+                bitmap.containers[i].orInto(words);
+            }
+            return this;
+        }
+
+        public Bitmap build() {
+            char[] keys = new char[chunks.size()];
+            int size = 0;
+            for (Integer key : chunks.keySet()) {
+                keys[size++] = (char) (int) key;
+            }
+            Arrays.sort(keys);
+            Container[] containers = new Container[keys.length];
+            size = 0;
+            for (char key : keys) {
+                Container container = Container.of(chunks.get((int) key));
+                if (container != null) {
+                    keys[size] = key;
+                    containers[size++] = container;
+                }
+            }
+            return of(keys, containers, size);
+        }
+    }
+
+    private static void setRange(long[] words, int first, int last) {
+        int firstWord = first >>> 6, lastWord = last >>> 6;
+        if (firstWord == lastWord) {
+            words[firstWord] |= (-1L << first) & (-1L >>> (63 - (last & 63)));
+            return;
+        }
+        words[firstWord] |= -1L << first;
+        for (int i = firstWord + 1; i < lastWord; i++) {
+            words[i] = -1L;
+        }
+        words[lastWord] |= -1L >>> (63 - (last & 63));
+    }
+
+    /** the low 16 bits of the ints of a single chunk */
+    private abstract static class Container {
+        static final int MAX_ARRAY = 4096; //an array of more values is larger than a bitset
+
+        abstract int cardinality();
+
+        abstract boolean contains(char value);
+
+        abstract void forEach(int high, IntConsumer consumer);
+
+        /** sets the bits of this container in the given 1024 words bitset */
+        abstract void orInto(long[] words);
+
+        abstract long memoryBytes();
+
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) return other.and(this);
+            long[] words = words();
+            other.andInto(words);
+            return of(words);
+        }
+
+        Container or(Container other) {
+            long[] words = words();
+            other.orInto(words);
+            return of(words);
+        }
+
+        Container andNot(Container other) {
+            long[] words = words();
+            long[] others = new long[1024];
+            other.orInto(others);
+            for (int i = 0; i < 1024; i++) {
+                words[i] &= ~others[i];
+            }
+            return of(words);
+        }
+
+        /** clears the bits which are not in this container from the given 1024 words bitset */
+        void andInto(long[] words) {
+            long[] own = words();
+            for (int i = 0; i < 1024; i++) {
+                words[i] &= own[i];
+            }
+        }
+
+        /** returns a new 1024 words bitset of this container */
+        long[] words() {
+            long[] words = new long[1024];
+            orInto(words);
+            return words;
+        }
+
+        /** returns the smallest container of the given bitset, or null if it is empty */
+        static Container of(long[] words) {
+            int cardinality = 0, runs = 0;
+            long previous = 0;
+            for (long word : words) {
+                cardinality += Long.bitCount(word);
+                runs += Long.bitCount(word & ~(word << 1 | previous >>> 63));
+                previous = word;
+            }
+            if (cardinality == 0) return null;
+            if (4 * runs < Math.min(2 * cardinality, 8192)) return RunContainer.of(words, runs);
+            if (cardinality <= MAX_ARRAY) return ArrayContainer.of(words, cardinality);
+            return new BitsetContainer(words, cardinality);
+        }
+    }
+
+    private static class ArrayContainer extends Container {
+        private final char[] values;
+
+        ArrayContainer(char[] values) {
+            this.values = values;
+        }
+
+        static ArrayContainer of(long[] words, int cardinality) {
+            char[] values = new char[cardinality];
+            int size = 0;
+            for (int i = 0; i < words.length; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    values[size++] = (char) (i << 6 | Long.numberOfTrailingZeros(word));
+                }
+            }
+            return new ArrayContainer(values);
+        }
+
+        int cardinality() {
+            return values.length;
+        }
+
+        boolean contains(char value) {
+            return Arrays.binarySearch(values, value) >= 0;
+        }
+
+        void forEach(int high, IntConsumer consumer) {
+            for (char value : values) {
+                consumer.accept(high | value);
+            }
+        }
+
+        void orInto(long[] words) {
+            for (char value : values) {
+                words[value >>> 6] |= 1L << value;
+            }
+        }
+
+        long memoryBytes() {
+            return 2L * values.length;
+        }
+
+        Container and(Container other) {
+            return filter(other, true);
+        }
+
+        Container or(Container other) {
+            if (other instanceof ArrayContainer && values.length + other.cardinality() <= MAX_ARRAY) {
+                char[] others = ((ArrayContainer) other).values;
+                char[] merged = new char[values.length + others.length];
+                int size = 0, i = 0, j = 0;
+                while (i < values.length || j < others.length) {
+                    if (j == others.length || i < values.length && values[i] < others[j]) merged[size++] = values[i++];
+                    else if (i == values.length || values[i] > others[j]) merged[size++] = others[j++];
+                    else {
+                        merged[size++] = values[i++];
+                        j++;
+                    }
+                }
+                return new ArrayContainer(Arrays.copyOf(merged, size));
+            }
+            return super.or(other);
+        }
+
+        Container andNot(Container other) {
+            return filter(other, false);
+        }
+
+        private Container filter(Container other, boolean contained) {
+            char[] filtered = new char[values.length];
+            int size = 0;
+            for (char value : values) {
+                if (other.contains(value) == contained) filtered[size++] = value;
+            }
+            return size == 0 ? null : size == values.length ? this : new ArrayContainer(Arrays.copyOf(filtered, size));
+        }
+    }
+
+    private static class BitsetContainer extends Container {
+        private final long[] words;
+        private final int cardinality;
+
+        BitsetContainer(long[] words, int cardinality) {
+            this.words = words;
+            this.cardinality = cardinality;
+        }
+
+        int cardinality() {
+            return cardinality;
+        }
+
+        boolean contains(char value) {
+            return (words[value >>> 6] & 1L << value) != 0;
+        }
+
+        void forEach(int high, IntConsumer consumer) {
+            for (int i = 0; i < words.length; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    consumer.accept(high | i << 6 | Long.numberOfTrailingZeros(word));
+                }
+            }
+        }
+
+        void orInto(long[] words) {
+            for (int i = 0; i < 1024; i++) {
+                words[i] |= this.words[i];
+            }
+        }
+
+        void andInto(long[] words) {
+            for (int i = 0; i < 1024; i++) {
+                words[i] &= this.words[i];
+            }
+        }
+
+        long[] words() {
+            return words.clone();
+        }
+
+        long memoryBytes() {
+            return 8L * words.length;
+        }
+    }
+
+    private static class RunContainer extends Container {
+        private final char[] runs; //first and last value of each run
+
+        RunContainer(char[] runs) {
+            this.runs = runs;
+        }
+
+        /** returns the smallest container of the given runs */
+        static Container of(char[] runs) {
+            RunContainer container = new RunContainer(runs);
+            return 2 * runs.length < Math.min(2 * container.cardinality(), 8192) ? container : Container.of(container.words());
+        }
+
+        static RunContainer of(long[] words, int count) {
+            char[] runs = new char[2 * count];
+            int size = 0;
+            for (int value = 0; value < 65536; ) {
+                int i = value >>> 6;
+                long word = words[i] & (-1L << value);
+                while (word == 0 && ++i < 1024) word = words[i];
+                if (i == 1024) break;
+                int first = i << 6 | Long.numberOfTrailingZeros(word);
+                word = ~words[i] & (-1L << first);
+                while (word == 0 && ++i < 1024) word = ~words[i];
+                int last = i == 1024 ? 65535 : (i << 6 | Long.numberOfTrailingZeros(word)) - 1;
+                runs[size++] = (char) first;
+                runs[size++] = (char) last;
+                value = last + 1;
+            }
+            return new RunContainer(runs);
+        }
+
+        int cardinality() {
+            int cardinality = 0;
+            for (int i = 0; i < runs.length; i += 2) {
+                cardinality += runs[i + 1] - runs[i] + 1;
+            }
+            return cardinality;
+        }
+
+        boolean contains(char value) {
+            int low = 0, high = runs.length / 2 - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (runs[2 * mid + 1] < value) low = mid + 1;
+                else if (runs[2 * mid] > value) high = mid - 1;
+                else return true;
+            }
+            return false;
+        }
+
+        void forEach(int high, IntConsumer consumer) {
+            for (int i = 0; i < runs.length; i += 2) {
+                for (int value = runs[i]; value <= runs[i + 1]; value++) {
+                    consumer.accept(high | value);
+                }
+            }
+        }
+
+        void orInto(long[] words) {
+            for (int i = 0; i < runs.length; i += 2) {
+                setRange(words, runs[i], runs[i + 1]);
+            }
+        }
+
+        long memoryBytes() {
+            return 2L * runs.length;
+        }
+    }
+}
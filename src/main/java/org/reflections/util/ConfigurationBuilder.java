@@ -3,6 +3,8 @@ package org.reflections.util;
 import org.reflections.Configuration;
 import org.reflections.Reflections;
 import org.reflections.ReflectionsException;
+import org.reflections.ScanCache;
+import org.reflections.adapters.BytecodeAdapter;
 import org.reflections.adapters.JavaReflectionAdapter;
 import org.reflections.adapters.JavassistAdapter;
 import org.reflections.adapters.MetadataAdapter;
@@ -20,8 +22,8 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -50,6 +52,14 @@ public class ConfigurationBuilder implements Configuration {
     private ExecutorService executorService;
     private ClassLoader[] classLoaders;
     private boolean expandSuperTypes = true;
+    private boolean prefilterInputs;
+    private boolean compactStore;
+    private boolean freezeStore;
+    private boolean indexHierarchy;
+    private boolean indexBitmaps;
+    private boolean indexMetaAnnotations;
+    private boolean trackSources;
+    private ScanCache scanCache;
 
     public ConfigurationBuilder() {
         scanners = new HashSet<>(Arrays.asList(new TypeAnnotationsScanner(), new SubTypesScanner()));
@@ -214,8 +224,9 @@ public class ConfigurationBuilder implements Configuration {
 
     /**
      * returns the metadata adapter.
-     * if javassist library exists in the classpath, this method returns {@link JavassistAdapter} otherwise defaults to {@link JavaReflectionAdapter}.
-     * <p>the {@link JavassistAdapter} is preferred in terms of performance and class loading.
+     * if javassist library exists in the classpath, this method returns {@link JavassistAdapter} otherwise defaults to the dependency free {@link BytecodeAdapter}.
+     * <p>both are preferred over {@link JavaReflectionAdapter} in terms of performance and class loading,
+     * and {@link BytecodeAdapter} is the faster of the two for scanners that do not depend on javassist.
      */
     public MetadataAdapter getMetadataAdapter() {
         if (metadataAdapter != null) return metadataAdapter;
@@ -226,8 +237,8 @@ public class ConfigurationBuilder implements Configuration {
                 return metadataAdapter = new JavassistAdapter();
             } catch (Throwable e) {
                 if (Reflections.log != null)
-                    Reflections.log.debug("JavassistAdapter not available, using JavaReflectionAdapter");
-                return (metadataAdapter = new JavaReflectionAdapter());
+                    Reflections.log.debug("JavassistAdapter not available, using BytecodeAdapter");
+                return (metadataAdapter = new BytecodeAdapter());
             }
         }
     }
@@ -274,30 +285,29 @@ public class ConfigurationBuilder implements Configuration {
     }
 
     /**
-     * sets the executor service used for scanning to ThreadPoolExecutor with core size as {@link java.lang.Runtime#availableProcessors()}
-     * <p>default is ThreadPoolExecutor with a single core
+     * sets the executor service used for scanning to a work stealing {@link ForkJoinPool} with parallelism as {@link java.lang.Runtime#availableProcessors()}
      */
     public ConfigurationBuilder useParallelExecutor() {
         return useParallelExecutor(Runtime.getRuntime().availableProcessors());
     }
 
     /**
-     * sets the executor service used for scanning to ThreadPoolExecutor with core size as the given availableProcessors parameter.
+     * sets the executor service used for scanning to a work stealing {@link ForkJoinPool} with parallelism as the given availableProcessors parameter.
      * the executor service spawns daemon threads by default.
-     * <p>default is ThreadPoolExecutor with a single core
+     * <p>files of large jars and directories are split between the pool threads, see {@link org.reflections.Reflections#scan()}
      */
     public ConfigurationBuilder useParallelExecutor(final int availableProcessors) {
-        ThreadFactory threadFactory = new ThreadFactory() {
+        ForkJoinPool.ForkJoinWorkerThreadFactory threadFactory = new ForkJoinPool.ForkJoinWorkerThreadFactory() {
             private final AtomicInteger threadNumber = new AtomicInteger(1);
 
-            public Thread newThread(Runnable r) {
-                Thread t = new Thread(r);
+            public ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+                ForkJoinWorkerThread t = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
                 t.setName("org.reflections-scanner-" + threadNumber.getAndIncrement());
                 t.setDaemon(true);
                 return t;
             }
         };
-        setExecutorService(Executors.newFixedThreadPool(availableProcessors, threadFactory));
+        setExecutorService(new ForkJoinPool(availableProcessors, threadFactory, null, false));
         return this;
     }
 
@@ -334,6 +344,127 @@ public class ConfigurationBuilder implements Configuration {
         return this;
     }
 
+    @Override
+    public boolean shouldPrefilterInputs() {
+        return prefilterInputs;
+    }
+
+    /**
+     * if set to true, Reflections will skip class files before parsing them, if none of their referenced type names
+     * may be accepted by the scanners, for example when using {@link org.reflections.scanners.Scanner#filterResultsBy(Predicate)} with specific annotations or super types.
+     * <p>see {@link org.reflections.scanners.Scanner#getReferencedTypesFilter()}
+     */
+    public ConfigurationBuilder setPrefilterInputs(boolean prefilterInputs) {
+        this.prefilterInputs = prefilterInputs;
+        return this;
+    }
+
+    @Override
+    public boolean shouldCompactStore() {
+        return compactStore;
+    }
+
+    /**
+     * if set to true, Reflections will keep the scanned metadata dictionary encoded, sharing class, member and package names
+     * between all indices and keeping values in int arrays. queries decode the stored strings.
+     * <p>see {@link org.reflections.Store}
+     */
+    public ConfigurationBuilder setCompactStore(boolean compactStore) {
+        this.compactStore = compactStore;
+        return this;
+    }
+
+    @Override
+    public boolean shouldFreezeStore() {
+        return freezeStore;
+    }
+
+    /**
+     * if set to true, Reflections will freeze the store after scanning and expanding super types,
+     * keeping each index as arrays of sorted keys, values and offsets, queried without locking.
+     * <p>see {@link org.reflections.Store#freeze()}
+     */
+    public ConfigurationBuilder setFreezeStore(boolean freezeStore) {
+        this.freezeStore = freezeStore;
+        return this;
+    }
+
+    @Override
+    public boolean shouldIndexHierarchy() {
+        return indexHierarchy;
+    }
+
+    /**
+     * if set to true, Reflections will precompute the transitive sub types and super types of the scanned types
+     * after scanning and expanding super types, so that {@link org.reflections.Reflections#getSubTypesOf(Class)} does not traverse the store.
+     * <p>see {@link org.reflections.Store#indexHierarchy()}
+     */
+    public ConfigurationBuilder setIndexHierarchy(boolean indexHierarchy) {
+        this.indexHierarchy = indexHierarchy;
+        return this;
+    }
+
+    @Override
+    public boolean shouldIndexBitmaps() {
+        return indexBitmaps;
+    }
+
+    /**
+     * if set to true, Reflections will number the scanned types into compressed bitmaps of sub types, annotated types and packages
+     * after scanning and indexing the hierarchy, so that {@link org.reflections.Reflections#getTypesAnnotatedWith(Class, boolean)}
+     * unions sub types bitmaps rather than sets of names.
+     * <p>see {@link org.reflections.Store#indexBitmaps()}
+     */
+    public ConfigurationBuilder setIndexBitmaps(boolean indexBitmaps) {
+        this.indexBitmaps = indexBitmaps;
+        return this;
+    }
+
+    @Override
+    public boolean shouldIndexMetaAnnotations() {
+        return indexMetaAnnotations;
+    }
+
+    /**
+     * if set to true, Reflections will index the meta annotations of the scanned annotations into a graph after scanning,
+     * so that {@link org.reflections.Reflections#getTypesAnnotatedWith(Class)} expands meta annotations by a single lookup
+     * rather than by traversing the type annotations index.
+     * <p>see {@link org.reflections.Store#indexMetaAnnotations()}
+     */
+    public ConfigurationBuilder setIndexMetaAnnotations(boolean indexMetaAnnotations) {
+        this.indexMetaAnnotations = indexMetaAnnotations;
+        return this;
+    }
+
+    @Override
+    public boolean shouldTrackSources() {
+        return trackSources;
+    }
+
+    /**
+     * if set to true, the store tracks the entries put while scanning each source file, so that {@link org.reflections.Reflections#refresh()}
+     * rescans only the class files which were modified, added or deleted since they were scanned.
+     * <p>see {@link org.reflections.Store#removeSource(java.net.URL, String)}
+     */
+    public ConfigurationBuilder setTrackSources(boolean trackSources) {
+        this.trackSources = trackSources;
+        return this;
+    }
+
+    @Override
+    public ScanCache getScanCache() {
+        return scanCache;
+    }
+
+    /**
+     * sets the on disk cache of jar scan results, so that jars which did not change since they were cached are not scanned again
+     * <p>see {@link org.reflections.ScanCache}
+     */
+    public ConfigurationBuilder setScanCache(ScanCache scanCache) {
+        this.scanCache = scanCache;
+        return this;
+    }
+
     /**
      * set class loader, might be used for resolving methods/fields
      */
@@ -0,0 +1,158 @@
+package org.reflections.util;
+
+import org.reflections.ReflectionUtils;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * a set of the classes of the given type names, resolving each class only once it is iterated or looked up,
+ * and skipping names which could not be resolved, or which resolve to a class already given by a former name
+ * <p>use {@link #stream()} to short circuit, for example with {@code findFirst()} or {@code limit(n)},
+ * so that classes which are never inspected are never loaded, or {@link #parallelStream()} to resolve classes in parallel.
+ * {@link #size()} and {@link #equals(Object)} resolve all classes, the size is computed once.
+ * <p>the set is modifiable. the first modification, including {@link Iterator#remove()}, resolves all classes into a {@link LinkedHashSet},
+ * used from then on.
+ * <p>see {@link ReflectionUtils#forNames(Collection, ClassLoader...)}
+ */
+public class LazyClassSet<T> extends AbstractSet<Class<? extends T>> {
+    private static final Object NOT_FOUND = new Object();
+
+    private final String[] names;
+    private final ClassLoader[] classLoaders;
+    private final Object[] classes; //resolved classes by name index, NOT_FOUND, or null if not resolved yet
+    private Map<String, Integer> indices;
+    private Set<Class<? extends T>> modifiable;
+    private int size = -1;
+
+    public LazyClassSet(Collection<String> names, ClassLoader... classLoaders) {
+        this.names = new LinkedHashSet<>(names).toArray(new String[0]);
+        this.classLoaders = classLoaders;
+        this.classes = new Object[this.names.length];
+    }
+
+    @SuppressWarnings("unchecked")
+    private Class<? extends T> get(int index) {
+        Object type = classes[index];
+        if (type == null) {
+            Class<?> resolved = ReflectionUtils.forName(names[index], classLoaders);
+            classes[index] = type = resolved != null ? resolved : NOT_FOUND;
+        }
+        return type != NOT_FOUND ? (Class<? extends T>) type : null;
+    }
+
+    @Override
+    public Stream<Class<? extends T>> stream() {
+        if (modifiable != null) return modifiable.stream();
+        return IntStream.range(0, names.length).mapToObj(this::get).filter(Objects::nonNull).distinct();
+    }
+
+    @Override
+    public Stream<Class<? extends T>> parallelStream() {
+        if (modifiable != null) return modifiable.parallelStream();
+        return stream().parallel();
+    }
+
+    @Override
+    public Iterator<Class<? extends T>> iterator() {
+        if (modifiable != null) return modifiable.iterator();
+        Iterator<Class<? extends T>> iterator = stream().iterator();
+        return new Iterator<Class<? extends T>>() {
+            private Class<? extends T> last;
+
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            public Class<? extends T> next() {
+                return last = iterator.next();
+            }
+
+            public void remove() {
+                if (last == null) throw new IllegalStateException();
+                modifiable().remove(last);
+                last = null;
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        if (modifiable != null) return modifiable.size();
+        if (size < 0) size = (int) stream().count();
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return modifiable != null ? modifiable.isEmpty() : !stream().findAny().isPresent();
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (modifiable != null) return modifiable.contains(o);
+        if (!(o instanceof Class)) return false;
+        if (indices == null) {
+            Map<String, Integer> indices = new HashMap<>();
+            for (int i = 0; i < names.length; i++) {
+                indices.put(names[i], i);
+            }
+            this.indices = indices;
+        }
+        Integer index = indices.get(Utils.name((Class<?>) o));
+        return index != null && o.equals(get(index));
+    }
+
+    @Override
+    public boolean add(Class<? extends T> type) {
+        return modifiable().add(type);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        return modifiable().remove(o);
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends Class<? extends T>> c) {
+        return modifiable().addAll(c);
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        return modifiable().removeAll(c);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        return modifiable().retainAll(c);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super Class<? extends T>> filter) {
+        return modifiable().removeIf(filter);
+    }
+
+    @Override
+    public void clear() {
+        modifiable().clear();
+    }
+
+    private Set<Class<? extends T>> modifiable() {
+        if (modifiable == null) {
+            Set<Class<? extends T>> resolved = new LinkedHashSet<>();
+            stream().forEach(resolved::add);
+            modifiable = resolved;
+        }
+        return modifiable;
+    }
+}
@@ -0,0 +1,83 @@
+package org.reflections.util;
+
+import java.net.URL;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * scan metrics of a single url, estimated before scanning and measured while scanning
+ * <p>the estimated cost is used to schedule parallel scans, most expensive urls first.
+ * <p>use {@link org.reflections.Reflections#getScanMetrics()} to get the metrics of the last scan
+ */
+public class ScanMetrics {
+    private final URL url;
+    private final int estimatedFiles;
+    private final long estimatedBytes;
+    private final AtomicInteger scannedFiles = new AtomicInteger();
+    private final LongAdder scanNanos = new LongAdder();
+    private final AtomicLong firstStartNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong lastEndNanos = new AtomicLong(Long.MIN_VALUE);
+
+    /**
+     * @param estimatedFiles number of files to be scanned, or -1 if not known before scanning
+     * @param estimatedBytes number of bytes to be scanned, or -1 if not known before scanning
+     */
+    public ScanMetrics(URL url, int estimatedFiles, long estimatedBytes) {
+        this.url = url;
+        this.estimatedFiles = estimatedFiles;
+        this.estimatedBytes = estimatedBytes;
+    }
+
+    public URL getUrl() {
+        return url;
+    }
+
+    /** number of files estimated to be scanned, or -1 if not known before scanning */
+    public int getEstimatedFiles() {
+        return estimatedFiles;
+    }
+
+    /** number of bytes estimated to be scanned, or -1 if not known before scanning */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /** the cost used for scheduling, which is the estimated bytes, or the estimated files if bytes are not known */
+    public long getEstimatedCost() {
+        return estimatedBytes >= 0 ? estimatedBytes : Math.max(estimatedFiles, 0);
+    }
+
+    /** number of files scanned so far */
+    public int getScannedFiles() {
+        return scannedFiles.get();
+    }
+
+    /** sum of time spent scanning files of this url, over all threads */
+    public long getScanMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(scanNanos.sum());
+    }
+
+    /** time from first file scan start to last file scan end of this url */
+    public long getElapsedMillis() {
+        long start = firstStartNanos.get();
+        long end = lastEndNanos.get();
+        return end >= start ? TimeUnit.NANOSECONDS.toMillis(end - start) : 0;
+    }
+
+    /** records the scan of {@code files} files, started at {@code startNanos} as given by {@link System#nanoTime()} */
+    public void record(int files, long startNanos) {
+        long endNanos = System.nanoTime();
+        scannedFiles.addAndGet(files);
+        scanNanos.add(endNanos - startNanos);
+        firstStartNanos.accumulateAndGet(startNanos, Math::min);
+        lastEndNanos.accumulateAndGet(endNanos, Math::max);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: estimated %d files, %d bytes; scanned %d files in %d ms (%d ms elapsed)",
+                url, estimatedFiles, estimatedBytes, getScannedFiles(), getScanMillis(), getElapsedMillis());
+    }
+}
@@ -5,6 +5,7 @@ import org.reflections.ReflectionsException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -14,8 +15,10 @@ import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -49,36 +52,65 @@ public abstract class Utils {
         return file;
     }
 
+    /**
+     * resolves a member descriptor such as {@code my.package.C.method(int, java.lang.String)} to its method, constructor or field,
+     * declared by the class or by its super classes.
+     * <p>the members of each class are indexed by name and parameter type names once, see {@link #getMembers(Class)},
+     * so that resolving is a lookup. throws {@link ReflectionsException} if the member can not be resolved
+     */
     public static Member getMemberFromDescriptor(String descriptor, ClassLoader... classLoaders) throws ReflectionsException {
-        int p0 = descriptor.lastIndexOf('(');
-        String memberKey = p0 != -1 ? descriptor.substring(0, p0) : descriptor;
-        String methodParameters = p0 != -1 ? descriptor.substring(p0 + 1, descriptor.lastIndexOf(')')) : "";
-
-        int p1 = Math.max(memberKey.lastIndexOf('.'), memberKey.lastIndexOf("$"));
-        String className = memberKey.substring(0, p1);
-        String memberName = memberKey.substring(p1 + 1);
-
-        Class<?>[] parameterTypes = null;
-        if (!isEmpty(methodParameters)) {
-            String[] parameterNames = methodParameters.split(",");
-            parameterTypes = Arrays.stream(parameterNames).map(name -> forName(name.trim(), classLoaders)).toArray(Class<?>[]::new);
-        }
+        int p0 = descriptor.indexOf('(');
+        int p1 = descriptor.lastIndexOf('.', p0 != -1 ? p0 : descriptor.length());
+        String className = descriptor.substring(0, p1);
+        String memberKey = p0 != -1 ? memberKey(descriptor.substring(p1 + 1, p0), descriptor.substring(p0 + 1, descriptor.lastIndexOf(')'))) :
+                descriptor.substring(p1 + 1);
 
         Class<?> aClass = forName(className, classLoaders);
         while (aClass != null) {
-            try {
-                if (!descriptor.contains("(")) {
-                    return aClass.isInterface() ? aClass.getField(memberName) : aClass.getDeclaredField(memberName);
-                } else if (isConstructor(descriptor)) {
-                    return aClass.isInterface() ? aClass.getConstructor(parameterTypes) : aClass.getDeclaredConstructor(parameterTypes);
-                } else {
-                    return aClass.isInterface() ? aClass.getMethod(memberName, parameterTypes) : aClass.getDeclaredMethod(memberName, parameterTypes);
+            Member member = getMembers(aClass).get(memberKey);
+            if (member != null) {
+                return member;
+            }
+            aClass = aClass.getSuperclass();
+        }
+        throw new ReflectionsException("Can't resolve member named " + memberKey + " for class " + className);
+    }
+
+    private static String memberKey(String name, String parameters) {
+        if (parameters.contains(",") && !parameters.contains(", ") || parameters.contains(" ,") || parameters.startsWith(" ") || parameters.endsWith(" ")) {
+            parameters = Arrays.stream(parameters.split(",")).map(String::trim).collect(Collectors.joining(", "));
+        }
+        return name + "(" + parameters + ")";
+    }
+
+    private static final ClassValue<Map<String, Member>> members = new ClassValue<Map<String, Member>>() {
+        @Override
+        protected Map<String, Member> computeValue(Class<?> type) {
+            Map<String, Member> members = new HashMap<>();
+            for (Field field : type.isInterface() ? type.getFields() : type.getDeclaredFields()) {
+                members.put(field.getName(), field);
+            }
+            for (Constructor<?> constructor : type.isInterface() ? type.getConstructors() : type.getDeclaredConstructors()) {
+                members.put("<init>(" + join(names(constructor.getParameterTypes()), ", ") + ")", constructor);
+            }
+            for (Method method : type.isInterface() ? type.getMethods() : type.getDeclaredMethods()) {
+                String key = method.getName() + "(" + join(names(method.getParameterTypes()), ", ") + ")";
+                Member existing = members.get(key);
+                if (existing == null || ((Method) existing).isBridge()) {
+                    members.put(key, method);
                 }
-            } catch (Exception e) {
-                aClass = aClass.getSuperclass();
             }
+            return members;
         }
-        throw new ReflectionsException("Can't resolve member named " + memberName + " for class " + className);
+    };
+
+    /**
+     * returns the members of the given class by name for fields, and by name and parameter type names for methods and constructors,
+     * such as {@code method(int, java.lang.String)} or {@code <init>()}. these are the declared members of a class,
+     * or the public members of an interface. members are indexed once per class, without holding the class from being unloaded
+     */
+    public static Map<String, Member> getMembers(Class<?> type) {
+        return members.get(type);
     }
 
     public static Set<Method> getMethodsFromDescriptors(Iterable<String> annotatedWith, ClassLoader... classLoaders) {
@@ -119,11 +151,12 @@ public abstract class Utils {
         String className = field.substring(0, field.lastIndexOf('.'));
         String fieldName = field.substring(field.lastIndexOf('.') + 1);
 
-        try {
-            return forName(className, classLoaders).getDeclaredField(fieldName);
-        } catch (NoSuchFieldException e) {
-            throw new ReflectionsException("Can't resolve field named " + fieldName, e);
+        Class<?> type = forName(className, classLoaders);
+        Member member = type != null ? getMembers(type).get(fieldName) : null;
+        if (!(member instanceof Field)) {
+            throw new ReflectionsException("Can't resolve field named " + fieldName);
         }
+        return (Field) member;
     }
 
     public static void close(InputStream closeable) {
@@ -135,6 +168,16 @@ public abstract class Utils {
         }
     }
 
+    /** reads the given input stream fully, without closing it */
+    public static byte[] readAllBytes(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream(Math.max(inputStream.available(), 1024));
+        byte[] buffer = new byte[8192];
+        for (int n; (n = inputStream.read(buffer)) != -1; ) {
+            output.write(buffer, 0, n);
+        }
+        return output.toByteArray();
+    }
+
     public static Logger findLogger(Class<?> aClass) {
         try {
             // This is to check whether an optional SLF4J binding is available. While SLF4J recommends that libraries
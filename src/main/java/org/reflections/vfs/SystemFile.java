@@ -7,7 +7,7 @@ import java.io.FileNotFoundException;
 /** an implementation of {@link org.reflections.vfs.Vfs.File} for a directory {@link java.io.File} */
 public class SystemFile implements Vfs.File {
     private final SystemDir root;
-    private final java.io.File file;
+    final java.io.File file;
 
     public SystemFile(final SystemDir root, java.io.File file) {
         this.root = root;
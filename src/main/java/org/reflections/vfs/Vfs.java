@@ -180,6 +180,32 @@ public abstract class Vfs {
                 .filter(filePredicate).iterator();
     }
 
+    /**
+     * estimate the size in bytes of the given file without reading it, using the zip central directory or the file system.
+     * returns -1 if the size is not known up front
+     */
+    public static long estimateSize(File file) {
+        if (file instanceof ZipFile) {
+            return ((ZipFile) file).entry.getSize();
+        } else if (file instanceof SystemFile) {
+            return ((SystemFile) file).file.length();
+        }
+        return -1;
+    }
+
+    /**
+     * get the last modified time of the given file without reading it, using the zip entry or the file system.
+     * returns -1 if it is not known
+     */
+    public static long lastModified(File file) {
+        if (file instanceof ZipFile) {
+            return ((ZipFile) file).entry.getTime();
+        } else if (file instanceof SystemFile) {
+            return ((SystemFile) file).file.lastModified();
+        }
+        return -1;
+    }
+
     /**
      * try to get {@link java.io.File} from url
      */
@@ -7,7 +7,7 @@ import java.util.zip.ZipEntry;
 /** an implementation of {@link org.reflections.vfs.Vfs.File} for {@link java.util.zip.ZipEntry} */
 public class ZipFile implements Vfs.File {
     private final ZipDir root;
-    private final ZipEntry entry;
+    final ZipEntry entry;
 
     public ZipFile(final ZipDir root, ZipEntry entry) {
         this.root = root;
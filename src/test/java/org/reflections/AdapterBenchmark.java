@@ -0,0 +1,61 @@
+package org.reflections;
+
+import org.reflections.adapters.BytecodeAdapter;
+import org.reflections.adapters.JavassistAdapter;
+import org.reflections.adapters.MetadataAdapter;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * compares the scan time and allocation of the javassist and bytecode adapters, scanning sub types and type annotations
+ * of the java class path in a single thread, and prints a line per adapter, averaged over the given number of rounds, 5 by default.
+ * <pre>
+ * java -cp target/classes:target/test-classes:... org.reflections.AdapterBenchmark [rounds]
+ * </pre>
+ */
+public class AdapterBenchmark {
+
+    public static void main(String[] args) {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        List<Supplier<MetadataAdapter<?, ?, ?>>> adapters = Arrays.asList(JavassistAdapter::new, BytecodeAdapter::new);
+        for (Supplier<MetadataAdapter<?, ?, ?>> adapter : adapters) {
+            String name = adapter.get().getClass().getSimpleName();
+            scan(adapter.get()); //warm up
+
+            long time = 0, allocated = 0;
+            for (int i = 0; i < rounds; i++) {
+                long allocatedBefore = allocatedBytes();
+                long start = System.nanoTime();
+                scan(adapter.get());
+                time += System.nanoTime() - start;
+                allocated += allocatedBytes() - allocatedBefore;
+            }
+            System.out.printf("%-18s scan %,8.1f ms, allocated %,8.1f MB%n", name, time / 1e6 / rounds, allocated / 1e6 / rounds);
+        }
+    }
+
+    private static Store scan(MetadataAdapter<?, ?, ?> adapter) {
+        return new Reflections(new ConfigurationBuilder()
+                .setUrls(ClasspathHelper.forJavaClassPath())
+                .setMetadataAdapter(adapter)
+                .setScanners(new SubTypesScanner(), new TypeAnnotationsScanner()))
+                .getStore();
+    }
+
+    /** returns the bytes allocated by this thread, or 0 if not supported by the jvm */
+    private static long allocatedBytes() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+}
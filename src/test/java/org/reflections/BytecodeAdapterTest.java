@@ -0,0 +1,148 @@
+package org.reflections;
+
+import javassist.CtClass;
+import javassist.LoaderClassPath;
+import javassist.NotFoundException;
+import org.junit.Test;
+import org.reflections.adapters.BoundedClassPool;
+import org.reflections.adapters.BytecodeAdapter;
+import org.reflections.adapters.BytecodeClass;
+import org.reflections.adapters.BytecodeMember;
+import org.reflections.adapters.JavassistAdapter;
+import org.reflections.adapters.MetadataAdapter;
+import org.reflections.scanners.AnnotationValuesScanner;
+import org.reflections.scanners.FieldAnnotationsScanner;
+import org.reflections.scanners.MemberUsageScanner;
+import org.reflections.scanners.MethodAnnotationsScanner;
+import org.reflections.scanners.MethodParameterScanner;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.scanners.TypeModifiersScanner;
+import org.reflections.scanners.TypeElementsScanner;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.FilterBuilder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.annotation.Retention;
+import java.net.URL;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.function.Predicate;
+
+import static java.lang.annotation.RetentionPolicy.CLASS;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BytecodeAdapterTest {
+
+    @Test
+    public void testTestModel() {
+        URL url = ClasspathHelper.forClass(TestModel.class);
+        Store expected = scan(url, new JavassistAdapter());
+        assertFalse(expected.keys(SubTypesScanner.class.getSimpleName()).isEmpty());
+        assertSameStore(expected, scan(url, new BytecodeAdapter()));
+    }
+
+    @Test
+    public void testJar() {
+        URL url = ClasspathHelper.forClass(CtClass.class);
+        Store expected = scan(url, new JavassistAdapter());
+        assertFalse(expected.keys(SubTypesScanner.class.getSimpleName()).isEmpty());
+        assertSameStore(expected, scan(url, new BytecodeAdapter()));
+    }
+
+    @Test
+    public void testPrefilter() {
+        URL url = ClasspathHelper.forClass(TestModel.class);
+        Store expected = scanFiltered(url, new JavassistAdapter(), false);
+        assertFalse(expected.keys(TypeAnnotationsScanner.class.getSimpleName()).isEmpty());
+        assertSameStore(expected, scanFiltered(url, new JavassistAdapter(), true));
+        assertSameStore(expected, scanFiltered(url, new BytecodeAdapter(), true));
+    }
+
+    @Test
+    public void testInvisibleParameterAnnotations() throws IOException {
+        BytecodeClass bytecodeClass;
+        try (InputStream inputStream = getClass().getResourceAsStream("BytecodeAdapterTest$Annotated.class")) {
+            bytecodeClass = BytecodeClass.read(inputStream);
+        }
+        BytecodeAdapter adapter = new BytecodeAdapter();
+        BytecodeMember method = adapter.getMethods(bytecodeClass).stream()
+                .filter(m -> m.getName().equals("method")).findFirst().orElseThrow(IllegalStateException::new);
+        try {
+            assertEquals(Arrays.asList(Visible.class.getName(), Invisible.class.getName()), adapter.getParameterAnnotationNames(method, 0));
+            BytecodeAdapter.includeInvisibleTag = false;
+            assertEquals(Collections.singletonList(Visible.class.getName()), adapter.getParameterAnnotationNames(method, 0));
+        } finally {
+            BytecodeAdapter.includeInvisibleTag = true;
+        }
+    }
+
+    @Test
+    public void testBoundedClassPool() throws NotFoundException {
+        BoundedClassPool classPool = new BoundedClassPool(4096);
+        classPool.appendClassPath(new LoaderClassPath(getClass().getClassLoader()));
+        for (Class<?> type : TestModel.class.getDeclaredClasses()) {
+            CtClass ctClass = classPool.get(type.getName());
+            ctClass.getClassFile(); //class files are read, and measured, when first needed
+            assertEquals(ctClass, classPool.get(type.getName()));
+            assertTrue(classPool.getRetainedBytes() <= 4096);
+        }
+        assertTrue(classPool.getHits() > 0);
+        assertTrue(classPool.getMisses() > 0);
+        assertTrue(classPool.getEvictions() > 0);
+    }
+
+    @Retention(RUNTIME) public @interface Visible {}
+    @Retention(CLASS) public @interface Invisible {}
+
+    public static class Annotated {
+        public void method(@Visible @Invisible String parameter) {}
+    }
+
+    private Store scan(URL url, MetadataAdapter metadataAdapter) {
+        return new Reflections(new ConfigurationBuilder()
+                .setUrls(url)
+                .setMetadataAdapter(metadataAdapter)
+                .setExpandSuperTypes(false)
+                .setScanners(
+                        new SubTypesScanner(false),
+                        new TypeAnnotationsScanner(),
+                        new FieldAnnotationsScanner(),
+                        new MethodAnnotationsScanner(),
+                        new MethodParameterScanner(),
+                        new MemberUsageScanner(),
+                        new AnnotationValuesScanner(),
+                        new TypeModifiersScanner(),
+                        new TypeElementsScanner().publicOnly(false)))
+                .getStore();
+    }
+
+    private Store scanFiltered(URL url, MetadataAdapter metadataAdapter, boolean prefilterInputs) {
+        Predicate<String> resultsFilter = new FilterBuilder().includePackage(TestModel.class);
+        return new Reflections(new ConfigurationBuilder()
+                .setUrls(url)
+                .setMetadataAdapter(metadataAdapter)
+                .setExpandSuperTypes(false)
+                .setPrefilterInputs(prefilterInputs)
+                .setScanners(
+                        new TypeAnnotationsScanner().filterResultsBy(resultsFilter),
+                        new FieldAnnotationsScanner().filterResultsBy(resultsFilter),
+                        new MethodAnnotationsScanner().filterResultsBy(resultsFilter)))
+                .getStore();
+    }
+
+    private void assertSameStore(Store expected, Store actual) {
+        assertEquals(expected.keySet(), actual.keySet());
+        for (String index : expected.keySet()) {
+            assertEquals(index, expected.keys(index), actual.keys(index));
+            for (String key : expected.keys(index)) {
+                assertEquals(index + " " + key, expected.get(index, key), actual.get(index, key));
+            }
+        }
+    }
+}
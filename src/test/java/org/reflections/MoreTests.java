@@ -3,33 +3,66 @@ package org.reflections;
 import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.reflections.adapters.BytecodeAdapter;
+import org.reflections.adapters.JavaReflectionAdapter;
+import org.reflections.adapters.JavassistAdapter;
+import org.reflections.adapters.MetadataAdapter;
+import org.reflections.scanners.AbstractScanner;
+import org.reflections.scanners.AnnotationValuesScanner;
+import org.reflections.scanners.FieldAnnotationsScanner;
+import org.reflections.scanners.MemberUsageScanner;
+import org.reflections.scanners.MethodAnnotationsScanner;
 import org.reflections.scanners.MethodParameterNamesScanner;
 import org.reflections.scanners.ResourcesScanner;
 import org.reflections.scanners.SubTypesScanner;
 import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.scanners.TypeElementsScanner;
 import org.reflections.util.ClasspathHelper;
 import org.reflections.util.ConfigurationBuilder;
 import org.reflections.util.FilterBuilder;
+import org.reflections.vfs.Vfs;
 
+import java.io.File;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.reflections.MoreTestsModel.CyclicAnnotation;
+import static org.reflections.MoreTestsModel.DefaultValues;
+import static org.reflections.MoreTestsModel.GivenDefaultValues;
+import static org.reflections.MoreTestsModel.GivenValues;
 import static org.reflections.MoreTestsModel.Meta;
 import static org.reflections.MoreTestsModel.MultiName;
 import static org.reflections.MoreTestsModel.Name;
 import static org.reflections.MoreTestsModel.Names;
 import static org.reflections.MoreTestsModel.ParamNames;
 import static org.reflections.MoreTestsModel.SingleName;
+import static org.reflections.MoreTestsModel.UsageBase;
+import static org.reflections.MoreTestsModel.UsageCaller;
+import static org.reflections.MoreTestsModel.UsageInterface;
+import static org.reflections.MoreTestsModel.UsageSub;
+import static org.reflections.MoreTestsModel.Values;
 import static org.reflections.ReflectionUtilsTest.toStringSorted;
 import static org.reflections.ReflectionsTest.are;
 
@@ -42,6 +75,54 @@ public class MoreTests {
                 are(CyclicAnnotation.class));
     }
 
+    @Test
+    public void testAnnotationValues() throws Exception {
+        for (MetadataAdapter metadataAdapter : Arrays.asList(new JavassistAdapter(), new BytecodeAdapter(), new JavaReflectionAdapter())) {
+            Reflections reflections = new Reflections(new ConfigurationBuilder()
+                    .setUrls(ClasspathHelper.forClass(MoreTestsModel.class))
+                    .filterInputsBy(new FilterBuilder().includePackage(MoreTestsModel.class.getName()))
+                    .setMetadataAdapter(metadataAdapter)
+                    .setScanners(new SubTypesScanner(), new TypeAnnotationsScanner(), new FieldAnnotationsScanner(),
+                            new MethodAnnotationsScanner(), new AnnotationValuesScanner()));
+            assertTrue(reflections.getStore().keys(AnnotationValuesScanner.class.getSimpleName()).contains(Values.class.getName() + ".classes()"));
+
+            Values defaults = DefaultValues.class.getAnnotation(Values.class);
+            assertThat(reflections.getTypesAnnotatedWith(defaults), are(DefaultValues.class, GivenDefaultValues.class));
+            assertThat(reflections.getTypesAnnotatedWith(GivenDefaultValues.class.getAnnotation(Values.class)), are(DefaultValues.class, GivenDefaultValues.class));
+            assertThat(reflections.getTypesAnnotatedWith(GivenValues.class.getAnnotation(Values.class)), are(GivenValues.class));
+
+            Values member = DefaultValues.class.getDeclaredField("field").getAnnotation(Values.class);
+            assertThat(reflections.getFieldsAnnotatedWith(member), are(DefaultValues.class.getDeclaredField("field")));
+            assertThat(reflections.getMethodsAnnotatedWith(member), are(DefaultValues.class.getDeclaredMethod("method")));
+            assertTrue(reflections.getFieldsAnnotatedWith(defaults).isEmpty());
+            for (String entry : reflections.getStore().get(AnnotationValuesScanner.class, Values.class.getName() + ".i()")) {
+                assertFalse(entry.startsWith(DefaultValues.class.getName() + AnnotationValuesScanner.VALUE_SEPARATOR)); //not given explicitly
+            }
+        }
+
+        Reflections reflections = new Reflections(MoreTestsModel.class, new SubTypesScanner(), new TypeAnnotationsScanner());
+        assertThat(reflections.getTypesAnnotatedWith(GivenValues.class.getAnnotation(Values.class)), are(GivenValues.class));
+    }
+
+    @Test
+    public void testInheritedMemberUsage() throws Exception {
+        Reflections reflections = new Reflections(new ConfigurationBuilder()
+                .setUrls(ClasspathHelper.forClass(MoreTestsModel.class))
+                .filterInputsBy(new FilterBuilder().includePackage(MoreTestsModel.class.getName()))
+                .setScanners(new MemberUsageScanner()));
+        Method call = UsageCaller.class.getDeclaredMethod("call", UsageSub.class);
+        assertThat(reflections.getMethodUsage(UsageBase.class.getDeclaredMethod("inheritedMethod")), are(call));
+        assertThat(reflections.getMethodUsage(UsageInterface.class.getDeclaredMethod("defaultMethod")), are(call));
+        assertThat(reflections.getFieldUsage(UsageBase.class.getDeclaredField("field")), are(call));
+
+        Reflections unresolved = new Reflections(new ConfigurationBuilder()
+                .setUrls(ClasspathHelper.forClass(MoreTestsModel.class))
+                .filterInputsBy(new FilterBuilder().includePackage(MoreTestsModel.class.getName()))
+                .setScanners(new MemberUsageScanner().resolveDeclaringClasses(false)));
+        assertTrue(unresolved.getMethodUsage(UsageBase.class.getDeclaredMethod("inheritedMethod")).isEmpty());
+        assertTrue(unresolved.getStore().keys(MemberUsageScanner.class.getSimpleName()).contains(UsageSub.class.getName() + ".inheritedMethod()"));
+    }
+
     @Test
     public void noExceptionWhenConfiguredScannerStoreIsEmpty() {
         Reflections reflections = new Reflections(new ConfigurationBuilder()
@@ -153,4 +234,182 @@ public class MoreTests {
                 "[testParam]");
 
     }
+
+    @Test
+    public void testScanCache() throws Exception {
+        File directory = Files.createTempDirectory("reflections-cache").toFile();
+        File jar = new File(directory, "junit.jar");
+        Files.copy(Vfs.getFile(ClasspathHelper.forClass(Test.class)).toPath(), jar.toPath());
+        try {
+            ConfigurationBuilder configuration = new ConfigurationBuilder()
+                    .setUrls(jar.toURI().toURL(), ClasspathHelper.forClass(MoreTestsModel.class))
+                    .setScanners(new SubTypesScanner(false), new TypeAnnotationsScanner())
+                    .setExpandSuperTypes(false);
+
+            ScanCache scanCache = new ScanCache(new File(directory, "cache"), true);
+            Reflections scanned = new Reflections(configuration.setScanCache(scanCache));
+            assertEquals(0, scanCache.getHits());
+            assertEquals(1, scanCache.getMisses());
+
+            scanCache = new ScanCache(new File(directory, "cache"), true);
+            Reflections cached = new Reflections(configuration.setScanCache(scanCache));
+            assertEquals(1, scanCache.getHits());
+            assertEquals(0, scanCache.getMisses());
+            for (String index : scanned.getStore().keySet()) {
+                for (String key : scanned.getStore().keys(index)) {
+                    assertEquals(scanned.getStore().get(index, key), cached.getStore().get(index, key));
+                }
+                assertEquals(scanned.getStore().keys(index), cached.getStore().keys(index));
+            }
+            assertTrue(cached.getSubTypeNamesOf("org.junit.runners.model.Statement").contains("org.junit.internal.runners.statements.RunAfters"));
+
+            assertTrue(jar.setLastModified(jar.lastModified() - 60000));
+            scanCache = new ScanCache(new File(directory, "cache"), true);
+            new Reflections(configuration.setScanCache(scanCache));
+            assertEquals(0, scanCache.getHits());
+            assertEquals(1, scanCache.getMisses());
+
+            scanCache = new ScanCache(new File(directory, "cache"), true);
+            new Reflections(configuration.setScanCache(scanCache).setScanners(new SubTypesScanner().filterResultsBy(name -> true)));
+            assertEquals(0, scanCache.getHits());
+            assertEquals(0, scanCache.getMisses());
+
+            String publicOnly = scanCache.getScannersKey(configuration.setScanners(new TypeElementsScanner().publicOnly(true)));
+            assertEquals(publicOnly, scanCache.getScannersKey(configuration.setScanners(new TypeElementsScanner().publicOnly(true))));
+            assertNotEquals(publicOnly, scanCache.getScannersKey(configuration.setScanners(new TypeElementsScanner().publicOnly(false))));
+            String resolving = scanCache.getScannersKey(configuration.setScanners(new MemberUsageScanner()));
+            assertNotEquals(resolving, scanCache.getScannersKey(configuration.setScanners(new MemberUsageScanner().resolveDeclaringClasses(false))));
+            try {
+                JavassistAdapter.includeInvisibleTag = false;
+                assertNotEquals(resolving, scanCache.getScannersKey(configuration.setScanners(new MemberUsageScanner())));
+            } finally {
+                JavassistAdapter.includeInvisibleTag = true;
+            }
+            assertNull(scanCache.getScannersKey(configuration.setScanners(new AbstractScanner() {
+                private boolean option;
+
+                public void scan(Object cls, Store store) {}
+            })));
+        } finally {
+            try (Stream<Path> paths = Files.walk(directory.toPath())) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
+
+    @Test
+    public void testQueryFromShadowedUrl() throws Exception {
+        for (boolean trackSources : new boolean[]{false, true}) {
+            File directory = Files.createTempDirectory("reflections-shadowed").toFile();
+            File classes = new File(ClasspathHelper.forClass(TestModel.class).toURI());
+            File model = new File(directory, "org/reflections");
+            assertTrue(model.mkdirs());
+            try {
+                for (String name : Arrays.asList("TestModel$C1.class", "TestModel$C2.class")) {
+                    Files.copy(new File(classes, "org/reflections/" + name).toPath(), new File(model, name).toPath());
+                }
+                URL url = directory.toURI().toURL();
+                Reflections reflections = new Reflections(new ConfigurationBuilder()
+                        .setUrls(url)
+                        .setScanners(new SubTypesScanner(false))
+                        .setExpandSuperTypes(false)
+                        .setTrackSources(trackSources));
+                assertEquals(new HashSet<>(Arrays.asList(TestModel.C1.class.getName(), TestModel.C2.class.getName())),
+                        reflections.query().fromUrl(url).names());
+                assertEquals(Collections.singleton(TestModel.C2.class.getName()), reflections.query().subTypeOf(TestModel.C1.class).fromUrl(url).names());
+                assertTrue(reflections.query().fromUrl(ClasspathHelper.forClass(Test.class)).subTypeOf(TestModel.C1.class).names().isEmpty());
+            } finally {
+                try (Stream<Path> paths = Files.walk(directory.toPath())) {
+                    paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testRefresh() throws Exception {
+        for (boolean compact : new boolean[]{false, true}) {
+            File directory = Files.createTempDirectory("reflections-refresh").toFile();
+            File classes = new File(ClasspathHelper.forClass(TestModel.class).toURI());
+            File model = new File(directory, "org/reflections");
+            assertTrue(model.mkdirs());
+            try {
+                for (String name : Arrays.asList("TestModel$C1.class", "TestModel$C2.class")) {
+                    Files.copy(new File(classes, "org/reflections/" + name).toPath(), new File(model, name).toPath());
+                }
+                Reflections reflections = new Reflections(new ConfigurationBuilder()
+                        .setUrls(directory.toURI().toURL())
+                        .setScanners(new SubTypesScanner(false), new TypeAnnotationsScanner())
+                        .setExpandSuperTypes(false)
+                        .setCompactStore(compact)
+                        .setFreezeStore(compact)
+                        .setIndexHierarchy(compact)
+                        .setTrackSources(true));
+                assertEquals(toStringSorted(reflections.getSubTypesOf(TestModel.C1.class)), "[class org.reflections.TestModel$C2]");
+                assertEquals(0, reflections.refresh());
+
+                Files.copy(new File(classes, "org/reflections/TestModel$C3.class").toPath(), new File(model, "TestModel$C3.class").toPath());
+                assertEquals(1, reflections.refresh());
+                assertEquals(toStringSorted(reflections.getSubTypesOf(TestModel.C1.class)),
+                        "[class org.reflections.TestModel$C2, class org.reflections.TestModel$C3]");
+
+                assertTrue(new File(model, "TestModel$C2.class").delete());
+                assertEquals(1, reflections.refresh());
+                assertEquals(toStringSorted(reflections.getSubTypesOf(TestModel.C1.class)), "[class org.reflections.TestModel$C3]");
+
+                File c1 = new File(model, "TestModel$C1.class");
+                assertTrue(c1.setLastModified(c1.lastModified() - 60000));
+                assertEquals(1, reflections.refresh());
+                assertEquals(toStringSorted(reflections.getSubTypesOf(TestModel.I2.class)),
+                        "[class org.reflections.TestModel$C1, class org.reflections.TestModel$C3]");
+                assertEquals(compact, reflections.getStore().isFrozen());
+                assertEquals(compact, reflections.getStore().getHierarchyIndex() != null);
+
+                assertTrue(reflections.getStore().removeSources(directory.toURI().toURL()) > 0);
+                assertTrue(reflections.getSubTypesOf(TestModel.I2.class).isEmpty());
+            } finally {
+                try (Stream<Path> paths = Files.walk(directory.toPath())) {
+                    paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testWatch() throws Exception {
+        File directory = Files.createTempDirectory("reflections-watch").toFile();
+        File classes = new File(ClasspathHelper.forClass(TestModel.class).toURI());
+        File model = new File(directory, "org/reflections");
+        assertTrue(model.mkdirs());
+        try {
+            for (String name : Arrays.asList("TestModel$C1.class", "TestModel$C2.class")) {
+                Files.copy(new File(classes, "org/reflections/" + name).toPath(), new File(model, name).toPath());
+            }
+            Reflections reflections = new Reflections(new ConfigurationBuilder()
+                    .setUrls(directory.toURI().toURL())
+                    .setScanners(new SubTypesScanner(false), new TypeAnnotationsScanner())
+                    .setExpandSuperTypes(false)
+                    .setTrackSources(true));
+            BlockingQueue<StoreDelta> deltas = new LinkedBlockingQueue<>();
+            try (ReflectionsWatcher watcher = reflections.watch(deltas::add)) {
+                assertEquals(1, watcher.getUrls().size());
+
+                Files.copy(new File(classes, "org/reflections/TestModel$C3.class").toPath(), new File(model, "TestModel$C3.class").toPath());
+                StoreDelta delta = deltas.poll(10, TimeUnit.SECONDS);
+                assertTrue(delta != null && delta.getAdded(SubTypesScanner.class).get(TestModel.C1.class.getName()).contains(TestModel.C3.class.getName()));
+                assertTrue(delta.getRemoved(SubTypesScanner.class).isEmpty());
+                assertEquals(toStringSorted(reflections.getSubTypesOf(TestModel.C1.class)),
+                        "[class org.reflections.TestModel$C2, class org.reflections.TestModel$C3]");
+
+                assertTrue(new File(model, "TestModel$C2.class").delete());
+                delta = deltas.poll(10, TimeUnit.SECONDS);
+                assertTrue(delta != null && delta.getRemoved(SubTypesScanner.class).get(TestModel.C1.class.getName()).contains(TestModel.C2.class.getName()));
+                assertEquals(toStringSorted(reflections.getSubTypesOf(TestModel.C1.class)), "[class org.reflections.TestModel$C3]");
+            }
+        } finally {
+            try (Stream<Path> paths = Files.walk(directory.toPath())) {
+                paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+            }
+        }
+    }
 }
@@ -79,6 +79,41 @@ public class MoreTestsModel {
     public static class SingleName {
     }
 
+    // annotation values
+    @Retention(RUNTIME)
+    public @interface Values {
+        byte b() default 1;
+        short s() default 2;
+        int i() default 3;
+        long l() default 4L;
+        float f() default 0.5f;
+        double d() default 0.25;
+        char c() default '\'';
+        boolean z() default false;
+        String string() default "\"quoted\\\"";
+        ElementType type() default ElementType.TYPE;
+        Class<?> clazz() default Object.class;
+        String[] strings() default {};
+        int[] ints() default {1, 2};
+        Class<?>[] classes() default {int[].class, Values.class};
+    }
+
+    @Values
+    public static class DefaultValues {
+        @Values(i = 1) String field;
+        @Values(i = 1) void method() {}
+    }
+
+    @Values(b = 1, s = 2, i = 3, l = 4L, f = 0.5f, d = 0.25, c = '\'', z = false, string = "\"quoted\\\"",
+            type = ElementType.TYPE, clazz = Object.class, strings = {}, ints = {1, 2}, classes = {int[].class, Values.class})
+    public static class GivenDefaultValues {
+    }
+
+    @Values(b = -1, s = -2, i = -3, l = Long.MIN_VALUE, f = Float.NaN, d = -0.0, c = '\\', z = true, string = "",
+            type = ElementType.FIELD, clazz = String[][].class, strings = {"a", "b"}, ints = {}, classes = Values.class)
+    public static class GivenValues {
+    }
+
     //
     public static class ParamNames {
         public ParamNames() {
@@ -102,4 +137,24 @@ public class MoreTestsModel {
             String testLocal = "local";
         }
     }
+
+    public interface UsageInterface {
+        default void defaultMethod() {}
+    }
+
+    public static class UsageBase {
+        public int field;
+
+        public void inheritedMethod() {}
+    }
+
+    public static class UsageSub extends UsageBase implements UsageInterface {}
+
+    public static class UsageCaller {
+        public void call(UsageSub sub) {
+            sub.inheritedMethod();
+            sub.defaultMethod();
+            sub.field++;
+        }
+    }
 }
@@ -4,23 +4,31 @@ import org.hamcrest.BaseMatcher;
 import org.hamcrest.Description;
 import org.junit.Test;
 import org.reflections.scanners.FieldAnnotationsScanner;
+import org.reflections.util.Utils;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Field;
 import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.reflections.ReflectionUtils.forName;
+import static org.reflections.ReflectionUtils.forNames;
 import static org.reflections.ReflectionUtils.getAllAnnotations;
 import static org.reflections.ReflectionUtils.getAllConstructors;
 import static org.reflections.ReflectionUtils.getAllFields;
@@ -48,6 +56,115 @@ import static org.reflections.ReflectionsTest.are;
 @SuppressWarnings("unchecked")
 public class ReflectionUtilsTest {
 
+    @Test
+    public void forNamesLazily() {
+        List<String> loaded = new ArrayList<>();
+        ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            public Class<?> loadClass(String name) throws ClassNotFoundException {
+                loaded.add(name);
+                return super.loadClass(name);
+            }
+        };
+        Set<Class<?>> classes = forNames(Arrays.asList("java.lang.String", "not.Exists", "java.lang.Integer", "java.lang.Long"), classLoader);
+        assertTrue(loaded.isEmpty());
+
+        assertEquals(String.class, classes.stream().findFirst().orElse(null));
+        assertEquals(Collections.singletonList("java.lang.String"), loaded);
+
+        assertTrue(classes.contains(Long.class));
+        assertFalse(classes.contains(Object.class));
+        assertEquals(Arrays.asList("java.lang.String", "java.lang.Long"), loaded);
+
+        assertEquals(3, classes.size());
+        assertEquals(new HashSet<>(Arrays.asList(String.class, Integer.class, Long.class)), classes.parallelStream().collect(Collectors.toSet()));
+
+        classes.remove(String.class);
+        classes.add(Object.class);
+        assertEquals(Arrays.asList(Integer.class, Long.class, Object.class), new ArrayList<>(classes));
+
+        Set<Class<?>> arrays = forNames(Arrays.asList("java.lang.String[]", "[Ljava.lang.String;", "int"));
+        assertEquals(Arrays.asList(String[].class, int.class), new ArrayList<>(arrays));
+        assertEquals(2, arrays.size());
+
+        Iterator<Class<?>> iterator = arrays.iterator();
+        assertEquals(String[].class, iterator.next());
+        iterator.remove();
+        assertEquals(int.class, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertEquals(Collections.singleton(int.class), arrays);
+    }
+
+    @Test
+    public void forNameCached() {
+        List<String> loaded = new ArrayList<>();
+        ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            public Class<?> loadClass(String name) throws ClassNotFoundException {
+                loaded.add(name);
+                return super.loadClass(name);
+            }
+        };
+        List<String> loadedOnce = null;
+        for (int i = 0; i < 3; i++) {
+            assertEquals(String.class, forName("java.lang.String", classLoader));
+            assertEquals(null, forName("not.Exists", classLoader));
+            assertEquals(int.class, forName("int", classLoader));
+            assertEquals(String[][].class, forName("java.lang.String[][]", classLoader));
+            assertEquals(long[].class, forName("long[]", classLoader));
+            if (loadedOnce == null) loadedOnce = new ArrayList<>(loaded);
+        }
+        assertEquals(loadedOnce, loaded);
+        assertTrue(loaded.contains("not.Exists"));
+
+        loaded.clear();
+        ReflectionUtils.clearNotFoundTypes();
+        assertEquals(String.class, forName("java.lang.String", classLoader));
+        assertEquals(null, forName("not.Exists", classLoader));
+        assertEquals(Collections.singletonList("not.Exists"), loaded);
+
+        loaded.clear();
+        ReflectionUtils.clearTypeCache();
+        assertEquals(String.class, forName("java.lang.String", classLoader));
+        assertEquals(Collections.singletonList("java.lang.String"), loaded);
+
+        AtomicBoolean linkageError = new AtomicBoolean(true);
+        ClassLoader failingClassLoader = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            public Class<?> loadClass(String name) throws ClassNotFoundException {
+                if (linkageError.getAndSet(false)) throw new NoClassDefFoundError(name);
+                return super.loadClass(name);
+            }
+        };
+        assertEquals(null, forName("java.lang.Integer", failingClassLoader));
+        assertEquals(Integer.class, forName("java.lang.Integer", failingClassLoader));
+    }
+
+    @Test
+    public void getMemberFromDescriptor() throws Exception {
+        String c1 = TestModel.Usage.C1.class.getName();
+        Member method = Utils.getMemberFromDescriptor(c1 + ".method(java.lang.String)");
+        assertEquals(TestModel.Usage.C1.class.getDeclaredMethod("method", String.class), method);
+        assertTrue(method == Utils.getMemberFromDescriptor(c1 + ".method(java.lang.String)"));
+        assertEquals(TestModel.Usage.C1.class.getDeclaredConstructor(TestModel.Usage.C2.class),
+                Utils.getMemberFromDescriptor(c1 + ".<init>(" + TestModel.Usage.C2.class.getName() + ")"));
+        assertEquals(TestModel.Usage.C1.class.getDeclaredField("c2"), Utils.getMemberFromDescriptor(c1 + ".c2"));
+        assertEquals(Object.class.getDeclaredMethod("equals", Object.class), Utils.getMemberFromDescriptor(c1 + ".equals(java.lang.Object)"));
+        assertEquals(Arrays.class.getDeclaredMethod("fill", int[].class, int.class, int.class, int.class),
+                Utils.getMemberFromDescriptor("java.util.Arrays.fill(int[],int , int, int)"));
+
+        Runnable lambda = () -> {};
+        Method lambdaMethod = Arrays.stream(getClass().getDeclaredMethods()).filter(m -> m.getName().startsWith("lambda$") && m.getParameterCount() == 0).findFirst().get();
+        assertEquals(lambdaMethod, Utils.getMemberFromDescriptor(getClass().getName() + "." + lambdaMethod.getName() + "()"));
+
+        try {
+            Utils.getMemberFromDescriptor(c1 + ".method(int)");
+            fail();
+        } catch (ReflectionsException e) {
+            //expected
+        }
+    }
+
     @Test
     public void getAllTest() {
         assertThat(getAllSuperTypes(TestModel.C3.class, withAnnotation(TestModel.AI1.class)), are(TestModel.I1.class));
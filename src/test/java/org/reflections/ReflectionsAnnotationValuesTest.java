@@ -0,0 +1,61 @@
+package org.reflections;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.reflections.scanners.AnnotationValuesScanner;
+import org.reflections.scanners.FieldAnnotationsScanner;
+import org.reflections.scanners.MemberUsageScanner;
+import org.reflections.scanners.MethodAnnotationsScanner;
+import org.reflections.scanners.MethodParameterNamesScanner;
+import org.reflections.scanners.MethodParameterScanner;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.reflections.TestModel.AC2;
+import static org.reflections.TestModel.C2;
+import static org.reflections.TestModel.C3;
+
+/** runs {@link ReflectionsTest} with annotation instances matched by the scanned values */
+public class ReflectionsAnnotationValuesTest extends ReflectionsTest {
+
+    @BeforeClass
+    public static void init() {
+        reflections = new Reflections(new ConfigurationBuilder()
+                .setUrls(Collections.singletonList(ClasspathHelper.forClass(TestModel.class)))
+                .filterInputsBy(TEST_MODEL_FILTER)
+                .setScanners(
+                        new SubTypesScanner(false),
+                        new TypeAnnotationsScanner(),
+                        new FieldAnnotationsScanner(),
+                        new MethodAnnotationsScanner(),
+                        new MethodParameterScanner(),
+                        new MethodParameterNamesScanner(),
+                        new MemberUsageScanner(),
+                        new AnnotationValuesScanner()));
+    }
+
+    @Test
+    public void testAnnotationValues() {
+        assertTrue(reflections.getStore().get(AnnotationValuesScanner.class, AC2.class.getName()).contains(C2.class.getName()));
+        assertTrue(reflections.getStore().get(AnnotationValuesScanner.class, AC2.class.getName() + ".value()")
+                .contains(C3.class.getName() + AnnotationValuesScanner.VALUE_SEPARATOR + "\"ugh?!\""));
+
+        AC2 ac2 = new AC2() {
+            public String value() {
+                return "grr...";
+            }
+
+            public Class<? extends Annotation> annotationType() {
+                return AC2.class;
+            }
+        };
+        assertThat(reflections.getTypesAnnotatedWith(ac2, true), are(C2.class));
+    }
+}
@@ -0,0 +1,212 @@
+package org.reflections;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.reflections.scanners.FieldAnnotationsScanner;
+import org.reflections.scanners.MemberUsageScanner;
+import org.reflections.scanners.MethodAnnotationsScanner;
+import org.reflections.scanners.MethodParameterNamesScanner;
+import org.reflections.scanners.MethodParameterScanner;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.serializers.BinarySerializer;
+import org.reflections.serializers.JsonSerializer;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.reflections.TestModel.AC2;
+import static org.reflections.TestModel.AC3;
+import static org.reflections.TestModel.AI1;
+import static org.reflections.TestModel.C2;
+import static org.reflections.TestModel.C3;
+import static org.reflections.TestModel.C7;
+import static org.reflections.TestModel.I1;
+import static org.reflections.TestModel.I3;
+import static org.reflections.TestModel.MAI1;
+
+/** */
+public class ReflectionsCompactTest extends ReflectionsTest {
+
+    @BeforeClass
+    public static void init() {
+        reflections = new Reflections(new ConfigurationBuilder()
+                .setUrls(Collections.singletonList(ClasspathHelper.forClass(TestModel.class)))
+                .filterInputsBy(TEST_MODEL_FILTER)
+                .setCompactStore(true)
+                .setIndexMetaAnnotations(true)
+                .setScanners(
+                        new SubTypesScanner(false),
+                        new TypeAnnotationsScanner(),
+                        new FieldAnnotationsScanner(),
+                        new MethodAnnotationsScanner(),
+                        new MethodParameterScanner(),
+                        new MethodParameterNamesScanner(),
+                        new MemberUsageScanner()));
+    }
+
+    @Test
+    public void testSymbolTable() {
+        SymbolTable symbols = new SymbolTable();
+        String usage = "com.foo.Bar.method(java.lang.String, int) #12";
+        int id = symbols.id(usage);
+        assertEquals(id, symbols.id(usage));
+        assertEquals(usage, symbols.string(id));
+        assertEquals(-1, symbols.find("com.foo.Baz"));
+        assertEquals("com.foo.Bar", symbols.string(symbols.find("com.foo.Bar")));
+
+        String[] chars = new String[20000];
+        Arrays.fill(chars, "é");
+        String large = "com.foo." + String.join("", chars);
+        assertEquals(large, symbols.string(symbols.id(large)));
+        assertEquals(usage, symbols.string(id));
+
+        SymbolTable other = new SymbolTable();
+        int otherId = other.id("org.other.Type");
+        assertEquals("org.other.Type", other.string(otherId));
+        assertEquals(usage, symbols.string(id));
+        assertEquals("org.other.Type", other.string(otherId));
+    }
+
+    @Test
+    public void testSymbolTableConcurrently() throws Exception {
+        SymbolTable symbols = new SymbolTable();
+        List<String> strings = IntStream.range(0, 20000)
+                .mapToObj(i -> "com.foo" + i % 7 + ".Bar" + i % 100 + "$Inner.m" + i + "(java.lang.String, int) #" + i % 3)
+                .collect(Collectors.toList());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<int[]>> ids = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                ids.add(executor.submit(() -> strings.stream().mapToInt(symbols::id).toArray()));
+            }
+            int[] expected = ids.get(0).get();
+            for (Future<int[]> future : ids) {
+                assertArrayEquals(expected, future.get());
+            }
+            SymbolTable frozen = symbols.freeze();
+            for (int i = 0; i < strings.size(); i++) {
+                assertEquals(strings.get(i), symbols.string(expected[i]));
+                assertEquals(strings.get(i), frozen.string(expected[i]));
+                assertEquals(expected[i], frozen.find(strings.get(i)));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals("caf\u00e9.Cr\u00e8me$\u4e2d", symbols.string(symbols.id("caf\u00e9.Cr\u00e8me$\u4e2d")));
+    }
+
+    @Test
+    public void testCompactIndexRemove() {
+        CompactIndex index = new CompactIndex(new SymbolTable());
+        for (int i = 0; i < 1000; i++) {
+            index.add("key" + i, "value" + i);
+            index.add("key" + i, "other" + i);
+        }
+        List<Integer> removed = IntStream.range(0, 1000).filter(i -> i % 3 != 0).boxed().collect(Collectors.toList());
+        Collections.shuffle(removed, new Random(0));
+        for (int i : removed) {
+            assertTrue(index.remove("key" + i, "value" + i));
+            assertTrue(index.remove("key" + i, "other" + i));
+            assertFalse(index.remove("key" + i, "other" + i));
+        }
+        assertEquals(334, index.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i % 3 == 0 ? Arrays.asList("value" + i, "other" + i) : null, index.get("key" + i));
+        }
+    }
+
+    @Test
+    public void testMetaAnnotationGraph() {
+        MetaAnnotationGraph graph = reflections.getStore().getMetaAnnotationGraph();
+        assertNotNull(graph);
+        assertEquals(names(AI1.class), graph.getAnnotatedWith(MAI1.class.getName(), 1));
+        assertEquals(names(AI1.class, I1.class), graph.getAnnotatedWith(MAI1.class.getName(), 2));
+        assertEquals(names(C2.class, C3.class, I3.class, AC3.class), graph.getAnnotatedWith(AC2.class.getName(), 1));
+        assertEquals(names(C2.class, C3.class, I3.class, AC3.class, C7.class), graph.getAllAnnotatedWith(AC2.class.getName()));
+
+        assertEquals(names(Retention.class, AC2.class), graph.getMetaAnnotations(AC3.class.getName()));
+        assertEquals(names(Retention.class, MAI1.class, Inherited.class), graph.getAllMetaAnnotations(AI1.class.getName()));
+        assertEquals(names(AC3.class), graph.getMetaAnnotated(AC2.class.getName()));
+        assertEquals(0, graph.getDepth(AI1.class.getName(), AI1.class.getName()));
+        assertEquals(1, graph.getDepth(AI1.class.getName(), MAI1.class.getName()));
+        assertEquals(2, graph.getDepth(AI1.class.getName(), Inherited.class.getName()));
+        assertEquals(-1, graph.getDepth(AI1.class.getName(), AC2.class.getName()));
+    }
+
+    private static Set<String> names(Class<?>... types) {
+        return Arrays.stream(types).map(Class::getName).collect(Collectors.toSet());
+    }
+
+    @Test
+    public void testSameAsNotCompact() {
+        Store expected = new Reflections(new ConfigurationBuilder()
+                .setUrls(Collections.singletonList(ClasspathHelper.forClass(TestModel.class)))
+                .filterInputsBy(TEST_MODEL_FILTER)
+                .setScanners(
+                        new SubTypesScanner(false),
+                        new TypeAnnotationsScanner(),
+                        new FieldAnnotationsScanner(),
+                        new MethodAnnotationsScanner(),
+                        new MethodParameterScanner(),
+                        new MethodParameterNamesScanner(),
+                        new MemberUsageScanner())).getStore();
+
+        Store actual = reflections.getStore();
+        assertEquals(expected.keySet(), actual.keySet());
+        for (String index : expected.keySet()) {
+            assertEquals(expected.keys(index), actual.keys(index));
+            for (String key : expected.keys(index)) {
+                assertEquals(expected.get(index, key), actual.get(index, key));
+            }
+        }
+    }
+
+    @Test
+    public void testJsonSerializer() {
+        String json = new JsonSerializer().toString(reflections);
+        Store store = new JsonSerializer().read(new ByteArrayInputStream(json.getBytes())).getStore();
+        for (String index : reflections.getStore().keySet()) {
+            assertEquals(reflections.getStore().keys(index), store.keys(index));
+        }
+    }
+
+    @Test
+    public void testBinarySerializer() {
+        BinarySerializer serializer = new BinarySerializer();
+        File file = serializer.save(reflections, getUserDir() + "/target/test-classes/META-INF/reflections/testModel-reflections.bin");
+        Store expected = reflections.getStore();
+        for (Store actual : Arrays.asList(
+                serializer.read(file).getStore(),
+                serializer.read(new ByteArrayInputStream(serializer.toBytes(reflections))).getStore(),
+                new Reflections(new ConfigurationBuilder().setSerializer(serializer)).collect(file).getStore())) {
+            assertEquals(expected.keySet(), actual.keySet());
+            for (String index : expected.keySet()) {
+                assertEquals(expected.keys(index), actual.keys(index));
+                for (String key : expected.keys(index)) {
+                    assertEquals(expected.get(index, key), actual.get(index, key));
+                }
+            }
+        }
+    }
+}
@@ -6,7 +6,12 @@ import org.reflections.util.ClasspathHelper;
 import org.reflections.util.ConfigurationBuilder;
 import org.reflections.util.FilterBuilder;
 
+import java.net.URL;
+import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class ReflectionsExpandSupertypesTest {
 
@@ -51,4 +56,47 @@ public class ReflectionsExpandSupertypesTest {
         Set<Class<? extends TestModel.A>> subTypesOf1 = refDontExpand.getSubTypesOf(TestModel.A.class);
         Assert.assertFalse(subTypesOf1.contains(TestModel.B.class));
     }
+
+    @Test
+    public void testExpandSupertypesWithoutLoadingClasses() throws Exception {
+        final Set<String> loaded = ConcurrentHashMap.newKeySet();
+        ClassLoader recording = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+                loaded.add(name);
+                return super.loadClass(name, resolve);
+            }
+        };
+        Reflections refExpand = new Reflections(new ConfigurationBuilder().
+                setUrls(ClasspathHelper.forClass(TestModel.ScannedScope.C.class)).
+                filterInputsBy(inputsFilter).
+                setClassLoaders(new ClassLoader[]{recording}));
+        Set<String> subTypesOf = refExpand.getSubTypeNamesOf(TestModel.A.class.getName());
+        Assert.assertTrue("expanded", subTypesOf.contains(TestModel.B.class.getName()));
+        Assert.assertTrue("transitivity", subTypesOf.contains(TestModel.ScannedScope.C.class.getName()));
+        Assert.assertFalse("not loaded", loaded.contains(TestModel.B.class.getName()));
+        Assert.assertFalse("not loaded", loaded.contains(TestModel.A.class.getName()));
+    }
+
+    @Test
+    public void testExpandSupertypesUsingExecutorService() throws Exception {
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        final String resourceName = TestModel.B.class.getName().replace('.', '/') + ".class";
+        ClassLoader recording = new ClassLoader(getClass().getClassLoader()) {
+            @Override
+            public URL getResource(String name) {
+                if (name.equals(resourceName)) threads.add(Thread.currentThread().getName());
+                return super.getResource(name);
+            }
+        };
+        ExecutorService executorService = Executors.newFixedThreadPool(2, runnable -> new Thread(runnable, "expanding"));
+        Reflections refExpand = new Reflections(new ConfigurationBuilder().
+                setUrls(ClasspathHelper.forClass(TestModel.ScannedScope.C.class)).
+                filterInputsBy(inputsFilter).
+                setClassLoaders(new ClassLoader[]{recording}).
+                setExecutorService(executorService));
+        Assert.assertTrue("expanded", refExpand.getSubTypeNamesOf(TestModel.A.class.getName()).contains(TestModel.B.class.getName()));
+        Assert.assertEquals(Collections.singleton("expanding"), threads);
+        Assert.assertTrue(executorService.isShutdown());
+    }
 }
@@ -0,0 +1,162 @@
+package org.reflections;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.reflections.scanners.FieldAnnotationsScanner;
+import org.reflections.scanners.MemberUsageScanner;
+import org.reflections.scanners.MethodAnnotationsScanner;
+import org.reflections.scanners.MethodParameterNamesScanner;
+import org.reflections.scanners.MethodParameterScanner;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.reflections.util.Utils.index;
+
+/** */
+public class ReflectionsFrozenTest extends ReflectionsTest {
+
+    @BeforeClass
+    public static void init() {
+        reflections = new Reflections(configuration(false));
+    }
+
+    private static ConfigurationBuilder configuration(boolean compact) {
+        return new ConfigurationBuilder()
+                .setUrls(Collections.singletonList(ClasspathHelper.forClass(TestModel.class)))
+                .filterInputsBy(TEST_MODEL_FILTER)
+                .setCompactStore(compact)
+                .setFreezeStore(true)
+                .setIndexHierarchy(true)
+                .setIndexBitmaps(true)
+                .setScanners(
+                        new SubTypesScanner(false),
+                        new TypeAnnotationsScanner(),
+                        new FieldAnnotationsScanner(),
+                        new MethodAnnotationsScanner(),
+                        new MethodParameterScanner(),
+                        new MethodParameterNamesScanner(),
+                        new MemberUsageScanner());
+    }
+
+    @Test
+    public void testFrozenCompactSameAsNotFrozen() {
+        Store expected = new Reflections(configuration(false).setFreezeStore(false)).getStore();
+        Store actual = new Reflections(configuration(true)).getStore();
+        assertTrue(actual.isFrozen());
+
+        assertEquals(expected.keySet(), actual.keySet());
+        for (String index : expected.keySet()) {
+            assertEquals(expected.keys(index), actual.keys(index));
+            assertEquals(expected.values(index), actual.values(index));
+            for (String key : expected.keys(index)) {
+                assertEquals(expected.get(index, key), actual.get(index, key));
+            }
+        }
+    }
+
+    @Test
+    public void testPutThaws() {
+        for (boolean compact : new boolean[] {false, true}) {
+            Store store = new Reflections(configuration(compact)).getStore();
+            String index = SubTypesScanner.class.getSimpleName();
+            String key = TestModel.C1.class.getName();
+            int size = store.get(index, key).size();
+
+            store.put(index, key, "some.Type");
+            assertFalse(store.isFrozen());
+            assertEquals(size + 1, store.get(index, key).size());
+            assertTrue(store.get(index, key).contains("some.Type"));
+
+            store.freeze();
+            assertTrue(store.isFrozen());
+            assertTrue(store.get(index, key).contains("some.Type"));
+        }
+    }
+
+    @Test
+    public void testHierarchyIndex() {
+        Store store = new Reflections(configuration(false).setFreezeStore(false).setIndexHierarchy(false)).getStore();
+        HierarchyIndex hierarchy = reflections.getStore().getHierarchyIndex();
+        assertNotNull(hierarchy);
+
+        String index = SubTypesScanner.class.getSimpleName();
+        Set<String> types = new HashSet<>(store.keys(index));
+        types.addAll(store.values(index));
+        assertEquals(types.size(), hierarchy.size());
+        for (String type : types) {
+            assertEquals(store.getAll(SubTypesScanner.class, type), hierarchy.getAllSubTypes(type));
+            for (String superType : hierarchy.getAllSuperTypes(type)) {
+                assertTrue(hierarchy.getAllSubTypes(superType).contains(type));
+            }
+        }
+        assertEquals(Collections.singleton("not.Scanned"), hierarchy.getAllIncluding(Collections.singleton("not.Scanned")));
+    }
+
+    @Test
+    public void testHierarchyIndexDiamond() {
+        Map<String, Collection<String>> index = new HashMap<>();
+        index.put("A", Arrays.asList("B", "C"));
+        index.put("B", Collections.singletonList("D"));
+        index.put("C", Arrays.asList("D", "E"));
+        index.put("X", Collections.singletonList("C"));
+        HierarchyIndex hierarchy = HierarchyIndex.of(index);
+
+        assertEquals(new HashSet<>(Arrays.asList("B", "C", "D", "E")), hierarchy.getAllSubTypes("A"));
+        assertEquals(new HashSet<>(Arrays.asList("C", "D", "E")), hierarchy.getAllSubTypes("X"));
+        assertEquals(new HashSet<>(Arrays.asList("A", "B", "C", "X")), hierarchy.getAllSuperTypes("D"));
+        assertEquals(Collections.emptySet(), hierarchy.getAllSubTypes("E"));
+
+        index.put("D", Collections.singletonList("A"));
+        assertNull(HierarchyIndex.of(index));
+    }
+
+    @Test
+    public void testBitmapIndex() {
+        Store store = new Reflections(configuration(false).setFreezeStore(false).setIndexHierarchy(false).setIndexBitmaps(false)).getStore();
+        BitmapIndex bitmaps = reflections.getStore().getBitmapIndex();
+        assertNotNull(bitmaps);
+
+        for (String type : store.keys(index(SubTypesScanner.class))) {
+            Set<String> expected = store.getAllIncluding(SubTypesScanner.class, Collections.singleton(type));
+            assertEquals(expected, bitmaps.names(bitmaps.getAllIncluding(type)));
+        }
+        for (String annotation : store.keys(index(TypeAnnotationsScanner.class))) {
+            assertEquals(store.get(TypeAnnotationsScanner.class, annotation), bitmaps.names(bitmaps.getAnnotatedWith(annotation)));
+        }
+        Set<String> types = bitmaps.names(bitmaps.getInPackage(TestModel.class.getPackage().getName()));
+        assertTrue(types.contains(TestModel.C1.class.getName()));
+        assertFalse(types.contains(Object.class.getName()));
+
+        String c1 = TestModel.C1.class.getName(), i1 = TestModel.I1.class.getName();
+        assertEquals(Collections.singleton(c1), bitmaps.names(bitmaps.getAllIncluding(i1).and(bitmaps.getAnnotatedWith(TestModel.AC1.class.getName()))));
+        assertFalse(bitmaps.names(bitmaps.getAllIncluding(i1).andNot(bitmaps.getAllIncluding(c1))).contains(c1));
+
+        store = new Reflections(configuration(false)).getStore();
+        store.put(TypeAnnotationsScanner.class, TestModel.AC1.class.getName(), "some.Type");
+        assertNull(store.getBitmapIndex());
+    }
+
+    @Test
+    public void testPutInvalidatesHierarchyIndex() {
+        Store store = new Reflections(configuration(false)).getStore();
+        assertNotNull(store.getHierarchyIndex());
+        store.put(SubTypesScanner.class, TestModel.C1.class.getName(), "some.Type");
+        assertNull(store.getHierarchyIndex());
+        assertTrue(store.getAll(SubTypesScanner.class, TestModel.C1.class.getName()).contains("some.Type"));
+    }
+}
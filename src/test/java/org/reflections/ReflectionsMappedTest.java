@@ -0,0 +1,74 @@
+package org.reflections;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.reflections.scanners.FieldAnnotationsScanner;
+import org.reflections.scanners.MemberUsageScanner;
+import org.reflections.scanners.MethodAnnotationsScanner;
+import org.reflections.scanners.MethodParameterNamesScanner;
+import org.reflections.scanners.MethodParameterScanner;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.serializers.BinarySerializer;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.reflections.util.Utils.index;
+
+/** */
+public class ReflectionsMappedTest extends ReflectionsTest {
+    private static Store scanned;
+
+    @BeforeClass
+    public static void init() {
+        Reflections ref = new Reflections(new ConfigurationBuilder()
+                .setUrls(Collections.singletonList(ClasspathHelper.forClass(TestModel.class)))
+                .filterInputsBy(TEST_MODEL_FILTER)
+                .setScanners(
+                        new SubTypesScanner(false),
+                        new TypeAnnotationsScanner(),
+                        new FieldAnnotationsScanner(),
+                        new MethodAnnotationsScanner(),
+                        new MethodParameterScanner(),
+                        new MethodParameterNamesScanner(),
+                        new MemberUsageScanner()));
+        scanned = ref.getStore();
+
+        BinarySerializer serializer = new BinarySerializer();
+        File file = serializer.save(ref, getUserDir() + "/target/test-classes/META-INF/reflections/testModel-mapped.bin");
+        reflections = serializer.map(file);
+    }
+
+    @Test
+    public void testMappedStore() {
+        Store mapped = reflections.getStore();
+        assertTrue(mapped.isFrozen());
+        assertEquals(scanned.keySet(), mapped.keySet());
+        for (String index : scanned.keySet()) {
+            assertEquals(scanned.keys(index), mapped.keys(index));
+            for (String key : scanned.keys(index)) {
+                assertEquals(scanned.get(index, key), mapped.get(index, key));
+            }
+            assertTrue(mapped.get(index, "org.reflections.TestModel$Missing").isEmpty());
+            assertTrue(mapped.get(index, "").isEmpty());
+            assertTrue(mapped.get(index, "\uffff").isEmpty());
+        }
+    }
+
+    @Test
+    public void testPutThaws() {
+        Store store = new BinarySerializer().map(new File(getUserDir() + "/target/test-classes/META-INF/reflections/testModel-mapped.bin")).getStore();
+        String index = index(SubTypesScanner.class);
+        assertTrue(store.put(index, TestModel.C1.class.getName(), "org.reflections.TestModel$Added"));
+        assertFalse(store.isFrozen());
+        assertEquals(new HashSet<>(scanned.keys(index)), store.keys(index));
+        assertTrue(store.get(index, TestModel.C1.class.getName()).contains("org.reflections.TestModel$Added"));
+    }
+}
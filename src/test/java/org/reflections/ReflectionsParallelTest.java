@@ -1,6 +1,8 @@
 package org.reflections;
 
 import org.junit.BeforeClass;
+import org.junit.Test;
+import org.reflections.scanners.AbstractScanner;
 import org.reflections.scanners.FieldAnnotationsScanner;
 import org.reflections.scanners.MemberUsageScanner;
 import org.reflections.scanners.MethodAnnotationsScanner;
@@ -10,8 +12,22 @@ import org.reflections.scanners.SubTypesScanner;
 import org.reflections.scanners.TypeAnnotationsScanner;
 import org.reflections.util.ClasspathHelper;
 import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.ScanMetrics;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 
 /** */
 public class ReflectionsParallelTest extends ReflectionsTest {
@@ -31,4 +47,49 @@ public class ReflectionsParallelTest extends ReflectionsTest {
                         new MemberUsageScanner())
                 .useParallelExecutor());
     }
+
+    @Test
+    public void testScanMetrics() {
+        List<ScanMetrics> scanMetrics = reflections.getScanMetrics();
+        assertEquals(1, scanMetrics.size());
+
+        ScanMetrics metrics = scanMetrics.get(0);
+        assertEquals(ClasspathHelper.forClass(TestModel.class), metrics.getUrl());
+        assertTrue(metrics.getEstimatedFiles() > 0);
+        assertEquals(metrics.getEstimatedFiles(), metrics.getScannedFiles());
+    }
+
+    @Test
+    public void testSingleJarSplitAcrossThreads() throws InterruptedException {
+        for (ExecutorService executorService : Arrays.asList(new ForkJoinPool(2), Executors.newFixedThreadPool(2))) {
+            BlockingScanner scanner = new BlockingScanner();
+            new Reflections(new ConfigurationBuilder()
+                    .setUrls(ClasspathHelper.forClass(Test.class))
+                    .setScanners(scanner)
+                    .setExpandSuperTypes(false)
+                    .setExecutorService(executorService));
+            assertTrue(executorService.awaitTermination(10, TimeUnit.SECONDS));
+            assertEquals(2, scanner.threads.size());
+        }
+    }
+
+    /** a scanner which blocks on the first file scanned until another thread scans a file, or for 10 seconds */
+    private static class BlockingScanner extends AbstractScanner {
+        private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        private final AtomicBoolean first = new AtomicBoolean(true);
+        private final CountDownLatch scannedByOtherThread = new CountDownLatch(1);
+
+        public void scan(Object cls, Store store) {
+            threads.add(Thread.currentThread());
+            if (first.getAndSet(false)) {
+                try {
+                    scannedByOtherThread.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            } else if (threads.size() > 1) {
+                scannedByOtherThread.countDown();
+            }
+        }
+    }
 }
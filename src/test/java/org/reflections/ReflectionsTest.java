@@ -16,9 +16,14 @@ import org.reflections.scanners.TypeAnnotationsScanner;
 import org.reflections.util.ClasspathHelper;
 import org.reflections.util.ConfigurationBuilder;
 import org.reflections.util.FilterBuilder;
+import org.reflections.util.Utils;
 
 import java.io.File;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -34,6 +39,7 @@ import java.util.stream.Collectors;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.reflections.TestModel.AC1;
 import static org.reflections.TestModel.AC1n;
@@ -89,6 +95,76 @@ public class ReflectionsTest {
                 reflections.getAllTypes().isEmpty());
     }
 
+    @Test
+    public void testNameQueries() {
+        assertEquals(reflections.getSubTypesOf(I1.class).stream().map(Class::getName).collect(Collectors.toSet()), reflections.getSubTypeNamesOf(I1.class.getName()));
+        assertEquals(reflections.getTypesAnnotatedWith(MAI1.class).stream().map(Class::getName).collect(Collectors.toSet()), reflections.getTypeNamesAnnotatedWith(MAI1.class.getName()));
+
+        assertEquals(reflections.getMethodsAnnotatedWith(AM1.class).stream().map(Utils::name).collect(Collectors.toSet()),
+                reflections.getMethodNamesAnnotatedWith(AM1.class.getName()));
+        assertEquals(reflections.getConstructorsAnnotatedWith(AM1.class).stream().map(Utils::name).collect(Collectors.toSet()),
+                reflections.getConstructorNamesAnnotatedWith(AM1.class.getName()));
+        assertEquals(reflections.getFieldsAnnotatedWith(AF1.class).stream().map(Utils::name).collect(Collectors.toSet()),
+                reflections.getFieldNamesAnnotatedWith(AF1.class.getName()));
+        assertEquals(reflections.getMethodsMatchParams(String.class).stream().map(Utils::name).collect(Collectors.toSet()),
+                reflections.getMethodNamesMatchParams(String.class.getName()));
+        assertEquals(reflections.getConstructorsMatchParams(String.class).stream().map(Utils::name).collect(Collectors.toSet()),
+                reflections.getConstructorNamesMatchParams(String.class.getName()));
+        assertEquals(reflections.getMethodsReturn(int.class).stream().map(Utils::name).collect(Collectors.toSet()),
+                reflections.getMethodNamesReturn("int"));
+        assertEquals(reflections.getMethodsWithAnyParamAnnotated(AM1.class).stream().map(Utils::name).collect(Collectors.toSet()),
+                reflections.getMethodNamesWithAnyParamAnnotated(AM1.class.getName()));
+        assertEquals(reflections.getConstructorsWithAnyParamAnnotated(AM1.class).stream().map(Utils::name).collect(Collectors.toSet()),
+                reflections.getConstructorNamesWithAnyParamAnnotated(AM1.class.getName()));
+    }
+
+    @Test
+    public void testNameQueriesMembers() throws NoSuchMethodException, NoSuchFieldException {
+        Method method = C4.class.getDeclaredMethod("m1", int.class, String[].class);
+        assertEquals(reflections.getMethodParamNames(method), reflections.getParamNames(Utils.name(method)));
+
+        Field field = C4.class.getDeclaredField("f1");
+        Set<String> usages = reflections.getMemberUsageNames(Utils.name(field));
+        assertEquals(reflections.getFieldUsage(field).stream().map(ReflectionsTest::name).collect(Collectors.toSet()), usages);
+    }
+
+    private static String name(Member member) {
+        return member instanceof Method ? Utils.name((Method) member) :
+                member instanceof Constructor ? Utils.name((Constructor) member) : Utils.name((Field) member);
+    }
+
+    @Test
+    public void testSubTypeQueries() {
+        assertTrue(reflections.isSubType(C5.class.getName(), I1.class.getName()));
+        assertTrue(reflections.isSubType(C2.class.getName(), C2.class.getName()));
+        assertFalse(reflections.isSubType(C1.class.getName(), C2.class.getName()));
+        assertFalse(reflections.isSubType(C4.class.getName(), I1.class.getName()));
+
+        assertTrue(reflections.getDirectSuperTypes(C1.class.getName()).contains(I2.class.getName()));
+        assertFalse(reflections.getDirectSuperTypes(C1.class.getName()).contains(I1.class.getName()));
+        assertEquals(Collections.singleton(C3.class.getName()), reflections.getDirectSuperTypes(C5.class.getName()));
+
+        Set<String> common = reflections.getCommonSuperTypes(C2.class.getName(), C5.class.getName());
+        assertTrue(common.containsAll(Arrays.asList(C1.class.getName(), I2.class.getName(), I1.class.getName())));
+        assertFalse(common.contains(C3.class.getName()));
+        assertTrue(reflections.getCommonSuperTypes(C3.class.getName(), C5.class.getName()).contains(C3.class.getName()));
+    }
+
+    @Test
+    public void testTypeQuery() {
+        assertThat(reflections.query().subTypeOf(I1.class).annotatedWith(AC2.class).classes(), are(C2.class, C3.class, C5.class));
+        assertThat(reflections.query().annotatedWith(AC2.class).subTypeOf(I1.class).classes(), are(C2.class, C3.class, C5.class));
+        assertThat(reflections.query().annotatedWith(AC2.class).subTypeOf(I3.class).classes(), are(C6.class));
+        assertThat(reflections.query().withMemberAnnotated(AM1.class).classes(), are(C4.class));
+        assertThat(reflections.query().withMemberAnnotated(AF1.class).subTypeOf(I1.class).classes(), are());
+
+        Set<String> subTypes = reflections.getSubTypeNamesOf(I1.class.getName());
+        assertEquals(subTypes, reflections.query().subTypeOf(I1.class).inPackage("org.reflections").names());
+        assertEquals(subTypes, reflections.query().subTypeOf(I1.class).fromUrl(ClasspathHelper.forClass(TestModel.class)).names());
+        assertTrue(reflections.query().subTypeOf(I1.class).inPackage("org.reflections.util").names().isEmpty());
+        assertEquals(reflections.getAllTypes(), reflections.query().names());
+    }
+
     @Test
     public void testTypesAnnotatedWith() {
         assertThat(reflections.getTypesAnnotatedWith(MAI1.class, true), are(AI1.class));
@@ -0,0 +1,64 @@
+package org.reflections;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.reflections.scanners.FieldAnnotationsScanner;
+import org.reflections.scanners.MemberUsageScanner;
+import org.reflections.scanners.MethodAnnotationsScanner;
+import org.reflections.scanners.MethodParameterNamesScanner;
+import org.reflections.scanners.MethodParameterScanner;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.scanners.TypeModifiersScanner;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.Utils;
+
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.reflections.TestModel.AI1;
+import static org.reflections.TestModel.C1;
+import static org.reflections.TestModel.C2;
+import static org.reflections.TestModel.C3;
+import static org.reflections.TestModel.C5;
+import static org.reflections.TestModel.I1;
+import static org.reflections.TestModel.I2;
+
+/** runs {@link ReflectionsTest} with the type modifiers scanned */
+public class ReflectionsTypeModifiersTest extends ReflectionsTest {
+
+    @BeforeClass
+    public static void init() {
+        reflections = new Reflections(new ConfigurationBuilder()
+                .setUrls(Collections.singletonList(ClasspathHelper.forClass(TestModel.class)))
+                .filterInputsBy(TEST_MODEL_FILTER)
+                .setScanners(
+                        new SubTypesScanner(false),
+                        new TypeAnnotationsScanner(),
+                        new FieldAnnotationsScanner(),
+                        new MethodAnnotationsScanner(),
+                        new MethodParameterScanner(),
+                        new MethodParameterNamesScanner(),
+                        new MemberUsageScanner(),
+                        new TypeModifiersScanner()));
+    }
+
+    @Test
+    public void testTypeModifiers() {
+        assertEquals(Modifier.INTERFACE | Modifier.ABSTRACT, reflections.getTypeModifiers(I1.class.getName()) & ~Modifier.PUBLIC);
+        assertTrue((reflections.getTypeModifiers(AI1.class.getName()) & TypeModifiersScanner.ANNOTATION) != 0);
+        assertEquals(0, reflections.getTypeModifiers(C1.class.getName()) & (Modifier.INTERFACE | Modifier.ABSTRACT));
+        assertEquals(-1, reflections.getTypeModifiers("no.such.Type"));
+
+        Set<String> subTypes = reflections.getSubTypeNamesOf(I1.class.getName());
+        assertEquals(new HashSet<>(Arrays.asList(C1.class.getName(), C2.class.getName(), C3.class.getName(), C5.class.getName())),
+                Utils.filter(subTypes, reflections.withoutTypeModifiers(Modifier.INTERFACE | Modifier.ABSTRACT)));
+        assertEquals(Collections.singleton(I2.class.getName()), Utils.filter(subTypes, reflections.withTypeModifiers(Modifier.INTERFACE)));
+    }
+}
@@ -0,0 +1,110 @@
+package org.reflections;
+
+import org.reflections.scanners.MethodAnnotationsScanner;
+import org.reflections.scanners.SubTypesScanner;
+import org.reflections.scanners.TypeAnnotationsScanner;
+import org.reflections.scanners.TypeModifiersScanner;
+import org.reflections.serializers.BinarySerializer;
+import org.reflections.serializers.JsonSerializer;
+import org.reflections.serializers.Serializer;
+import org.reflections.serializers.XmlSerializer;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.util.ConfigurationBuilder;
+import org.reflections.util.Utils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * compares the size, save time and read time of the xml, json and binary serializers on the same store,
+ * and the time to map a binary file and look up keys in place, to reading it and looking up keys in the store.
+ * scans the java class path and prints a line per serializer, averaged over the given number of rounds, 10 by default.
+ * <pre>
+ * java -cp target/classes:target/test-classes:... org.reflections.SerializerBenchmark [rounds]
+ * </pre>
+ */
+public class SerializerBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        int rounds = args.length > 0 ? Integer.parseInt(args[0]) : 10;
+        Reflections reflections = new Reflections(new ConfigurationBuilder()
+                .setUrls(ClasspathHelper.forJavaClassPath())
+                .setScanners(new SubTypesScanner(), new TypeAnnotationsScanner(), new MethodAnnotationsScanner(), new TypeModifiersScanner()));
+        int entries = 0;
+        for (String index : reflections.getStore().keySet()) {
+            for (String key : reflections.getStore().keys(index)) {
+                entries += reflections.getStore().get(index, key).size();
+            }
+        }
+        System.out.printf("store: %d indices, %d entries%n", reflections.getStore().keySet().size(), entries);
+
+        File directory = new File(System.getProperty("java.io.tmpdir"), "reflections-serializer-benchmark");
+        List<Serializer> serializers = Arrays.asList(new XmlSerializer(), new JsonSerializer(), new BinarySerializer());
+        for (Serializer serializer : serializers) {
+            String name = serializer.getClass().getSimpleName();
+            String filename = new File(directory, name).getPath();
+            File file = serializer.save(reflections, filename); //warm up
+            read(serializer, file);
+
+            long save = 0, read = 0;
+            for (int i = 0; i < rounds; i++) {
+                long start = System.nanoTime();
+                serializer.save(reflections, filename);
+                save += System.nanoTime() - start;
+                start = System.nanoTime();
+                read(serializer, file);
+                read += System.nanoTime() - start;
+            }
+            System.out.printf("%-18s %,12d bytes, save %,8.1f ms, read %,8.1f ms%n",
+                    name, file.length(), save / 1e6 / rounds, read / 1e6 / rounds);
+            if (serializer instanceof BinarySerializer) {
+                map(reflections, (BinarySerializer) serializer, file, rounds);
+            }
+            //noinspection ResultOfMethodCallIgnored
+            file.delete();
+        }
+    }
+
+    /** compares mapping the file and looking up every sub types key to reading it and looking up the same keys */
+    private static void map(Reflections reflections, BinarySerializer serializer, File file, int rounds) {
+        String index = Utils.index(SubTypesScanner.class);
+        List<String> keys = new ArrayList<>(reflections.getStore().keys(index));
+        Collections.shuffle(keys, new Random(0));
+        long map = 0, read = 0, mappedLookup = 0, readLookup = 0;
+        for (int i = 0; i <= rounds; i++) {
+            long start = System.nanoTime();
+            Store mapped = serializer.map(file).getStore();
+            long mapTime = System.nanoTime() - start;
+            start = System.nanoTime();
+            Store store = serializer.read(file).getStore();
+            long readTime = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (String key : keys) mapped.get(index, key);
+            long mappedLookupTime = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (String key : keys) store.get(index, key);
+            long readLookupTime = System.nanoTime() - start;
+            if (i > 0) { //warm up
+                map += mapTime;
+                read += readTime;
+                mappedLookup += mappedLookupTime;
+                readLookup += readLookupTime;
+            }
+        }
+        System.out.printf("%-18s open: map %,8.3f ms, read %,8.1f ms; %,d sub types lookups: mapped %,8.1f ms, read %,8.1f ms%n",
+                "", map / 1e6 / rounds, read / 1e6 / rounds, keys.size(), mappedLookup / 1e6 / rounds, readLookup / 1e6 / rounds);
+    }
+
+    private static void read(Serializer serializer, File file) throws IOException {
+        try (InputStream inputStream = new FileInputStream(file)) {
+            serializer.read(inputStream);
+        }
+    }
+}
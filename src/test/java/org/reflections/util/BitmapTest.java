@@ -0,0 +1,84 @@
+package org.reflections.util;
+
+import org.junit.Test;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class BitmapTest {
+    @Test
+    public void testSetAlgebra() {
+        Random random = new Random(1);
+        for (int round = 0; round < 50; round++) {
+            TreeSet<Integer> a = randomSet(random), b = randomSet(random);
+            Bitmap bitmapA = bitmap(a), bitmapB = bitmap(b);
+            assertArrayEquals(toArray(a), bitmapA.toArray());
+            assertEquals(a.size(), bitmapA.cardinality());
+
+            TreeSet<Integer> and = new TreeSet<>(a);
+            and.retainAll(b);
+            TreeSet<Integer> or = new TreeSet<>(a);
+            or.addAll(b);
+            TreeSet<Integer> andNot = new TreeSet<>(a);
+            andNot.removeAll(b);
+            assertArrayEquals(toArray(and), bitmapA.and(bitmapB).toArray());
+            assertArrayEquals(toArray(or), bitmapA.or(bitmapB).toArray());
+            assertArrayEquals(toArray(andNot), bitmapA.andNot(bitmapB).toArray());
+
+            for (int i = 0; i < 100; i++) {
+                int value = random.nextInt(200000);
+                assertEquals(a.contains(value), bitmapA.contains(value));
+            }
+        }
+    }
+
+    @Test
+    public void testRanges() {
+        Bitmap bitmap = Bitmap.ofRanges(3, 5, 65530, 65540, 200000, 200000);
+        assertArrayEquals(new int[] {3, 4, 5, 65530, 65531, 65532, 65533, 65534, 65535, 65536, 65537, 65538, 65539, 65540, 200000}, bitmap.toArray());
+        assertEquals(bitmap, Bitmap.of(bitmap.toArray()));
+        assertEquals(bitmap, new Bitmap.Builder().addRange(3, 5).addRange(65530, 65540).add(200000).build());
+
+        Bitmap range = Bitmap.ofRange(0, 1000000);
+        assertEquals(1000001, range.cardinality());
+        assertTrue(range.getMemoryBytes() < 100);
+        assertFalse(range.andNot(Bitmap.of(500000)).contains(500000));
+        assertEquals(1000000, range.andNot(Bitmap.of(500000)).cardinality());
+        assertTrue(range.andNot(range).isEmpty());
+    }
+
+    private static TreeSet<Integer> randomSet(Random random) {
+        TreeSet<Integer> set = new TreeSet<>();
+        int chunks = random.nextInt(4);
+        for (int i = 0; i < chunks; i++) {
+            int base = random.nextInt(3) << 16;
+            switch (random.nextInt(3)) {
+                case 0: //sparse
+                    for (int j = random.nextInt(100); j > 0; j--) set.add(base + random.nextInt(65536));
+                    break;
+                case 1: //dense
+                    for (int j = 10000 + random.nextInt(30000); j > 0; j--) set.add(base + random.nextInt(65536));
+                    break;
+                default: //runs
+                    for (int j = random.nextInt(10); j > 0; j--) {
+                        int first = random.nextInt(65536), last = Math.min(65535, first + random.nextInt(5000));
+                        for (int value = first; value <= last; value++) set.add(base + value);
+                    }
+            }
+        }
+        return set;
+    }
+
+    private static Bitmap bitmap(TreeSet<Integer> set) {
+        return Bitmap.of(toArray(set));
+    }
+
+    private static int[] toArray(TreeSet<Integer> set) {
+        return set.stream().mapToInt(Integer::intValue).toArray();
+    }
+}